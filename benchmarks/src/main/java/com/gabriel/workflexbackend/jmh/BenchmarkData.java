@@ -0,0 +1,57 @@
+package com.gabriel.workflexbackend.jmh;
+
+import com.gabriel.workflexbackend.datagen.SyntheticWorkationGenerator;
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic inputs shared by the benchmarks, so runs on different builds measure the same data.
+ */
+final class BenchmarkData {
+
+    private static final String[] COUNTRIES = {"Germany", "Spain", "France", "Portugal", "India", "United States",
+            "Greece", "Italy", "Poland", "Austria", "Brazil", "Japan", "Mexico", "Canada", "Ireland", "Sweden"};
+
+    private BenchmarkData() {
+    }
+
+    // Same generator as the application's scale profile: realistic countries, durations and risk levels
+    static String csv(int rows, int employees) {
+        StringWriter csv = new StringWriter(rows * 80);
+        try {
+            new SyntheticWorkationGenerator(42, employees, rows).writeCsv(csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return csv.toString();
+    }
+
+    static List<WorkationResponseDTO> workations(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        RiskEnum[] risks = RiskEnum.values();
+        List<WorkationResponseDTO> workations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000));
+            int days = 1 + random.nextInt(30);
+            WorkationResponseDTO dto = new WorkationResponseDTO();
+            dto.setId((long) i + 1);
+            dto.setEmployee("Employee " + random.nextInt(1000));
+            dto.setOrigin(COUNTRIES[random.nextInt(COUNTRIES.length)]);
+            dto.setDestination(COUNTRIES[random.nextInt(COUNTRIES.length)]);
+            dto.setStart(start);
+            dto.setEnd(start.plusDays(days));
+            dto.setWorkingDays((long) (days * 5 / 7));
+            dto.setRisk(risks[random.nextInt(risks.length)]);
+            workations.add(dto);
+        }
+        return workations;
+    }
+}
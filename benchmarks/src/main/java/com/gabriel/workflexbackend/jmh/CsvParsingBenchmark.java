@@ -0,0 +1,62 @@
+package com.gabriel.workflexbackend.jmh;
+
+import com.gabriel.workflexbackend.importer.CsvLineTokenizer;
+import com.gabriel.workflexbackend.importer.WorkationCsvReader;
+import com.gabriel.workflexbackend.importer.WorkationCsvRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV parsing as done by the bulk importer, {@code DataInitializer} and upload jobs: one line through the
+ * tokenizer and record parser, and a whole file through {@link WorkationCsvReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvParsingBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private String file;
+    private String line;
+    private final String[] fields = new String[WorkationCsvRecord.COLUMN_COUNT];
+
+    @Setup
+    public void setUp() {
+        file = BenchmarkData.csv(rows, Math.max(1, rows / 50));
+        line = file.substring(file.indexOf('\n') + 1, file.indexOf('\n', file.indexOf('\n') + 1));
+    }
+
+    @Benchmark
+    public WorkationCsvRecord parseLine() {
+        int fieldCount = CsvLineTokenizer.tokenize(line, fields);
+        return WorkationCsvRecord.parse(2, line, fields, fieldCount);
+    }
+
+    // Reported per file; divide by rows for the per-line cost including I/O buffering
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void readFile(Blackhole blackhole) throws IOException {
+        WorkationCsvReader.read(new StringReader(file), blackhole::consume, (lineNumber, rejectedLine, reason) -> {
+            throw new IllegalStateException("Generated line rejected: " + reason);
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.gabriel.workflexbackend.jmh;
+
+import com.gabriel.workflexbackend.WorkFlexBackendApplication;
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository queries behind the read endpoints, against an embedded H2 seeded through the bulk importer.
+ * The application context starts without a web server and without the sample data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private WorkationRepository workationRepository;
+    private EmployeeRepository employeeRepository;
+    private long[] ids;
+    private int employees;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(WorkFlexBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1", "logging.level.root=WARN")
+                .run();
+        workationRepository = context.getBean(WorkationRepository.class);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        employees = Math.max(1, rows / 50);
+        context.getBean(WorkationBulkImporter.class).importCsv(new StringReader(BenchmarkData.csv(rows, employees)),
+                (lineNumber, line, reason) -> {
+                    throw new IllegalStateException("Generated line rejected: " + reason);
+                });
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("analyze");
+        ids = jdbcTemplate.queryForList("select id from workation order by id", Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Optional<Workation> findWithEmployeeById() {
+        next = (next + 7919) % ids.length;
+        return workationRepository.findWithEmployeeById(ids[next]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Optional<Employee> findEmployeeByName() {
+        next = (next + 7919) % employees;
+        return employeeRepository.findByName("Employee " + next);
+    }
+
+    @Benchmark
+    public List<Workation> findFirstPage() {
+        return workationRepository.findFirstPage(Limit.of(50));
+    }
+
+    @Benchmark
+    public List<WorkationInterval> findIntervalsOfOneYear() {
+        return workationRepository.findIntervalsBetween(LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 12, 31, 23, 59, 59));
+    }
+
+    @Benchmark
+    public List<Workation> findAllWithEmployee() {
+        return workationRepository.findAllWithEmployee();
+    }
+}
@@ -0,0 +1,54 @@
+package com.gabriel.workflexbackend.jmh;
+
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.mapper.WorkationMapper;
+import com.gabriel.workflexbackend.mapper.WorkationMapperImpl;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion done for every workation read and written through the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkationMapperBenchmark {
+
+    private final WorkationMapper mapper = new WorkationMapperImpl();
+    private Workation workation;
+    private WorkationResponseDTO workationDTO;
+
+    @Setup
+    public void setUp() {
+        workation = new Workation(42L, new Employee(7L, "Steffen Jacobs"), "Germany", "Spain",
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 14, 0, 0), 10, RiskEnum.LOW);
+        workationDTO = BenchmarkData.workations(1).get(0);
+    }
+
+    @Benchmark
+    public WorkationResponseDTO toDTO() {
+        return mapper.toDTO(workation);
+    }
+
+    @Benchmark
+    public Workation toEntity() {
+        return mapper.toEntity(workationDTO);
+    }
+}
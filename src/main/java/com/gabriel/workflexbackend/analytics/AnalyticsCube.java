@@ -0,0 +1,279 @@
+package com.gabriel.workflexbackend.analytics;
+
+import com.gabriel.workflexbackend.index.WorkationChangedEvent;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Pre-aggregated totals per employee, destination, risk and month: trips started, days abroad and
+ * working days. Trips spanning several months are split by calendar day; their working days are
+ * spread over the months pro rata so every month's share adds up to the stored total.
+ * <p>
+ * Each write's {@link WorkationChangedEvent} carries the row before and after it, so the cube subtracts
+ * the old contribution and adds the new one once that transaction commits, and never shows a write
+ * that rolled back. The cube is built at startup, and again after bulk changes, by aggregating slices
+ * of the table in parallel on the fork/join pool and merging the partial cubes. A write that commits
+ * while a build is reading the table marks the result stale, so the next query rebuilds it.
+ */
+@Slf4j
+@Component
+public class AnalyticsCube {
+
+    private record CellKey(Long employeeId, String destination, RiskEnum risk, Integer year, YearMonth month) {
+    }
+
+    private static final class Cell {
+        long trips;
+        long days;
+        long workingDays;
+
+        void add(long trips, long days, long workingDays) {
+            this.trips += trips;
+            this.days += days;
+            this.workingDays += workingDays;
+        }
+
+        boolean isEmpty() {
+            return trips == 0 && days == 0 && workingDays == 0;
+        }
+    }
+
+    private final WorkationRepository workationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int sliceSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One build at a time; held across the table read, so not a monitor that would pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicLong changes = new AtomicLong();
+
+    private Map<CellKey, Cell> cells = new HashMap<>();
+    private volatile boolean stale = true;
+
+    public AnalyticsCube(WorkationRepository workationRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${workflex.analytics.build-slice-size:20000}") int sliceSize) {
+        this.workationRepository = workationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.sliceSize = sliceSize;
+    }
+
+    /**
+     * Totals for the months {@code from} to {@code to}, grouped by the given dimensions.
+     */
+    public List<CubeRow> rollup(YearMonth from, YearMonth to, Set<CubeDimension> groupBy) {
+        ensureLoaded();
+        boolean byMonth = groupBy.contains(CubeDimension.MONTH);
+        boolean byYear = byMonth || groupBy.contains(CubeDimension.YEAR);
+        Map<CellKey, Cell> groups = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            cells.forEach((key, cell) -> {
+                if (key.month().isBefore(from) || key.month().isAfter(to)) {
+                    return;
+                }
+                CellKey group = new CellKey(
+                        groupBy.contains(CubeDimension.EMPLOYEE) ? key.employeeId() : null,
+                        groupBy.contains(CubeDimension.DESTINATION) ? key.destination() : null,
+                        groupBy.contains(CubeDimension.RISK) ? key.risk() : null,
+                        byYear ? key.year() : null,
+                        byMonth ? key.month() : null);
+                groups.computeIfAbsent(group, k -> new Cell()).add(cell.trips, cell.days, cell.workingDays);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<CubeRow> rows = new ArrayList<>(groups.size());
+        groups.forEach((key, cell) -> rows.add(new CubeRow(key.employeeId(), key.destination(), key.risk(), key.year(),
+                key.month(), cell.trips, cell.days, cell.workingDays)));
+        rows.sort(Comparator.comparing(CubeRow::year, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(CubeRow::month, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(CubeRow::destination, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(CubeRow::risk, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(CubeRow::employeeId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return rows;
+    }
+
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return cells.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureLoaded();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationChanged(WorkationChangedEvent event) {
+        changes.incrementAndGet();
+        if (stale) {
+            return; // the coming rebuild reads the committed change from the database
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.previous() != null) {
+                contribute(cells, event.previous(), -1);
+            }
+            if (event.interval() != null) {
+                contribute(cells, event.interval(), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationsReloaded(WorkationsReloadedEvent event) {
+        invalidate();
+    }
+
+    private void ensureLoaded() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        rebuildLock.lock();
+        try {
+            if (!stale) {
+                return;
+            }
+            // Cleared first so an invalidation that lands mid-rebuild triggers another one
+            stale = false;
+            long changesBefore = changes.get();
+            try {
+                long startedAt = System.nanoTime();
+                List<WorkationInterval> rows = readOnlyTransaction.execute(status -> {
+                    try (Stream<WorkationInterval> intervals = workationRepository.streamIntervals()) {
+                        return intervals.toList();
+                    }
+                });
+                Map<CellKey, Cell> built = ForkJoinPool.commonPool().invoke(new BuildTask(rows, 0, rows.size(), sliceSize));
+                lock.writeLock().lock();
+                try {
+                    cells = built;
+                    if (changes.get() != changesBefore) {
+                        stale = true;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Rebuilt analytics cube: {} workations into {} cells in {} ms", rows.size(), built.size(),
+                        (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (RuntimeException e) {
+                stale = true;
+                throw e;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Adds (sign 1) or removes (sign -1) one workation's totals, month by month
+    private static void contribute(Map<CellKey, Cell> cells, WorkationInterval interval, int sign) {
+        if (interval.employeeId() == null || interval.start() == null || interval.end() == null) {
+            return;
+        }
+        LocalDate start = interval.start().toLocalDate();
+        LocalDate end = interval.end().toLocalDate();
+        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
+        if (totalDays <= 0) {
+            return;
+        }
+        long workingDays = interval.workingDays() == null ? 0 : interval.workingDays();
+        long daysBefore = 0;
+        YearMonth last = YearMonth.from(end);
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(last); month = month.plusMonths(1)) {
+            LocalDate from = start.isAfter(month.atDay(1)) ? start : month.atDay(1);
+            LocalDate to = end.isBefore(month.atEndOfMonth()) ? end : month.atEndOfMonth();
+            long days = ChronoUnit.DAYS.between(from, to) + 1;
+            // Cumulative shares rounded down, so the months add up to exactly the stored working days
+            long monthWorkingDays = workingDays * (daysBefore + days) / totalDays - workingDays * daysBefore / totalDays;
+            daysBefore += days;
+
+            CellKey key = new CellKey(interval.employeeId(), interval.destination(), interval.risk(), month.getYear(), month);
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+            cell.add(from.equals(start) ? sign : 0, sign * days, sign * monthWorkingDays);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static final class BuildTask extends RecursiveTask<Map<CellKey, Cell>> {
+
+        private final List<WorkationInterval> rows;
+        private final int from;
+        private final int to;
+        private final int sliceSize;
+
+        BuildTask(List<WorkationInterval> rows, int from, int to, int sliceSize) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.sliceSize = sliceSize;
+        }
+
+        @Override
+        protected Map<CellKey, Cell> compute() {
+            if (to - from <= sliceSize) {
+                Map<CellKey, Cell> cells = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    contribute(cells, rows.get(i), 1);
+                }
+                return cells;
+            }
+            int middle = (from + to) >>> 1;
+            BuildTask left = new BuildTask(rows, from, middle, sliceSize);
+            left.fork();
+            Map<CellKey, Cell> right = new BuildTask(rows, middle, to, sliceSize).compute();
+            Map<CellKey, Cell> merged = left.join();
+            // Merge the smaller partial cube into the larger one
+            Map<CellKey, Cell> into = merged.size() >= right.size() ? merged : right;
+            Map<CellKey, Cell> other = into == merged ? right : merged;
+            other.forEach((key, cell) -> into.merge(key, cell, (a, b) -> {
+                a.add(b.trips, b.days, b.workingDays);
+                return a;
+            }));
+            return into;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.gabriel.workflexbackend.analytics;
+
+import java.util.Locale;
+
+public enum CubeDimension {
+    EMPLOYEE,
+    DESTINATION,
+    RISK,
+    YEAR,
+    MONTH;
+
+    public static CubeDimension fromParameter(String dimension) {
+        try {
+            return CubeDimension.valueOf(dimension.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unsupported analytics dimension: " + dimension);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.gabriel.workflexbackend.analytics;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.time.YearMonth;
+
+/**
+ * Totals for one group of a roll-up. Dimensions that were not grouped by are null; {@code year} is also
+ * set when grouping by month.
+ */
+public record CubeRow(Long employeeId, String destination, RiskEnum risk, Integer year, YearMonth month,
+                      long trips, long days, long workingDays) {
+}
@@ -0,0 +1,66 @@
+package com.gabriel.workflexbackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Background executors. With {@code spring.threads.virtual.enabled=true} their workers are virtual threads,
+ * but they keep their sizes and queues: the sizes bound how many pooled connections background work takes,
+ * which matters more than the thread count.
+ */
+@Configuration
+public class AsyncConfig {
+
+    // Runs the database writers of CSV import jobs. Nothing is queued: the upload is parsed while it arrives, so a
+    // job waiting for a writer would hold its request open; with every writer busy it is refused instead
+    @Bean
+    public ThreadPoolTaskExecutor importTaskExecutor(@Value("${workflex.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                                     Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(0);
+        threads(executor, "import-", environment);
+        executor.initialize();
+        return executor;
+    }
+
+    // Runs risk re-scoring chunks; bounded well below the connection pool so API requests still get connections
+    @Bean
+    public ThreadPoolTaskExecutor riskRescoreExecutor(@Value("${workflex.risk.rescore-parallelism:4}") int parallelism,
+                                                      Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        threads(executor, "risk-rescore-", environment);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs streaming exports, in both threading modes. The executors above make Boot back off from its own
+     * {@code applicationTaskExecutor}, and Spring MVC would then fall back to an unbounded executor; this one
+     * caps the exports holding a connection at {@code spring.task.execution.simple.concurrency-limit}, which
+     * is always set here. The builder gives it virtual threads in virtual-thread mode.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(SimpleAsyncTaskExecutorBuilder builder,
+                                                           @Value("${spring.task.execution.simple.concurrency-limit:4}") int concurrencyLimit) {
+        return builder.threadNamePrefix("mvc-async-").concurrencyLimit(concurrencyLimit).build();
+    }
+
+    private static void threads(ThreadPoolTaskExecutor executor, String prefix, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(Thread.ofVirtual().name(prefix, 1).factory());
+        } else {
+            executor.setThreadNamePrefix(prefix);
+        }
+    }
+}
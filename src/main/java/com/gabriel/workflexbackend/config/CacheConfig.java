@@ -0,0 +1,30 @@
+package com.gabriel.workflexbackend.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String WORKATIONS = "workations";
+    public static final String EMPLOYEES = "employees";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${workflex.cache.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        cacheManager.setCacheNames(List.of(WORKATIONS, EMPLOYEES));
+        cacheManager.setAllowNullValues(false);
+        // Defer puts and evictions made inside a transaction until it commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
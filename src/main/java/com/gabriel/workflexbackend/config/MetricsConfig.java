@@ -0,0 +1,59 @@
+package com.gabriel.workflexbackend.config;
+
+import com.gabriel.workflexbackend.metrics.SlowQueryDataSource;
+import com.gabriel.workflexbackend.metrics.SlowQueryMonitor;
+import com.gabriel.workflexbackend.metrics.StatementCountFilter;
+import com.gabriel.workflexbackend.metrics.StatementCounter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Metrics beyond what Actuator records on its own (HTTP requests, Hikari pool, caches, JVM). Timers and
+ * summaries keep only count, total and max unless percentiles are configured for them, so recording
+ * stays a few atomic updates per call.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Times every method of classes annotated with @Timed, such as WorkationService and EmployeeService
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(new StatementCountFilter(meterRegistry));
+        registration.addUrlPatterns("/workflex/*");
+        return registration;
+    }
+
+    // Static, so that registering the post-processor doesn't create this configuration early
+    @Bean
+    @ConditionalOnProperty(name = "workflex.slow-query.enabled", matchIfMissing = true)
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryMonitor> monitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)
+                        ? new SlowQueryDataSource(dataSource, monitor.getObject())
+                        : bean;
+            }
+        };
+    }
+}
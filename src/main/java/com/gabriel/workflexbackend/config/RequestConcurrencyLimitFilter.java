@@ -0,0 +1,87 @@
+package com.gabriel.workflexbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission limit for virtual-thread mode, where Tomcat no longer caps concurrent requests at its worker
+ * pool size and every accepted connection gets a thread of its own.
+ * <p>
+ * Requests beyond the limit wait here, in arrival order, instead of piling up on the connection pool and
+ * failing with a connection timeout. A request holds at most one connection at a time: employees created
+ * along with a workation are inserted in the request's own transaction, never a nested one. So the limit
+ * is the pool size times the share of concurrent requests expected to be served from caches and in-memory
+ * indexes without a connection. At {@code requests-per-connection=1} no admitted request ever waits for
+ * the pool, apart from connections taken by background work (imports, re-scoring, exports); above that,
+ * a burst of cache misses waits in the pool for up to its connection timeout. A request still waiting
+ * here after the admission timeout gets a 503.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long admissionTimeoutMillis;
+    private final ObjectMapper objectMapper;
+
+    public RequestConcurrencyLimitFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                         @Value("${workflex.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+                                         @Value("${workflex.virtual-threads.admission-timeout-ms:5000}") long admissionTimeoutMillis,
+                                         ObjectMapper objectMapper) {
+        if (connectionPoolSize < 1 || requestsPerConnection < 1) {
+            throw new IllegalArgumentException("Connection pool size and requests per connection must be positive");
+        }
+        this.maxConcurrentRequests = connectionPoolSize * requestsPerConnection;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.admissionTimeoutMillis = admissionTimeoutMillis;
+        this.objectMapper = objectMapper;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(admissionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("error", "Server is busy, try again later"));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Streaming exports release here once they go async; their executor bounds them from then on
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.AbroadResponseDTO;
+import com.gabriel.workflexbackend.service.AbroadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/workflex/abroad")
+@RequiredArgsConstructor
+public class AbroadController {
+
+    private final AbroadService abroadService;
+
+    // Who is abroad on one day
+    @GetMapping(params = "date")
+    public ResponseEntity<List<AbroadResponseDTO>> getAbroadOn(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(abroadService.getAbroad(date, date));
+    }
+
+    // Who is abroad on at least one day of a range, e.g. a week
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity<List<AbroadResponseDTO>> getAbroadBetween(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(abroadService.getAbroad(from, to));
+    }
+
+    @GetMapping(value = "/count", params = {"from", "to"})
+    public ResponseEntity<Integer> countAbroad(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(abroadService.countAbroad(from, to));
+    }
+}
@@ -0,0 +1,47 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.CacheStatsResponseDTO;
+import com.gabriel.workflexbackend.dto.response.SlowQueryResponseDTO;
+import com.gabriel.workflexbackend.dto.response.SqlStatsResponseDTO;
+import com.gabriel.workflexbackend.metrics.SlowQueryMonitor;
+import com.gabriel.workflexbackend.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/workflex/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final CacheStatsService cacheStatsService;
+    private final SlowQueryMonitor slowQueryMonitor;
+
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponseDTO>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+
+    @GetMapping("/queries")
+    public ResponseEntity<List<SqlStatsResponseDTO>> getQueryStats() {
+        return ResponseEntity.ok(slowQueryMonitor.getStats());
+    }
+
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<SlowQueryResponseDTO>> getSlowQueries() {
+        return ResponseEntity.ok(slowQueryMonitor.getSlowest());
+    }
+
+    @DeleteMapping("/queries")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void resetQueryStats() {
+        slowQueryMonitor.reset();
+    }
+}
@@ -0,0 +1,28 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.AnalyticsRowResponseDTO;
+import com.gabriel.workflexbackend.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/workflex/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    // e.g. ?from=2024-01&to=2024-12&groupBy=destination,risk,month or ?from=2024-01&to=2024-12&groupBy=employee,year
+    @GetMapping
+    public ResponseEntity<List<AnalyticsRowResponseDTO>> getTotals(
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(name = "groupBy", defaultValue = "") List<String> groupBy) {
+        return ResponseEntity.ok(analyticsService.getTotals(from, to, groupBy));
+    }
+}
@@ -1,5 +1,6 @@
 package com.gabriel.workflexbackend.controller;
 
+import com.gabriel.workflexbackend.dto.response.DeleteResultResponseDTO;
 import com.gabriel.workflexbackend.model.Employee;
 import com.gabriel.workflexbackend.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
@@ -38,9 +39,9 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.updateEmployee(id, employee));
     }
 
+    // Answers with the number of the employee's workations deleted along with them
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteEmployee(@PathVariable("id") Long id) {
-        employeeService.deleteEmployee(id);
+    public ResponseEntity<DeleteResultResponseDTO> deleteEmployee(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(new DeleteResultResponseDTO(employeeService.deleteEmployee(id)));
     }
 }
\ No newline at end of file
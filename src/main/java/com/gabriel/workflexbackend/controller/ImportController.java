@@ -0,0 +1,52 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.ImportJobResponseDTO;
+import com.gabriel.workflexbackend.importer.ImportJob;
+import com.gabriel.workflexbackend.importer.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/workflex/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final ImportJobService importJobService;
+
+    // Accepts a CSV in the static/workations.csv layout and imports it in the background
+    @PostMapping(value = "/workations", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportJobResponseDTO> importWorkations(InputStream body) throws IOException {
+        ImportJob job = importJobService.submit(body);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/workflex/import/jobs/" + job.getId()))
+                .body(ImportJobResponseDTO.from(job));
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImportJobResponseDTO> getImportJob(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(ImportJobResponseDTO.from(importJobService.getJob(id)));
+    }
+
+    @GetMapping("/jobs/{id}/rejected")
+    public ResponseEntity<Resource> getRejectedRows(@PathVariable("id") UUID id) {
+        ImportJob job = importJobService.getJob(id);
+        if (!job.isFinished()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=rejected-" + id + ".csv")
+                .body(new FileSystemResource(job.getRejectedReport()));
+    }
+}
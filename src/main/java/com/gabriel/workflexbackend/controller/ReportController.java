@@ -0,0 +1,31 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.report.ComplianceReportService;
+import com.gabriel.workflexbackend.report.ReportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/workflex/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ComplianceReportService complianceReportService;
+
+    @GetMapping("/compliance/{year}")
+    public ResponseEntity<StreamingResponseBody> getComplianceReport(
+            @PathVariable("year") int year,
+            @RequestParam(name = "format", defaultValue = "json") String format) {
+        ReportFormat reportFormat = ReportFormat.fromParameter(format);
+        ComplianceReportService.requireSupportedYear(year);
+        StreamingResponseBody body = out -> complianceReportService.write(year, reportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(reportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=compliance-" + year + "." + reportFormat.getExtension())
+                .body(body);
+    }
+}
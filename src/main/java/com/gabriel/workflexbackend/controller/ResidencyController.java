@@ -0,0 +1,26 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.ResidencyResponseDTO;
+import com.gabriel.workflexbackend.service.ResidencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/workflex/residency")
+@RequiredArgsConstructor
+public class ResidencyController {
+
+    private final ResidencyService residencyService;
+
+    // The rolling window ends today unless asOf is given, e.g. to check planned trips
+    @GetMapping
+    public ResponseEntity<List<ResidencyResponseDTO>> getExposures(
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return ResponseEntity.ok(residencyService.getExposures(asOf != null ? asOf : LocalDate.now()));
+    }
+}
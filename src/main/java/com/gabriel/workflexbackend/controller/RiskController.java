@@ -0,0 +1,46 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.RescoreJobResponseDTO;
+import com.gabriel.workflexbackend.risk.RescoreJob;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.risk.RiskRescoringService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/workflex/risk")
+@RequiredArgsConstructor
+public class RiskController {
+
+    private final RiskEngine riskEngine;
+    private final RiskRescoringService riskRescoringService;
+
+    // Re-reads the rule files and re-scores every workation against them in the background
+    @PostMapping("/rules/reload")
+    public ResponseEntity<RescoreJobResponseDTO> reloadRules() {
+        riskEngine.reload();
+        return accepted(riskRescoringService.start());
+    }
+
+    @PostMapping("/rescore")
+    public ResponseEntity<RescoreJobResponseDTO> rescore() {
+        return accepted(riskRescoringService.start());
+    }
+
+    @GetMapping("/rescore")
+    public ResponseEntity<RescoreJobResponseDTO> getRescoreJob() {
+        return riskRescoringService.getCurrentJob()
+                .map(job -> ResponseEntity.ok(RescoreJobResponseDTO.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<RescoreJobResponseDTO> accepted(RescoreJob job) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/workflex/risk/rescore"))
+                .body(RescoreJobResponseDTO.from(job));
+    }
+}
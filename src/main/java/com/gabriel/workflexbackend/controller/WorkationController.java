@@ -1,12 +1,28 @@
 package com.gabriel.workflexbackend.controller;
 
+import com.gabriel.workflexbackend.dto.response.CursorPageResponseDTO;
+import com.gabriel.workflexbackend.dto.response.DeleteResultResponseDTO;
+import com.gabriel.workflexbackend.dto.response.OverlapConflictResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchRequestDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchResponseDTO;
 import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.service.ExportFormat;
+import com.gabriel.workflexbackend.service.WorkationBatchService;
+import com.gabriel.workflexbackend.service.WorkationExportService;
+import com.gabriel.workflexbackend.service.WorkationGroupCommitWriter;
+import com.gabriel.workflexbackend.service.WorkationSearchCriteria;
 import com.gabriel.workflexbackend.service.WorkationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,12 +31,52 @@ import java.util.List;
 public class WorkationController {
 
     private final WorkationService workationService;
+    private final WorkationExportService workationExportService;
+    private final WorkationBatchService workationBatchService;
+    private final WorkationGroupCommitWriter groupCommitWriter;
 
     @GetMapping
     public ResponseEntity<List<WorkationResponseDTO>> getAllWorkations() {
         return ResponseEntity.ok(workationService.getAllWorkations());
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponseDTO<WorkationResponseDTO>> getWorkationPage(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit") int limit) {
+        return ResponseEntity.ok(workationService.getWorkationPage(after, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDTO<WorkationResponseDTO>> searchWorkations(
+            @RequestParam(name = "employee", required = false) String employee,
+            @RequestParam(name = "origin", required = false) String origin,
+            @RequestParam(name = "destination", required = false) String destination,
+            @RequestParam(name = "risk", required = false) RiskEnum risk,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        WorkationSearchCriteria criteria = new WorkationSearchCriteria(employee, origin, destination, risk, from, to);
+        return ResponseEntity.ok(workationService.searchWorkations(criteria, after, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkations(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        StreamingResponseBody body = out -> workationExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=workations." + exportFormat.getExtension())
+                .body(body);
+    }
+
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<OverlapConflictResponseDTO>> getOverlapConflicts() {
+        return ResponseEntity.ok(workationService.getOverlapConflicts());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<WorkationResponseDTO> getWorkationById(@PathVariable("id") Long id) {
         return ResponseEntity.ok(workationService.getWorkationById(id));
@@ -29,8 +85,17 @@ public class WorkationController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseEntity<WorkationResponseDTO> createWorkation(@RequestBody WorkationResponseDTO workationDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(workationService.createWorkation(workationDTO));
+        // With group commit on, concurrent creates share transactions; the response still carries the committed id
+        WorkationResponseDTO created = groupCommitWriter.isEnabled()
+                ? groupCommitWriter.create(workationDTO)
+                : workationService.createWorkation(workationDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    // Creates, updates and deletes many workations at once; the response has one result per item
+    @PostMapping("/batch")
+    public ResponseEntity<WorkationBatchResponseDTO> applyBatch(@RequestBody WorkationBatchRequestDTO batch) {
+        return ResponseEntity.ok(workationBatchService.apply(batch));
     }
 
     @PutMapping("/{id}")
@@ -43,4 +108,16 @@ public class WorkationController {
     public void deleteWorkation(@PathVariable("id") Long id) {
         workationService.deleteWorkation(id);
     }
+
+    // Retention cleanup: removes every workation that ended before the given date
+    @DeleteMapping(params = "endedBefore")
+    public ResponseEntity<DeleteResultResponseDTO> deleteWorkationsEndedBefore(
+            @RequestParam(name = "endedBefore") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endedBefore) {
+        return ResponseEntity.ok(new DeleteResultResponseDTO(workationService.deleteWorkationsEndedBefore(endedBefore)));
+    }
+
+    @DeleteMapping(params = "employeeId")
+    public ResponseEntity<DeleteResultResponseDTO> deleteWorkationsOfEmployee(@RequestParam(name = "employeeId") Long employeeId) {
+        return ResponseEntity.ok(new DeleteResultResponseDTO(workationService.deleteWorkationsOfEmployee(employeeId)));
+    }
 }
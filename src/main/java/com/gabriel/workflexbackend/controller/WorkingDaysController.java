@@ -0,0 +1,35 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.RecalculationResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkingDaysResponseDTO;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysRecalculationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/workflex/working-days")
+@RequiredArgsConstructor
+public class WorkingDaysController {
+
+    private final WorkingDaysCalculator workingDaysCalculator;
+    private final WorkingDaysRecalculationService workingDaysRecalculationService;
+
+    @GetMapping
+    public ResponseEntity<WorkingDaysResponseDTO> getWorkingDays(
+            @RequestParam("country") String country,
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        int workingDays = workingDaysCalculator.countWorkingDays(country, start, end);
+        return ResponseEntity.ok(new WorkingDaysResponseDTO(country, start, end, workingDays));
+    }
+
+    @PostMapping("/recalculate")
+    public ResponseEntity<RecalculationResponseDTO> recalculateAll() {
+        return ResponseEntity.ok(workingDaysRecalculationService.recalculateAll());
+    }
+}
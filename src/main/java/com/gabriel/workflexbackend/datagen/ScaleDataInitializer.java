@@ -0,0 +1,60 @@
+package com.gabriel.workflexbackend.datagen;
+
+import com.gabriel.workflexbackend.importer.ImportResult;
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a synthetic data set of realistic size at startup in the {@code scale} profile, in place of the
+ * sample data, through the bulk CSV import. Sizes and seed are set in {@code application-scale.properties}.
+ */
+@Slf4j
+@Component
+@Profile("scale")
+public class ScaleDataInitializer implements CommandLineRunner {
+
+    private final WorkationRepository workationRepository;
+    private final EmployeeRepository employeeRepository;
+    private final WorkationBulkImporter workationBulkImporter;
+    private final SyntheticWorkationGenerator generator;
+
+    public ScaleDataInitializer(WorkationRepository workationRepository,
+                                EmployeeRepository employeeRepository,
+                                WorkationBulkImporter workationBulkImporter,
+                                @Value("${workflex.scale.seed:42}") long seed,
+                                @Value("${workflex.scale.employees:100000}") int employees,
+                                @Value("${workflex.scale.workations:1000000}") long workations) {
+        this.workationRepository = workationRepository;
+        this.employeeRepository = employeeRepository;
+        this.workationBulkImporter = workationBulkImporter;
+        this.generator = new SyntheticWorkationGenerator(seed, employees, workations);
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Generating {} workations for {} employees...", generator.getWorkations(), generator.getEmployees());
+
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+
+        AtomicLong rejected = new AtomicLong();
+        try (Reader reader = generator.csvReader()) {
+            ImportResult result = workationBulkImporter.importCsv(reader, (lineNumber, line, reason) -> {
+                if (rejected.incrementAndGet() <= 10) {
+                    log.warn("Failed to import generated line {}: {} - {}", lineNumber, line, reason);
+                }
+            });
+            log.info("Scale data loaded: {} workations in {} ms ({} rows/s), rejected: {}", result.inserted(),
+                    result.elapsedNanos() / 1_000_000, Math.round(result.rowsPerSecond()), result.rejected());
+        }
+    }
+}
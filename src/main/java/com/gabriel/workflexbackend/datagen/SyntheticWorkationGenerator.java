@@ -0,0 +1,209 @@
+package com.gabriel.workflexbackend.datagen;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.service.WorkationExportService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic workations in the {@code static/workations.csv} layout, for loading the database
+ * at realistic volume: the same seed and sizes always produce the same file.
+ * <p>
+ * Each employee ("Employee 0", "Employee 1", ...) has a home country, mostly Germany, that every trip starts
+ * from. Trips follow each other without overlapping, separated by gaps of 45 days on average; they last a
+ * week typically, log-normally distributed up to half a year. Destinations are weighted towards southern
+ * Europe. Trips leaving Europe or lasting longer than two months are more often high risk.
+ * <p>
+ * Every employee's trips come from their own random stream, so rows are generated one employee at a time
+ * without holding the whole data set: {@link #csvReader()} streams straight into
+ * {@code WorkationBulkImporter.importCsv}.
+ */
+public class SyntheticWorkationGenerator {
+
+    public static final LocalDate DEFAULT_FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    private static final String[] HOME_COUNTRIES = {"Germany", "Austria", "Netherlands", "Belgium", "France", "Spain",
+            "Poland", "United Kingdom"};
+    private static final int[] HOME_WEIGHTS = {70, 8, 6, 4, 4, 3, 3, 2};
+    private static final int HOME_TOTAL = sum(HOME_WEIGHTS);
+
+    private static final String[] DESTINATIONS = {"Spain", "Portugal", "Italy", "France", "Greece", "Croatia",
+            "Netherlands", "Austria", "United Kingdom", "Poland", "Germany", "United States", "India", "Thailand",
+            "Mexico", "Brazil", "Canada", "Japan", "South Africa", "Australia"};
+    private static final int[] DESTINATION_WEIGHTS = {18, 12, 10, 9, 8, 4, 4, 4, 4, 3, 3, 5, 3, 3, 2, 2, 2, 2, 1, 1};
+    private static final int DESTINATION_TOTAL = sum(DESTINATION_WEIGHTS);
+    // Destinations from this index on are outside Europe
+    private static final int FIRST_OUTSIDE_EUROPE = 11;
+
+    private static final double MEDIAN_DAYS = 7;
+    private static final double DURATION_SIGMA = 0.8;
+    private static final int MAX_DAYS = 180;
+    private static final double MEAN_GAP_DAYS = 45;
+    private static final int MAX_FIRST_TRIP_OFFSET_DAYS = 180;
+
+    private final long seed;
+    private final int employees;
+    private final long workations;
+    private final LocalDate firstDay;
+
+    public SyntheticWorkationGenerator(long seed, int employees, long workations, LocalDate firstDay) {
+        if (employees <= 0) {
+            throw new IllegalArgumentException("Employees must be positive: " + employees);
+        }
+        if (workations < 0) {
+            throw new IllegalArgumentException("Workations must not be negative: " + workations);
+        }
+        this.seed = seed;
+        this.employees = employees;
+        this.workations = workations;
+        this.firstDay = firstDay;
+    }
+
+    public SyntheticWorkationGenerator(long seed, int employees, long workations) {
+        this(seed, employees, workations, DEFAULT_FIRST_DAY);
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public long getWorkations() {
+        return workations;
+    }
+
+    public void writeCsv(Writer out) throws IOException {
+        StringBuilder rows = new StringBuilder(64 * 1024);
+        rows.append(WorkationExportService.CSV_HEADER).append('\n');
+        for (int employee = 0; employee < employees; employee++) {
+            appendEmployee(employee, rows);
+            if (rows.length() >= 60 * 1024) {
+                out.append(rows);
+                rows.setLength(0);
+            }
+        }
+        out.append(rows);
+        out.flush();
+    }
+
+    /**
+     * The CSV, header first, generated as it is read.
+     */
+    public Reader csvReader() {
+        return new Reader() {
+
+            private final StringBuilder buffer = new StringBuilder(WorkationExportService.CSV_HEADER).append('\n');
+            private int position;
+            private int nextEmployee;
+
+            @Override
+            public int read(char[] target, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                while (position == buffer.length()) {
+                    if (nextEmployee == employees) {
+                        return -1;
+                    }
+                    buffer.setLength(0);
+                    position = 0;
+                    appendEmployee(nextEmployee++, buffer);
+                }
+                int count = Math.min(length, buffer.length() - position);
+                buffer.getChars(position, position + count, target, offset);
+                position += count;
+                return count;
+            }
+
+            @Override
+            public void close() {
+                nextEmployee = employees;
+                position = buffer.length();
+            }
+        };
+    }
+
+    // The first workations % employees employees get one trip more, so the total is exact
+    long tripsOf(int employee) {
+        return workations / employees + (employee < workations % employees ? 1 : 0);
+    }
+
+    void appendEmployee(int employee, StringBuilder out) {
+        long trips = tripsOf(employee);
+        if (trips == 0) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + employee);
+        String name = "Employee " + employee;
+        String home = HOME_COUNTRIES[pick(random, HOME_WEIGHTS, HOME_TOTAL)];
+        LocalDate start = firstDay.plusDays(random.nextInt(MAX_FIRST_TRIP_OFFSET_DAYS));
+
+        for (long trip = 0; trip < trips; trip++) {
+            int destinationIndex = pick(random, DESTINATION_WEIGHTS, DESTINATION_TOTAL);
+            while (DESTINATIONS[destinationIndex].equals(home)) {
+                destinationIndex = pick(random, DESTINATION_WEIGHTS, DESTINATION_TOTAL);
+            }
+            int days = duration(random);
+            LocalDate end = start.plusDays(days - 1);
+            RiskEnum risk = risk(random, destinationIndex >= FIRST_OUTSIDE_EUROPE, days);
+
+            out.append('w').append(employee).append('-').append(trip).append(',')
+                    .append(name).append(',').append(home).append(',').append(DESTINATIONS[destinationIndex]).append(',')
+                    .append(start).append(',').append(end).append(',')
+                    .append(weekdays(start, days)).append(',').append(risk.name()).append('\n');
+
+            start = end.plusDays(1 + Math.round(-MEAN_GAP_DAYS * Math.log(1 - random.nextDouble())));
+        }
+    }
+
+    private static int duration(SplittableRandom random) {
+        double days = Math.exp(Math.log(MEDIAN_DAYS) + DURATION_SIGMA * random.nextGaussian());
+        return (int) Math.max(1, Math.min(MAX_DAYS, Math.round(days)));
+    }
+
+    private static RiskEnum risk(SplittableRandom random, boolean outsideEurope, int days) {
+        int roll = random.nextInt(100);
+        int high = (outsideEurope ? 35 : 5) + (days > 60 ? 40 : 0);
+        int low = outsideEurope ? 40 : 30;
+        if (roll < high) {
+            return RiskEnum.HIGH;
+        }
+        return roll < high + low ? RiskEnum.LOW : RiskEnum.NO;
+    }
+
+    private static int pick(SplittableRandom random, int[] weights, int total) {
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static int sum(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+
+    // Monday to Friday in [start, start + days)
+    static int weekdays(LocalDate start, int days) {
+        int weekdays = days / 7 * 5;
+        DayOfWeek day = start.getDayOfWeek();
+        for (int i = 0; i < days % 7; i++) {
+            if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
+                weekdays++;
+            }
+            day = day.plus(1);
+        }
+        return weekdays;
+    }
+}
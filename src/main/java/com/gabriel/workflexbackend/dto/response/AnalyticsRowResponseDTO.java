@@ -0,0 +1,34 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL) // dimensions that were rolled up are left out
+public class AnalyticsRowResponseDTO {
+
+    private String employee;
+
+    private String destination;
+
+    private RiskEnum risk;
+
+    private Integer year;
+
+    @JsonFormat(pattern = "yyyy-MM", shape = JsonFormat.Shape.STRING)
+    private YearMonth month;
+
+    private long trips;
+
+    private long days;
+
+    private long workingDays;
+}
@@ -0,0 +1,21 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponseDTO {
+
+    private String name;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    private long size;
+}
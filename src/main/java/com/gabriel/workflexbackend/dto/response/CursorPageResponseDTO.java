@@ -0,0 +1,20 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+
+    private List<T> items;
+
+    // Opaque cursor to pass as 'after' for the next page, null when this is the last page
+    private String nextCursor;
+
+    private boolean hasNext;
+}
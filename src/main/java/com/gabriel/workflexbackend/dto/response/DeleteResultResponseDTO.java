@@ -0,0 +1,13 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteResultResponseDTO {
+
+    private int deleted;
+}
@@ -0,0 +1,37 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import com.gabriel.workflexbackend.importer.ImportJob;
+import com.gabriel.workflexbackend.importer.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponseDTO {
+
+    private UUID id;
+
+    private ImportJobStatus status;
+
+    private long parsed;
+
+    private long inserted;
+
+    private long rejected;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String error;
+
+    public static ImportJobResponseDTO from(ImportJob job) {
+        return new ImportJobResponseDTO(job.getId(), job.getStatus(), job.getParsed().get(), job.getInserted().get(),
+                job.getRejected().get(), job.getStartedAt(), job.getFinishedAt(), job.getError());
+    }
+}
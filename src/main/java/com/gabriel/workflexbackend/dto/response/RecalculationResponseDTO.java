@@ -0,0 +1,18 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecalculationResponseDTO {
+
+    private long scanned;
+
+    private long updated;
+
+    // Rows edited between the read and the write, left as that edit wrote them
+    private long skipped;
+}
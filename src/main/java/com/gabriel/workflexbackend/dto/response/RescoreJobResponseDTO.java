@@ -0,0 +1,44 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import com.gabriel.workflexbackend.risk.RescoreJob;
+import com.gabriel.workflexbackend.risk.RescoreJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoreJobResponseDTO {
+
+    private UUID id;
+
+    private RescoreJobStatus status;
+
+    private long rulesVersion;
+
+    private long scanned;
+
+    private long updated;
+
+    private long skipped;
+
+    private long chunksDone;
+
+    private long chunksTotal;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String error;
+
+    public static RescoreJobResponseDTO from(RescoreJob job) {
+        return new RescoreJobResponseDTO(job.getId(), job.getStatus(), job.getRulesVersion(), job.getScanned().get(),
+                job.getUpdated().get(), job.getSkipped().get(), job.getChunksDone().get(), job.getChunksTotal(), job.getStartedAt(),
+                job.getFinishedAt(), job.getError());
+    }
+}
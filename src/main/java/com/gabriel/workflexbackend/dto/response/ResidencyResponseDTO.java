@@ -0,0 +1,31 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gabriel.workflexbackend.index.ResidencyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResidencyResponseDTO {
+
+    private String employee;
+
+    private String destination;
+
+    private int days;
+
+    private int thresholdDays;
+
+    private ResidencyStatus status;
+
+    @JsonFormat(pattern = "dd/MM/yyyy", shape = JsonFormat.Shape.STRING)
+    private LocalDate windowStart;
+
+    @JsonFormat(pattern = "dd/MM/yyyy", shape = JsonFormat.Shape.STRING)
+    private LocalDate windowEnd;
+}
@@ -0,0 +1,26 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQueryResponseDTO {
+
+    private String fingerprint;
+
+    private String sql;
+
+    private List<String> parameters;
+
+    private double elapsedMillis;
+
+    private String caller;
+
+    private Instant capturedAt;
+}
@@ -0,0 +1,23 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatsResponseDTO {
+
+    private String fingerprint;
+
+    private long count;
+
+    private long slowCount;
+
+    private double totalMillis;
+
+    private double meanMillis;
+
+    private double maxMillis;
+}
@@ -0,0 +1,29 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gabriel.workflexbackend.service.BatchItemStatus;
+import com.gabriel.workflexbackend.service.BatchOperation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkationBatchItemResponseDTO {
+
+    private BatchOperation operation;
+
+    // Position of the item in its request array
+    private int index;
+
+    private Long id;
+
+    private BatchItemStatus status;
+
+    private String error;
+
+    // The saved workation, for successful creates and updates
+    private WorkationResponseDTO workation;
+}
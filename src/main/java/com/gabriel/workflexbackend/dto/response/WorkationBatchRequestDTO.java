@@ -0,0 +1,21 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkationBatchRequestDTO {
+
+    private List<WorkationResponseDTO> creates = new ArrayList<>();
+
+    // Each update carries the id of the workation it replaces
+    private List<WorkationResponseDTO> updates = new ArrayList<>();
+
+    private List<Long> deletes = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkationBatchResponseDTO {
+
+    private int created;
+
+    private int updated;
+
+    private int deleted;
+
+    private int failed;
+
+    // One result per request item: deletes first, then updates, then creates, each in request order
+    private List<WorkationBatchItemResponseDTO> results;
+}
@@ -1,6 +1,8 @@
 package com.gabriel.workflexbackend.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.gabriel.workflexbackend.model.Employee;
 import com.gabriel.workflexbackend.model.RiskEnum;
 import jakarta.persistence.*;
@@ -10,6 +12,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -33,4 +36,9 @@ public class WorkationResponseDTO {
     private Long workingDays;
 
     private RiskEnum risk;
+
+    // Set on create/update responses when overlap mode is FLAG and the trip overlaps others of the same employee
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<Long> overlapsWith;
 }
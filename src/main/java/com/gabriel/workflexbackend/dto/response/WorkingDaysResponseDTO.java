@@ -0,0 +1,21 @@
+package com.gabriel.workflexbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingDaysResponseDTO {
+
+    private String country;
+
+    private LocalDate start;
+
+    private LocalDate end;
+
+    private int workingDays;
+}
@@ -0,0 +1,11 @@
+package com.gabriel.workflexbackend.exception;
+
+/**
+ * Thrown when an upload arrives while every import writer is busy; the upload is refused before its body is read.
+ */
+public class ImportQueueFullException extends RuntimeException {
+
+    public ImportQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gabriel.workflexbackend.exception;
+
+/**
+ * Thrown when a request parameter is malformed or out of range, such as a paging cursor or page size.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
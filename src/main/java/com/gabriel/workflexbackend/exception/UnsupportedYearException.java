@@ -0,0 +1,11 @@
+package com.gabriel.workflexbackend.exception;
+
+/**
+ * Thrown when a date or report falls in a year outside the range the application can compute.
+ */
+public class UnsupportedYearException extends RuntimeException {
+
+    public UnsupportedYearException(String message) {
+        super(message);
+    }
+}
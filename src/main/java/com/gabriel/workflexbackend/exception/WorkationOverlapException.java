@@ -0,0 +1,19 @@
+package com.gabriel.workflexbackend.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown when a workation would overlap other workations of the same employee.
+ */
+@Getter
+public class WorkationOverlapException extends RuntimeException {
+
+    private final List<Long> conflictingIds;
+
+    public WorkationOverlapException(String employee, List<Long> conflictingIds) {
+        super("Workation overlaps existing workations " + conflictingIds + " of employee " + employee);
+        this.conflictingIds = conflictingIds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gabriel.workflexbackend.exception;
+
+/**
+ * Thrown when a caller stops waiting for a write that is already in a transaction, so it may still commit.
+ */
+public class WriteOutcomeUnknownException extends RuntimeException {
+
+    public WriteOutcomeUnknownException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gabriel.workflexbackend.exception;
+
+/**
+ * Thrown when the group-commit write queue stays full for longer than callers are willing to wait.
+ */
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,74 @@
+package com.gabriel.workflexbackend.importer;
+
+/**
+ * Splits a single CSV line into fields without regex or intermediate arrays.
+ * Supports double-quoted fields with "" escapes; unquoted fields are trimmed.
+ */
+public final class CsvLineTokenizer {
+
+    private CsvLineTokenizer() {
+    }
+
+    /**
+     * Tokenizes {@code line} into {@code fields} and returns the number of fields found.
+     * Fields beyond {@code fields.length} are counted but not stored.
+     */
+    public static int tokenize(String line, String[] fields) {
+        int count = 0;
+        int length = line.length();
+        int position = 0;
+
+        while (true) {
+            String value;
+            if (position < length && line.charAt(position) == '"') {
+                StringBuilder quoted = new StringBuilder();
+                position++;
+                while (position < length) {
+                    char c = line.charAt(position++);
+                    if (c == '"') {
+                        if (position < length && line.charAt(position) == '"') {
+                            quoted.append('"');
+                            position++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+                value = quoted.toString();
+                // Skip anything between the closing quote and the next separator
+                while (position < length && line.charAt(position) != ',') {
+                    position++;
+                }
+            } else {
+                int end = line.indexOf(',', position);
+                if (end < 0) {
+                    end = length;
+                }
+                value = trim(line, position, end);
+                position = end;
+            }
+
+            if (count < fields.length) {
+                fields[count] = value;
+            }
+            count++;
+
+            if (position >= length) {
+                return count;
+            }
+            position++; // skip ','
+        }
+    }
+
+    private static String trim(String line, int from, int to) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return line.substring(from, to);
+    }
+}
@@ -0,0 +1,84 @@
+package com.gabriel.workflexbackend.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * State of one CSV import. Counters are updated by the parsing request thread and the writer
+ * while clients poll them.
+ */
+@Getter
+public class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final Instant createdAt = Instant.now();
+    private final Path rejectedReport;
+    private final AtomicLong parsed = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Setter
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    @Setter
+    private volatile Instant startedAt;
+    @Setter
+    private volatile Instant finishedAt;
+    @Setter
+    private volatile String error;
+
+    // Guards the report file; a lock rather than synchronized as its writes may block a virtual thread
+    private final ReentrantLock reportLock = new ReentrantLock();
+    private BufferedWriter rejectedWriter;
+
+    public ImportJob(Path rejectedReport) {
+        this.rejectedReport = rejectedReport;
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    // Called from both the parser and the writer thread
+    public void reject(long lineNumber, String line, String reason) {
+        rejected.incrementAndGet();
+        reportLock.lock();
+        try {
+            if (rejectedWriter == null) {
+                rejectedWriter = Files.newBufferedWriter(rejectedReport, StandardCharsets.UTF_8);
+                rejectedWriter.write("line,reason,content\n");
+            }
+            rejectedWriter.write(lineNumber + "," + quote(reason) + "," + quote(line) + "\n");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write rejected-row report", e);
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    public void closeReport() throws IOException {
+        reportLock.lock();
+        try {
+            if (rejectedWriter == null) {
+                Files.writeString(rejectedReport, "line,reason,content\n", StandardCharsets.UTF_8);
+            } else {
+                rejectedWriter.close();
+            }
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,185 @@
+package com.gabriel.workflexbackend.importer;
+
+import com.gabriel.workflexbackend.exception.ImportQueueFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs CSV uploads as import jobs.
+ * <p>
+ * The upload is parsed as it arrives, on the request thread, and chunks are handed to the job's database
+ * writer on the import executor through a bounded queue: when the writer falls behind, parsing blocks, the
+ * request stops reading and the uploader is slowed down by TCP flow control instead of the server buffering
+ * the body. The request returns once the whole body is parsed; the writer finishes the queued chunks in the
+ * background. When every writer is busy the upload is refused before its body is read.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private static final List<WorkationCsvRecord> END_OF_INPUT = Collections.emptyList();
+
+    private final WorkationBulkImporter workationBulkImporter;
+    private final TaskExecutor importTaskExecutor;
+    private final int queueCapacity;
+    private final int retainedJobs;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(WorkationBulkImporter workationBulkImporter,
+                            @Qualifier("importTaskExecutor") TaskExecutor importTaskExecutor,
+                            @Value("${workflex.import.queue-capacity:4}") int queueCapacity,
+                            @Value("${workflex.import.retained-jobs:50}") int retainedJobs) {
+        this.workationBulkImporter = workationBulkImporter;
+        this.importTaskExecutor = importTaskExecutor;
+        this.queueCapacity = queueCapacity;
+        this.retainedJobs = retainedJobs;
+    }
+
+    /**
+     * Imports {@code body} and returns its job once the body is parsed, while the last chunks may still be
+     * being written. Throws {@link ImportQueueFullException} if no writer is free.
+     */
+    public ImportJob submit(InputStream body) throws IOException {
+        ImportJob job = new ImportJob(Files.createTempFile("workations-rejected-", ".csv"));
+        BlockingQueue<List<WorkationCsvRecord>> chunks = new ArrayBlockingQueue<>(queueCapacity);
+        try {
+            importTaskExecutor.execute(() -> write(job, chunks));
+        } catch (TaskRejectedException e) {
+            job.setError("Too many imports running");
+            job.setStatus(ImportJobStatus.FAILED);
+            Files.deleteIfExists(job.getRejectedReport());
+            throw new ImportQueueFullException("Too many imports running, try again later");
+        }
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        parse(job, new InputStreamReader(body, StandardCharsets.UTF_8), chunks);
+        return job;
+    }
+
+    public ImportJob getJob(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new IllegalArgumentException("Import job not found with id: " + id);
+        }
+        return job;
+    }
+
+    void write(ImportJob job, BlockingQueue<List<WorkationCsvRecord>> chunks) {
+        job.setStartedAt(Instant.now());
+        job.setStatus(ImportJobStatus.RUNNING);
+        try {
+            Map<String, Long> employeeIds = workationBulkImporter.loadEmployeeIds();
+            List<WorkationCsvRecord> chunk;
+            while ((chunk = chunks.take()) != END_OF_INPUT) {
+                job.getInserted().addAndGet(workationBulkImporter.writeChunkOrReject(chunk, employeeIds, job::reject));
+            }
+            job.setStatus(job.getError() == null ? ImportJobStatus.COMPLETED : ImportJobStatus.FAILED);
+        } catch (Exception e) {
+            log.error("Import job {} failed", job.getId(), e);
+            job.setError(e.getMessage());
+            // Also tells the parser to stop
+            job.setStatus(ImportJobStatus.FAILED);
+        } finally {
+            workationBulkImporter.publishImported(job.getInserted().get());
+            job.setFinishedAt(Instant.now());
+            try {
+                job.closeReport();
+            } catch (IOException e) {
+                log.warn("Failed to close rejected-row report of import job {}", job.getId(), e);
+            }
+        }
+        workationBulkImporter.recordRejected(job.getRejected().get());
+        log.info("Import job {} {}: parsed {}, inserted {}, rejected {}", job.getId(), job.getStatus(),
+                job.getParsed().get(), job.getInserted().get(), job.getRejected().get());
+    }
+
+    private void parse(ImportJob job, Reader body, BlockingQueue<List<WorkationCsvRecord>> chunks) {
+        int chunkSize = workationBulkImporter.getChunkSize();
+        List<List<WorkationCsvRecord>> pending = new ArrayList<>(1);
+        pending.add(new ArrayList<>(chunkSize));
+
+        try (Reader reader = new BufferedReader(body)) {
+            WorkationCsvReader.read(reader, record -> {
+                job.getParsed().incrementAndGet();
+                List<WorkationCsvRecord> chunk = pending.get(0);
+                chunk.add(record);
+                if (chunk.size() >= chunkSize) {
+                    put(job, chunks, chunk);
+                    pending.set(0, new ArrayList<>(chunkSize));
+                }
+            }, (lineNumber, line, reason) -> {
+                job.getParsed().incrementAndGet();
+                job.reject(lineNumber, line, reason);
+            });
+            if (!pending.get(0).isEmpty()) {
+                put(job, chunks, pending.get(0));
+            }
+        } catch (IOException | RuntimeException e) {
+            if (job.getError() == null) {
+                log.error("Import job {} failed to parse upload", job.getId(), e);
+                job.setError(e.getMessage());
+            }
+        }
+        if (!job.isFinished()) {
+            try {
+                put(job, chunks, END_OF_INPUT);
+            } catch (IllegalStateException e) {
+                // The writer stopped on its own and has already recorded why
+            }
+        }
+    }
+
+    // Blocks while the writer is behind; this is what bounds memory to queueCapacity chunks and slows the uploader
+    private static void put(ImportJob job, BlockingQueue<List<WorkationCsvRecord>> chunks, List<WorkationCsvRecord> chunk) {
+        try {
+            while (!chunks.offer(chunk, 1, TimeUnit.SECONDS)) {
+                if (job.isFinished()) {
+                    throw new IllegalStateException("Import writer stopped: " + job.getError());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import parser interrupted", e);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < retainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ImportJob::isFinished)
+                .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
+                .limit(jobs.size() - retainedJobs + 1L)
+                .forEach(job -> {
+                    jobs.remove(job.getId());
+                    try {
+                        Files.deleteIfExists(job.getRejectedReport());
+                    } catch (IOException e) {
+                        log.warn("Failed to delete rejected-row report of import job {}", job.getId(), e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,8 @@
+package com.gabriel.workflexbackend.importer;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
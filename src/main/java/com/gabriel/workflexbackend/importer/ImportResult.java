@@ -0,0 +1,8 @@
+package com.gabriel.workflexbackend.importer;
+
+public record ImportResult(long parsed, long inserted, long rejected, long elapsedNanos) {
+
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : inserted * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -0,0 +1,53 @@
+package com.gabriel.workflexbackend.importer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out ids from a database sequence the same way Hibernate's pooled optimizer does:
+ * each sequence call reserves the block {@code (value - allocationSize, value]}. Ids written
+ * through plain JDBC therefore never collide with ids Hibernate assigns through the entity mapping.
+ */
+public class PooledSequenceAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+    private final int allocationSize;
+    // The sequence call happens under this lock; a monitor would pin a virtual caller's carrier for the round trip
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long hi;
+
+    public PooledSequenceAllocator(JdbcTemplate jdbcTemplate, String nextValueSql, int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueSql = nextValueSql;
+        this.allocationSize = allocationSize;
+    }
+
+    public long next() {
+        lock.lock();
+        try {
+            if (next == 0 || next > hi) {
+                long value = callSequence();
+                // The sequence starts at 1, which Hibernate treats as the start of the first block rather than its end
+                if (value < allocationSize) {
+                    value = callSequence();
+                }
+                hi = value;
+                next = value - allocationSize + 1;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long callSequence() {
+        Long value = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        if (value == null) {
+            throw new IllegalStateException("Sequence returned no value: " + nextValueSql);
+        }
+        return value;
+    }
+}
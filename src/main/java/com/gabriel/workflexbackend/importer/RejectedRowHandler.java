@@ -0,0 +1,7 @@
+package com.gabriel.workflexbackend.importer;
+
+@FunctionalInterface
+public interface RejectedRowHandler {
+
+    void reject(long lineNumber, String line, String reason);
+}
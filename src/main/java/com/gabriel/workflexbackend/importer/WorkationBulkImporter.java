@@ -0,0 +1,301 @@
+package com.gabriel.workflexbackend.importer;
+
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.exception.UnsupportedYearException;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.service.DataVersion;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads workations CSV data in chunks: each chunk is one transaction, written with plain JDBC batch inserts
+ * that bypass the persistence context. Ids come from the entity sequences so later JPA writes don't collide.
+ * Employees are resolved against a name-to-id map loaded once up front; names missing from it go through
+ * {@link EmployeeResolver} in the chunk's transaction, so concurrent imports and API writes introducing the
+ * same name end up with one employee.
+ * <p>
+ * The file's working days and risk are not trusted: each row gets the working days of its origin's
+ * calendar and the risk of the current rule table, as API writes do. Rows outside the calendars' years
+ * are rejected before the chunk is written.
+ * <p>
+ * The in-memory indexes and the data version are told about an import once, when it ends, through
+ * {@link #publishImported}: a reload per chunk would make every concurrent API write rebuild them from the
+ * whole table again and again. Until then they don't see the imported rows.
+ */
+@Slf4j
+@Component
+public class WorkationBulkImporter {
+
+    private static final String INSERT_WORKATION = "insert into workation "
+            + "(id, employee_id, origin, destination, start, end_date, working_days, risk) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Must match the allocationSize of the Workation @SequenceGenerator mapping
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeResolver employeeResolver;
+    private final WorkingDaysCalculator workingDaysCalculator;
+    private final RiskEngine riskEngine;
+    private final DataVersion dataVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PooledSequenceAllocator workationIdAllocator;
+    private final int chunkSize;
+    private final int jdbcBatchSize;
+    private final Timer chunksWritten;
+    private final Timer chunksFailed;
+    private final Counter rowsInserted;
+    private final Counter rowsRejected;
+
+    public WorkationBulkImporter(EntityManagerFactory entityManagerFactory,
+                                 EmployeeRepository employeeRepository,
+                                 EmployeeResolver employeeResolver,
+                                 WorkingDaysCalculator workingDaysCalculator,
+                                 RiskEngine riskEngine,
+                                 DataVersion dataVersion,
+                                 ApplicationEventPublisher eventPublisher,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${workflex.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${workflex.import.jdbc-batch-size:100}") int jdbcBatchSize) {
+        this.employeeRepository = employeeRepository;
+        this.employeeResolver = employeeResolver;
+        this.workingDaysCalculator = workingDaysCalculator;
+        this.riskEngine = riskEngine;
+        this.dataVersion = dataVersion;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+        // Rows per second is rate(workflex.import.rows{result=inserted}); chunk times show where an import slows down
+        this.chunksWritten = importChunkTimer(meterRegistry, "success");
+        this.chunksFailed = importChunkTimer(meterRegistry, "failure");
+        this.rowsInserted = importRowCounter(meterRegistry, "inserted");
+        this.rowsRejected = importRowCounter(meterRegistry, "rejected");
+
+        SequenceSupport sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        this.workationIdAllocator = new PooledSequenceAllocator(jdbcTemplate,
+                sequenceSupport.getSequenceNextValString("workation_seq"), SEQUENCE_ALLOCATION_SIZE);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public ImportResult importCsv(InputStream in, RejectedRowHandler rejected) throws IOException {
+        return importCsv(new InputStreamReader(in, StandardCharsets.UTF_8), rejected);
+    }
+
+    public ImportResult importCsv(Reader reader, RejectedRowHandler rejected) throws IOException {
+        long startedAt = System.nanoTime();
+        Map<String, Long> employeeIds = loadEmployeeIds();
+        List<WorkationCsvRecord> chunk = new ArrayList<>(chunkSize);
+        AtomicLong parsed = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        AtomicLong rejectedCount = new AtomicLong();
+
+        RejectedRowHandler countingRejected = (lineNumber, line, reason) -> {
+            rejectedCount.incrementAndGet();
+            rejected.reject(lineNumber, line, reason);
+        };
+
+        try {
+            WorkationCsvReader.read(reader, record -> {
+                parsed.incrementAndGet();
+                chunk.add(record);
+                if (chunk.size() >= chunkSize) {
+                    inserted.addAndGet(writeChunkOrReject(chunk, employeeIds, countingRejected));
+                    chunk.clear();
+                }
+            }, (lineNumber, line, reason) -> {
+                parsed.incrementAndGet();
+                countingRejected.reject(lineNumber, line, reason);
+            });
+
+            if (!chunk.isEmpty()) {
+                inserted.addAndGet(writeChunkOrReject(chunk, employeeIds, countingRejected));
+            }
+        } finally {
+            publishImported(inserted.get());
+        }
+
+        ImportResult result = new ImportResult(parsed.get(), inserted.get(), rejectedCount.get(), System.nanoTime() - startedAt);
+        rowsRejected.increment(result.rejected());
+        log.info("Imported {} workations ({} rejected) in {} ms, {} rows/s",
+                result.inserted(), result.rejected(), result.elapsedNanos() / 1_000_000, Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Name-to-id map of every existing employee, loaded in a single query.
+     */
+    public Map<String, Long> loadEmployeeIds() {
+        Map<String, Long> employeeIds = new HashMap<>();
+        for (Employee employee : employeeRepository.findAll()) {
+            employeeIds.putIfAbsent(employee.getName(), employee.getId());
+        }
+        return employeeIds;
+    }
+
+    /**
+     * Inserts one chunk of derived rows in its own transaction and returns the number of rows written.
+     * Employees missing from {@code employeeIds} are resolved or created and added to the map once the chunk commits.
+     */
+    private int writeChunk(List<WorkationCsvRecord> chunk, Map<String, Long> employeeIds) {
+        long startedAt = System.nanoTime();
+        Map<String, Long> resolvedEmployees = new LinkedHashMap<>();
+        Integer written;
+        try {
+            written = insertChunk(chunk, employeeIds, resolvedEmployees);
+        } catch (RuntimeException e) {
+            chunksFailed.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        chunksWritten.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        employeeIds.putAll(resolvedEmployees);
+        int rows = written != null ? written : 0;
+        rowsInserted.increment(rows);
+        return rows;
+    }
+
+    /**
+     * Tells the in-memory indexes and cached snapshots about the rows an import committed. Called once when
+     * the import ends, whether or not it completed.
+     */
+    public void publishImported(long rows) {
+        if (rows > 0) {
+            dataVersion.bump();
+            eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        }
+    }
+
+    /**
+     * Counts rows an import gave up on, for imports that track rejections themselves.
+     */
+    public void recordRejected(long rows) {
+        rowsRejected.increment(rows);
+    }
+
+    private Integer insertChunk(List<WorkationCsvRecord> chunk, Map<String, Long> employeeIds, Map<String, Long> resolvedEmployees) {
+        return transactionTemplate.execute(status -> {
+            Set<String> missing = new LinkedHashSet<>();
+            for (WorkationCsvRecord record : chunk) {
+                if (!employeeIds.containsKey(record.employee())) {
+                    missing.add(record.employee());
+                }
+            }
+            if (!missing.isEmpty()) {
+                Map<String, Employee> resolved = employeeResolver.resolveAll(missing);
+                missing.forEach(name -> resolvedEmployees.put(name, resolved.get(name.trim()).getId()));
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_WORKATION, chunk, jdbcBatchSize, (ps, record) -> {
+                Long employeeId = resolvedEmployees.get(record.employee());
+                ps.setLong(1, workationIdAllocator.next());
+                ps.setLong(2, employeeId != null ? employeeId : employeeIds.get(record.employee()));
+                ps.setString(3, record.origin());
+                ps.setString(4, record.destination());
+                ps.setTimestamp(5, Timestamp.valueOf(record.start()));
+                ps.setTimestamp(6, Timestamp.valueOf(record.end()));
+                ps.setInt(7, record.workingDays());
+                ps.setString(8, record.risk().name());
+            });
+            return chunk.size();
+        });
+    }
+
+    private static Timer importChunkTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("workflex.import.chunks")
+                .description("Time to write one import chunk in its transaction")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter importRowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("workflex.import.rows")
+                .description("Imported workation rows")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Derives each row's working days and risk, then inserts the chunk in its own transaction and returns the
+     * number of rows written. Employees missing from {@code employeeIds} are resolved or created and added to
+     * the map once the chunk commits. If the chunk fails, it is split in halves that are retried on their own,
+     * down to single rows, so only the rows the database refuses are passed to {@code rejected}; a single bad
+     * row costs about two transactions per halving.
+     */
+    public int writeChunkOrReject(List<WorkationCsvRecord> chunk, Map<String, Long> employeeIds, RejectedRowHandler rejected) {
+        List<WorkationCsvRecord> derived = derive(chunk, rejected);
+        return derived.isEmpty() ? 0 : writeOrSplit(derived, employeeIds, rejected);
+    }
+
+    private List<WorkationCsvRecord> derive(List<WorkationCsvRecord> chunk, RejectedRowHandler rejected) {
+        List<WorkationCsvRecord> derived = new ArrayList<>(chunk.size());
+        for (WorkationCsvRecord record : chunk) {
+            try {
+                int workingDays = workingDaysCalculator.countWorkingDays(record.origin(), record.start().toLocalDate(),
+                        record.end().toLocalDate());
+                derived.add(record.withDerived(workingDays, riskEngine.evaluate(record.origin(), record.destination(),
+                        record.start().toLocalDate(), record.end().toLocalDate(), workingDays)));
+            } catch (IllegalArgumentException | UnsupportedYearException e) {
+                rejected.reject(record.lineNumber(), record.line(), e.getMessage());
+            }
+        }
+        return derived;
+    }
+
+    private int writeOrSplit(List<WorkationCsvRecord> chunk, Map<String, Long> employeeIds, RejectedRowHandler rejected) {
+        try {
+            return writeChunk(chunk, employeeIds);
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                WorkationCsvRecord record = chunk.get(0);
+                log.warn("Rejected line {}: {}", record.lineNumber(), e.getMessage());
+                rejected.reject(record.lineNumber(), record.line(), "Insert failed: " + e.getMessage());
+                return 0;
+            }
+            log.warn("Failed to write chunk of {} rows starting at line {}, retrying in halves: {}", chunk.size(),
+                    chunk.get(0).lineNumber(), e.getMessage());
+            int half = chunk.size() / 2;
+            return writeOrSplit(chunk.subList(0, half), employeeIds, rejected)
+                    + writeOrSplit(chunk.subList(half, chunk.size()), employeeIds, rejected);
+        }
+    }
+}
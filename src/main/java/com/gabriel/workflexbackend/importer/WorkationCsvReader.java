@@ -0,0 +1,40 @@
+package com.gabriel.workflexbackend.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Reads a workations CSV line by line, skipping the header, and hands out parsed records.
+ * Lines that can't be parsed go to the {@link RejectedRowHandler} instead of stopping the read.
+ */
+public final class WorkationCsvReader {
+
+    private WorkationCsvReader() {
+    }
+
+    public static void read(Reader source, Consumer<WorkationCsvRecord> records, RejectedRowHandler rejected) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source, 64 * 1024);
+        String[] fields = new String[WorkationCsvRecord.COLUMN_COUNT];
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 || line.isBlank()) {
+                continue; // header or trailing empty line
+            }
+
+            WorkationCsvRecord record;
+            try {
+                int fieldCount = CsvLineTokenizer.tokenize(line, fields);
+                record = WorkationCsvRecord.parse(lineNumber, line, fields, fieldCount);
+            } catch (IllegalArgumentException e) {
+                rejected.reject(lineNumber, line, e.getMessage());
+                continue;
+            }
+            records.accept(record);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gabriel.workflexbackend.importer;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One parsed line of a workations CSV.
+ * Columns: workationId,employee,origin,destination,start,end,workingDays,risk
+ */
+public record WorkationCsvRecord(long lineNumber,
+                                 String line,
+                                 String employee,
+                                 String origin,
+                                 String destination,
+                                 LocalDateTime start,
+                                 LocalDateTime end,
+                                 Integer workingDays,
+                                 RiskEnum risk) {
+
+    public static final int COLUMN_COUNT = 8;
+
+    // The same row with the working days and risk the server derives, replacing the file's columns
+    public WorkationCsvRecord withDerived(int derivedWorkingDays, RiskEnum derivedRisk) {
+        return new WorkationCsvRecord(lineNumber, line, employee, origin, destination, start, end, derivedWorkingDays, derivedRisk);
+    }
+
+    public static WorkationCsvRecord parse(long lineNumber, String line, String[] fields, int fieldCount) {
+        if (fieldCount < COLUMN_COUNT) {
+            throw new IllegalArgumentException("Expected " + COLUMN_COUNT + " columns but found " + fieldCount);
+        }
+        if (fields[1].isEmpty()) {
+            throw new IllegalArgumentException("Employee is required");
+        }
+        try {
+            return new WorkationCsvRecord(
+                    lineNumber,
+                    line,
+                    fields[1],
+                    fields[2],
+                    fields[3],
+                    parseDate(fields[4]).atStartOfDay(),
+                    parseDate(fields[5]).atTime(23, 59, 59),
+                    Integer.parseInt(fields[6]),
+                    RiskEnum.valueOf(fields[7]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    // Fast path for yyyy-MM-dd; DateTimeFormatter parsing dominates import time otherwise
+    static LocalDate parseDate(String value) {
+        if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            int day = digits(value, 8, 10);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(value);
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,293 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Company-wide index of who is abroad when, answering "which trips cover this day or week" without
+ * touching the database.
+ * <p>
+ * Trips live in parallel primitive arrays (epoch days, ids, employee ids, destination codes): a large
+ * start-sorted part searched as a {@link SortedTrips} interval tree, plus a small unsorted delta of
+ * recent writes scanned linearly. Updates and deletes tombstone the sorted slot; once the delta or the
+ * tombstones grow past a fraction of the index, both are folded back into a freshly sorted array.
+ * Row-level changes come from {@link WorkationChangedEvent}s after commit, dropping any that arrive after
+ * a later change to the same row; bulk changes mark the index stale and it is rebuilt from the database
+ * on next use.
+ */
+@Slf4j
+@Component
+public class AbroadIndex {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+
+    /**
+     * Receives each matching trip. Called under the index read lock, so it must not write to the index.
+     */
+    @FunctionalInterface
+    public interface TripVisitor {
+        void visit(long workationId, long employeeId, int destination, int startDay, int endDay);
+    }
+
+    private final WorkationRepository workationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int compactionDivisor;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Destination dictionary, append-only
+    private final List<String> destinations = new ArrayList<>();
+    private final Map<String, Integer> destinationCodes = new HashMap<>();
+
+    // Sorted part, and the slot of each trip in it
+    private SortedTrips sorted = SortedTrips.EMPTY;
+    private Map<Long, Integer> sortedSlots = new HashMap<>();
+
+    // Delta of recent writes
+    private int deltaSize;
+    private int[] deltaStarts = new int[16];
+    private int[] deltaEnds = new int[16];
+    private long[] deltaIds = new long[16];
+    private long[] deltaEmployees = new long[16];
+    private int[] deltaDestinations = new int[16];
+    private final Map<Long, Integer> deltaSlots = new HashMap<>();
+    private final AppliedChanges appliedChanges = new AppliedChanges();
+
+    private volatile boolean stale = true;
+
+    public AbroadIndex(WorkationRepository workationRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${workflex.abroad-index.compaction-divisor:64}") int compactionDivisor) {
+        this.workationRepository = workationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.compactionDivisor = compactionDivisor;
+    }
+
+    /**
+     * Visits every trip sharing at least one day with {@code [from, to]} and returns how many there were.
+     * Lookups allocate nothing beyond what the visitor does.
+     */
+    public int forEachAbroad(LocalDate from, LocalDate to, TripVisitor visitor) {
+        ensureLoaded();
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        lock.readLock().lock();
+        try {
+            int count = sorted.overlapping(fromDay, toDay, visitor);
+            for (int i = 0; i < deltaSize; i++) {
+                if (deltaStarts[i] <= toDay && deltaEnds[i] >= fromDay) {
+                    count++;
+                    visitor.visit(deltaIds[i], deltaEmployees[i], deltaDestinations[i], deltaStarts[i], deltaEnds[i]);
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countAbroad(LocalDate from, LocalDate to) {
+        return forEachAbroad(from, to, (workationId, employeeId, destination, startDay, endDay) -> { });
+    }
+
+    public String destinationName(int code) {
+        lock.readLock().lock();
+        try {
+            return destinations.get(code);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return sorted.liveCount() + deltaSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationChanged(WorkationChangedEvent event) {
+        if (stale) {
+            return; // the coming rebuild reads the committed change from the database
+        }
+        lock.writeLock().lock();
+        try {
+            if (!appliedChanges.advance(event)) {
+                return; // a later change to this row was applied first
+            }
+            remove(event.id());
+            WorkationInterval interval = event.interval();
+            if (!event.isDeleted() && interval.employeeId() != null) {
+                append(event.id(), interval.employeeId(), code(interval.destination()), interval.startDay(), interval.endDay());
+            }
+            int threshold = Math.max(MIN_COMPACTION_THRESHOLD, sorted.size() / compactionDivisor);
+            if (deltaSize > threshold || sorted.tombstoneCount() > threshold) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationsReloaded(WorkationsReloadedEvent event) {
+        invalidate();
+    }
+
+    private void ensureLoaded() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!stale) {
+                return;
+            }
+            // Cleared first so an invalidation that lands mid-rebuild triggers another one
+            stale = false;
+            clearDelta();
+            sorted = SortedTrips.EMPTY;
+            sortedSlots = new HashMap<>();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<WorkationInterval> intervals = workationRepository.streamIntervals()) {
+                    intervals.forEach(interval -> append(interval.id(), interval.employeeId(),
+                            code(interval.destination()), interval.startDay(), interval.endDay()));
+                }
+            });
+            compact();
+            log.info("Rebuilt abroad index: {} workations", sorted.size());
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Merges live sorted trips and the delta into a new sorted part; caller holds the write lock
+    private void compact() {
+        int size = sorted.liveCount() + deltaSize;
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        long[] ids = new long[size];
+        long[] employees = new long[size];
+        int[] destinationsBySlot = new int[size];
+        int n = sorted.copyLive(starts, ends, ids, employees, destinationsBySlot, 0);
+        System.arraycopy(deltaStarts, 0, starts, n, deltaSize);
+        System.arraycopy(deltaEnds, 0, ends, n, deltaSize);
+        System.arraycopy(deltaIds, 0, ids, n, deltaSize);
+        System.arraycopy(deltaEmployees, 0, employees, n, deltaSize);
+        System.arraycopy(deltaDestinations, 0, destinationsBySlot, n, deltaSize);
+        clearDelta();
+
+        // Sort by start through packed (start, position) keys instead of boxing an index permutation
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) starts[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] sortedStarts = new int[size];
+        int[] sortedEnds = new int[size];
+        long[] sortedIds = new long[size];
+        long[] sortedEmployees = new long[size];
+        int[] sortedDestinations = new int[size];
+        Map<Long, Integer> slots = new HashMap<>(Math.max(16, size * 4 / 3));
+        for (int slot = 0; slot < size; slot++) {
+            int from = (int) keys[slot];
+            sortedStarts[slot] = starts[from];
+            sortedEnds[slot] = ends[from];
+            sortedIds[slot] = ids[from];
+            sortedEmployees[slot] = employees[from];
+            sortedDestinations[slot] = destinationsBySlot[from];
+            slots.put(ids[from], slot);
+        }
+        sorted = new SortedTrips(sortedStarts, sortedEnds, sortedIds, sortedEmployees, sortedDestinations);
+        sortedSlots = slots;
+    }
+
+    private void remove(long id) {
+        Integer slot = sortedSlots.remove(id);
+        if (slot != null) {
+            sorted.remove(slot);
+            return;
+        }
+        Integer deltaSlot = deltaSlots.remove(id);
+        if (deltaSlot != null) {
+            // Move the last delta entry into the freed slot
+            int last = --deltaSize;
+            if (deltaSlot != last) {
+                deltaStarts[deltaSlot] = deltaStarts[last];
+                deltaEnds[deltaSlot] = deltaEnds[last];
+                deltaIds[deltaSlot] = deltaIds[last];
+                deltaEmployees[deltaSlot] = deltaEmployees[last];
+                deltaDestinations[deltaSlot] = deltaDestinations[last];
+                deltaSlots.put(deltaIds[deltaSlot], deltaSlot);
+            }
+        }
+    }
+
+    private void append(long id, long employeeId, int destination, int startDay, int endDay) {
+        if (deltaSize == deltaIds.length) {
+            int capacity = deltaSize * 2;
+            deltaStarts = Arrays.copyOf(deltaStarts, capacity);
+            deltaEnds = Arrays.copyOf(deltaEnds, capacity);
+            deltaIds = Arrays.copyOf(deltaIds, capacity);
+            deltaEmployees = Arrays.copyOf(deltaEmployees, capacity);
+            deltaDestinations = Arrays.copyOf(deltaDestinations, capacity);
+        }
+        deltaStarts[deltaSize] = startDay;
+        deltaEnds[deltaSize] = endDay;
+        deltaIds[deltaSize] = id;
+        deltaEmployees[deltaSize] = employeeId;
+        deltaDestinations[deltaSize] = destination;
+        deltaSlots.put(id, deltaSize++);
+    }
+
+    private void clearDelta() {
+        deltaSize = 0;
+        deltaSlots.clear();
+        if (deltaIds.length > 16 * MIN_COMPACTION_THRESHOLD) {
+            deltaStarts = new int[16];
+            deltaEnds = new int[16];
+            deltaIds = new long[16];
+            deltaEmployees = new long[16];
+            deltaDestinations = new int[16];
+        }
+    }
+
+    private int code(String destination) {
+        String name = destination == null ? "" : destination;
+        Integer code = destinationCodes.get(name);
+        if (code == null) {
+            code = destinations.size();
+            destinations.add(name);
+            destinationCodes.put(name, code);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gabriel.workflexbackend.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The sequence of the last {@link WorkationChangedEvent} an index applied per workation, so it can drop an
+ * event that arrives after a later change to the same row. Entries outlive deletes and rebuilds, to keep
+ * dropping late events for those rows; that is one entry per workation written through the API. Not
+ * thread-safe: callers hold their index's write lock.
+ */
+final class AppliedChanges {
+
+    private final Map<Long, Long> lastSequence = new HashMap<>();
+
+    // Records the event and returns true unless a later change to its row was applied already
+    boolean advance(WorkationChangedEvent event) {
+        Long last = lastSequence.get(event.id());
+        if (last != null && last >= event.sequence()) {
+            return false;
+        }
+        lastSequence.put(event.id(), event.sequence());
+        return true;
+    }
+}
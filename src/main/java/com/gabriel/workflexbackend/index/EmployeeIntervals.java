@@ -0,0 +1,222 @@
+package com.gabriel.workflexbackend.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, start-sorted trips of one employee as parallel primitive arrays (epoch days, inclusive).
+ * {@code maxEnd[i]} is the latest end among trips {@code 0..i}; it never decreases, which lets an
+ * overlap query binary-search both ends of its candidate window.
+ * Writes copy the arrays, which is cheap at the few hundred trips an employee has.
+ */
+final class EmployeeIntervals {
+
+    static final EmployeeIntervals EMPTY = new EmployeeIntervals(new long[0], new int[0], new int[0]);
+
+    private final long[] ids;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnd;
+
+    private EmployeeIntervals(long[] ids, int[] starts, int[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnd = new int[ends.length];
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnd[i] = max;
+        }
+    }
+
+    static EmployeeIntervals of(List<WorkationInterval> intervals) {
+        WorkationInterval[] sorted = intervals.toArray(WorkationInterval[]::new);
+        Arrays.sort(sorted, (a, b) -> a.startDay() != b.startDay()
+                ? Integer.compare(a.startDay(), b.startDay()) : Long.compare(a.id(), b.id()));
+        long[] ids = new long[sorted.length];
+        int[] starts = new int[sorted.length];
+        int[] ends = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].id();
+            starts[i] = sorted[i].startDay();
+            ends[i] = sorted[i].endDay();
+        }
+        return new EmployeeIntervals(ids, starts, ends);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    EmployeeIntervals with(long id, int start, int end) {
+        EmployeeIntervals base = without(id);
+        int at = base.upperBound(start);
+        return new EmployeeIntervals(insert(base.ids, at, id), insert(base.starts, at, start), insert(base.ends, at, end));
+    }
+
+    EmployeeIntervals without(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return new EmployeeIntervals(remove(ids, i), remove(starts, i), remove(ends, i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Ids of trips sharing at least one day with {@code [start, end]}, other than {@code excludeId}.
+     * Candidates lie between the first trip whose running max end reaches {@code start} and the last
+     * trip starting on or before {@code end}.
+     */
+    List<Long> overlapping(int start, int end, long excludeId) {
+        List<Long> result = new ArrayList<>();
+        int last = upperBound(end) - 1;
+        for (int i = firstReaching(start); i <= last; i++) {
+            if (ends[i] >= start && ids[i] != excludeId) {
+                result.add(ids[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Every overlapping pair in one sweep: trip {@code j} after {@code i} in start order overlaps it
+     * exactly when it starts on or before {@code i} ends, so the inner loop only visits real pairs.
+     */
+    void forEachOverlap(OverlapConsumer consumer) {
+        for (int i = 0; i < ids.length; i++) {
+            for (int j = i + 1; j < ids.length && starts[j] <= ends[i]; j++) {
+                consumer.accept(ids[i], ids[j], starts[j], Math.min(ends[i], ends[j]));
+            }
+        }
+    }
+
+    /**
+     * Number of distinct days within {@code [from, to]} covered by at least one trip. Trips are merged in
+     * start order, so days shared by overlapping trips count once.
+     */
+    int daysCovered(int from, int to) {
+        int days = 0;
+        int coveredUntil = from - 1;
+        int last = upperBound(to) - 1;
+        for (int i = firstReaching(from); i <= last; i++) {
+            int end = Math.min(ends[i], to);
+            if (end > coveredUntil) {
+                days += end - Math.max(starts[i], coveredUntil + 1) + 1;
+                coveredUntil = end;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Most distinct days covered by any window of {@code windowDays} consecutive days. Some best window
+     * starts where a run of covered days starts, so only those starts are tried, sweeping the window end
+     * over the merged runs with two pointers.
+     */
+    int maxDaysInWindow(int windowDays) {
+        int[] runStarts = new int[ids.length];
+        int[] runEnds = new int[ids.length];
+        int runs = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (runs > 0 && starts[i] <= runEnds[runs - 1] + 1) {
+                runEnds[runs - 1] = Math.max(runEnds[runs - 1], ends[i]);
+            } else {
+                runStarts[runs] = starts[i];
+                runEnds[runs] = ends[i];
+                runs++;
+            }
+        }
+
+        int best = 0;
+        int covered = 0; // days of the whole runs [i, j)
+        int j = 0;
+        for (int i = 0; i < runs; i++) {
+            int windowEnd = runStarts[i] + windowDays - 1;
+            while (j < runs && runEnds[j] <= windowEnd) {
+                covered += runEnds[j] - runStarts[j] + 1;
+                j++;
+            }
+            int partial = j < runs && runStarts[j] <= windowEnd ? windowEnd - runStarts[j] + 1 : 0;
+            best = Math.max(best, covered + partial);
+            if (j > i) {
+                covered -= runEnds[i] - runStarts[i] + 1;
+            } else {
+                j = i + 1;
+            }
+        }
+        return best;
+    }
+
+    // Latest day covered by any trip
+    int lastEnd() {
+        return maxEnd.length == 0 ? Integer.MIN_VALUE : maxEnd[maxEnd.length - 1];
+    }
+
+    @FunctionalInterface
+    interface OverlapConsumer {
+        void accept(long firstId, long secondId, int overlapStart, int overlapEnd);
+    }
+
+    // First index whose start is greater than the given day
+    private int upperBound(int day) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index whose running max end is on or after the given day
+    private int firstReaching(int day) {
+        int low = 0;
+        int high = maxEnd.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxEnd[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long[] insert(long[] array, int at, long value) {
+        long[] copy = new long[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        copy[at] = value;
+        System.arraycopy(array, at, copy, at + 1, array.length - at);
+        return copy;
+    }
+
+    private static int[] insert(int[] array, int at, int value) {
+        int[] copy = new int[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        copy[at] = value;
+        System.arraycopy(array, at, copy, at + 1, array.length - at);
+        return copy;
+    }
+
+    private static long[] remove(long[] array, int at) {
+        long[] copy = new long[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+        return copy;
+    }
+
+    private static int[] remove(int[] array, int at) {
+        int[] copy = new int[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+        return copy;
+    }
+}
@@ -0,0 +1,10 @@
+package com.gabriel.workflexbackend.index;
+
+import java.time.LocalDate;
+
+/**
+ * Two trips of the same employee that share at least one day, and the days they share.
+ */
+public record OverlapConflict(long employeeId, long workationId, long conflictingWorkationId,
+                              LocalDate overlapStart, LocalDate overlapEnd) {
+}
@@ -0,0 +1,149 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory per-employee interval index of committed workations, used to detect trips that overlap
+ * without scanning the table on every write.
+ * <p>
+ * Row-level changes are applied from {@link WorkationChangedEvent}s once their transaction commits, and
+ * an event older than one already applied to its row is dropped; bulk changes mark the index stale and it
+ * is rebuilt from the database on next use. Checks run
+ * against committed data only, so two concurrent writes for the same employee are not checked
+ * against each other.
+ */
+@Slf4j
+@Component
+public class OverlapIndex {
+
+    private final WorkationRepository workationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final OverlapMode mode;
+
+    private final Map<Long, EmployeeIntervals> byEmployee = new ConcurrentHashMap<>();
+    private final Map<Long, Long> employeeByWorkation = new ConcurrentHashMap<>();
+    private final AppliedChanges appliedChanges = new AppliedChanges();
+    // Not synchronized: a rebuild reads the table, and a virtual thread blocked in a monitor pins its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean stale = true;
+
+    public OverlapIndex(WorkationRepository workationRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${workflex.overlap.mode:REJECT}") OverlapMode mode) {
+        this.workationRepository = workationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.mode = mode;
+    }
+
+    public OverlapMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Ids of the employee's workations sharing at least one day with {@code [start, end]},
+     * ignoring {@code excludeId} (the workation being updated, or null).
+     */
+    public List<Long> findOverlaps(Long employeeId, LocalDate start, LocalDate end, Long excludeId) {
+        ensureLoaded();
+        EmployeeIntervals intervals = byEmployee.getOrDefault(employeeId, EmployeeIntervals.EMPTY);
+        return intervals.overlapping((int) start.toEpochDay(), (int) end.toEpochDay(), excludeId == null ? -1 : excludeId);
+    }
+
+    public List<OverlapConflict> findAllConflicts() {
+        ensureLoaded();
+        List<OverlapConflict> conflicts = new ArrayList<>();
+        byEmployee.forEach((employeeId, intervals) -> intervals.forEachOverlap((first, second, from, to) ->
+                conflicts.add(new OverlapConflict(employeeId, first, second, LocalDate.ofEpochDay(from), LocalDate.ofEpochDay(to)))));
+        return conflicts;
+    }
+
+    public int size() {
+        return employeeByWorkation.size();
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationChanged(WorkationChangedEvent event) {
+        lock.lock();
+        try {
+            if (!appliedChanges.advance(event)) {
+                return; // a later change to this row was applied first
+            }
+            Long previousEmployee = employeeByWorkation.remove(event.id());
+            if (previousEmployee != null) {
+                byEmployee.computeIfPresent(previousEmployee, (id, intervals) -> {
+                    EmployeeIntervals remaining = intervals.without(event.id());
+                    return remaining.size() == 0 ? null : remaining;
+                });
+            }
+            WorkationInterval interval = event.interval();
+            if (!event.isDeleted() && interval.employeeId() != null) {
+                byEmployee.merge(interval.employeeId(),
+                        EmployeeIntervals.EMPTY.with(event.id(), interval.startDay(), interval.endDay()),
+                        (current, ignored) -> current.with(event.id(), interval.startDay(), interval.endDay()));
+                employeeByWorkation.put(event.id(), interval.employeeId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationsReloaded(WorkationsReloadedEvent event) {
+        invalidate();
+    }
+
+    private void ensureLoaded() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        lock.lock();
+        try {
+            if (!stale) {
+                return;
+            }
+            // Cleared first so an invalidation that lands mid-rebuild triggers another one
+            stale = false;
+            Map<Long, List<WorkationInterval>> grouped = new HashMap<>();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<WorkationInterval> intervals = workationRepository.streamIntervals()) {
+                    intervals.forEach(interval -> grouped.computeIfAbsent(interval.employeeId(), k -> new ArrayList<>()).add(interval));
+                }
+            });
+            byEmployee.clear();
+            employeeByWorkation.clear();
+            grouped.forEach((employeeId, intervals) -> {
+                byEmployee.put(employeeId, EmployeeIntervals.of(intervals));
+                intervals.forEach(interval -> employeeByWorkation.put(interval.id(), employeeId));
+            });
+            log.info("Rebuilt overlap index: {} workations over {} employees", employeeByWorkation.size(), byEmployee.size());
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.gabriel.workflexbackend.index;
+
+import java.time.LocalDate;
+
+/**
+ * Days an employee spent in one destination within a rolling window, once they reach the warning level.
+ */
+public record ResidencyExposure(long employeeId, String destination, int days,
+                                LocalDate windowStart, LocalDate windowEnd, ResidencyStatus status) {
+}
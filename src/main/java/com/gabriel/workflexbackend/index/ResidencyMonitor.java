@@ -0,0 +1,198 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Tracks days spent per employee and destination, to flag employees approaching a tax residency
+ * threshold (183 days by default) within a rolling window (365 days by default).
+ * <p>
+ * Trips are kept per employee and destination, and every write re-checks only the pair it touched.
+ * Pairs that reach the warning level in at least one window are kept as candidates: any other pair
+ * cannot reach it in any window. Candidates are indexed by the last day they cover, so a query only
+ * counts the days of candidates with a trip ending inside or after its window, instead of every pair
+ * that ever came close. Changes arrive like for the {@link OverlapIndex}.
+ */
+@Slf4j
+@Component
+public class ResidencyMonitor {
+
+    private record StayKey(long employeeId, String destination) {
+    }
+
+    private final WorkationRepository workationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int thresholdDays;
+    private final int warningDays;
+    private final int windowDays;
+
+    private final Map<StayKey, EmployeeIntervals> stays = new ConcurrentHashMap<>();
+    private final Map<Long, StayKey> keyByWorkation = new ConcurrentHashMap<>();
+    private final AppliedChanges appliedChanges = new AppliedChanges();
+    // Candidates by the last day they cover; lastEndByCandidate finds a candidate's entry again
+    private final ConcurrentSkipListMap<Integer, Set<StayKey>> candidatesByLastEnd = new ConcurrentSkipListMap<>();
+    private final Map<StayKey, Integer> lastEndByCandidate = new ConcurrentHashMap<>();
+    // Serializes writes and rebuilds; a waiting virtual thread unmounts here, unlike on a monitor
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean stale = true;
+
+    public ResidencyMonitor(WorkationRepository workationRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${workflex.residency.threshold-days:183}") int thresholdDays,
+                            @Value("${workflex.residency.warning-days:150}") int warningDays,
+                            @Value("${workflex.residency.window-days:365}") int windowDays) {
+        if (warningDays > thresholdDays) {
+            throw new IllegalArgumentException("Residency warning days must not exceed the threshold");
+        }
+        this.workationRepository = workationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.thresholdDays = thresholdDays;
+        this.warningDays = warningDays;
+        this.windowDays = windowDays;
+    }
+
+    public int getThresholdDays() {
+        return thresholdDays;
+    }
+
+    /**
+     * Employees and destinations at or above the warning level in the window ending on {@code asOf},
+     * most days first.
+     */
+    public List<ResidencyExposure> findExposures(LocalDate asOf) {
+        ensureLoaded();
+        LocalDate windowStart = asOf.minusDays(windowDays - 1L);
+        int from = (int) windowStart.toEpochDay();
+        int to = (int) asOf.toEpochDay();
+        List<ResidencyExposure> exposures = new ArrayList<>();
+        for (Map.Entry<Integer, Set<StayKey>> bucket : candidatesByLastEnd.tailMap(from).entrySet()) {
+            for (StayKey key : bucket.getValue()) {
+                if (!bucket.getKey().equals(lastEndByCandidate.get(key))) {
+                    continue; // moved to another bucket by a concurrent write
+                }
+                int days = stays.getOrDefault(key, EmployeeIntervals.EMPTY).daysCovered(from, to);
+                if (days >= warningDays) {
+                    exposures.add(new ResidencyExposure(key.employeeId(), key.destination(), days, windowStart, asOf,
+                            days >= thresholdDays ? ResidencyStatus.EXCEEDED : ResidencyStatus.APPROACHING));
+                }
+            }
+        }
+        exposures.sort(Comparator.comparingInt(ResidencyExposure::days).reversed()
+                .thenComparingLong(ResidencyExposure::employeeId));
+        return exposures;
+    }
+
+    public int candidateCount() {
+        ensureLoaded();
+        return lastEndByCandidate.size();
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationChanged(WorkationChangedEvent event) {
+        lock.lock();
+        try {
+            if (!appliedChanges.advance(event)) {
+                return; // a later change to this row was applied first
+            }
+            StayKey previous = keyByWorkation.remove(event.id());
+            if (previous != null) {
+                update(previous, stays.getOrDefault(previous, EmployeeIntervals.EMPTY).without(event.id()));
+            }
+            WorkationInterval interval = event.interval();
+            if (!event.isDeleted() && interval.employeeId() != null) {
+                StayKey key = new StayKey(interval.employeeId(), interval.destination());
+                update(key, stays.getOrDefault(key, EmployeeIntervals.EMPTY).with(event.id(), interval.startDay(), interval.endDay()));
+                keyByWorkation.put(event.id(), key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkationsReloaded(WorkationsReloadedEvent event) {
+        invalidate();
+    }
+
+    private void update(StayKey key, EmployeeIntervals trips) {
+        removeCandidate(key);
+        if (trips.size() == 0) {
+            stays.remove(key);
+            return;
+        }
+        stays.put(key, trips);
+        if (trips.maxDaysInWindow(windowDays) >= warningDays) {
+            int lastEnd = trips.lastEnd();
+            lastEndByCandidate.put(key, lastEnd);
+            candidatesByLastEnd.computeIfAbsent(lastEnd, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void removeCandidate(StayKey key) {
+        Integer lastEnd = lastEndByCandidate.remove(key);
+        if (lastEnd != null) {
+            candidatesByLastEnd.computeIfPresent(lastEnd, (k, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        lock.lock();
+        try {
+            if (!stale) {
+                return;
+            }
+            // Cleared first so an invalidation that lands mid-rebuild triggers another one
+            stale = false;
+            Map<StayKey, List<WorkationInterval>> grouped = new HashMap<>();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<WorkationInterval> intervals = workationRepository.streamIntervals()) {
+                    intervals.forEach(interval -> grouped.computeIfAbsent(
+                            new StayKey(interval.employeeId(), interval.destination()), k -> new ArrayList<>()).add(interval));
+                }
+            });
+            stays.clear();
+            keyByWorkation.clear();
+            candidatesByLastEnd.clear();
+            lastEndByCandidate.clear();
+            grouped.forEach((key, intervals) -> {
+                update(key, EmployeeIntervals.of(intervals));
+                intervals.forEach(interval -> keyByWorkation.put(interval.id(), key));
+            });
+            log.info("Rebuilt residency monitor: {} employee destinations, {} at or above {} days in some window",
+                    stays.size(), lastEndByCandidate.size(), warningDays);
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.gabriel.workflexbackend.index;
+
+public enum ResidencyStatus {
+    APPROACHING,
+    EXCEEDED
+}
@@ -0,0 +1,155 @@
+package com.gabriel.workflexbackend.index;
+
+import java.util.BitSet;
+
+/**
+ * Static interval tree over trips sorted by start, stored entirely in parallel primitive arrays.
+ * <p>
+ * This is an implicit, augmented binary search tree laid out in the sorted array itself (the layout used
+ * by cgranges): the node at index {@code i} sits at level {@code k} = number of trailing one bits of
+ * {@code i}, its children are {@code i ± 2^(k-1)}, and {@code maxEnd[i]} holds the latest end in its
+ * subtree. An overlap query prunes subtrees that end too early or start too late and visits only
+ * {@code O(log n + hits)} nodes, recursing on the call stack so lookups don't allocate.
+ * Days are epoch days and trips are inclusive on both ends. Removed trips are tombstoned in place.
+ */
+final class SortedTrips {
+
+    static final SortedTrips EMPTY = new SortedTrips(new int[0], new int[0], new long[0], new long[0], new int[0]);
+
+    // Subtrees of at most 2^(k+1)-1 nodes are scanned linearly rather than descended
+    private static final int LINEAR_SCAN_LEVEL = 3;
+
+    private final int size;
+    private final int[] starts;
+    private final int[] ends;
+    private final long[] ids;
+    private final long[] employees;
+    private final int[] destinations;
+    private final int[] maxEnd;
+    private final int maxLevel;
+    private final BitSet tombstones;
+    private int tombstoneCount;
+
+    /**
+     * Arrays must be parallel and sorted by start; they are not copied.
+     */
+    SortedTrips(int[] starts, int[] ends, long[] ids, long[] employees, int[] destinations) {
+        this.size = starts.length;
+        this.starts = starts;
+        this.ends = ends;
+        this.ids = ids;
+        this.employees = employees;
+        this.destinations = destinations;
+        this.maxEnd = new int[size];
+        this.maxLevel = build();
+        this.tombstones = new BitSet(size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int liveCount() {
+        return size - tombstoneCount;
+    }
+
+    int tombstoneCount() {
+        return tombstoneCount;
+    }
+
+    long id(int slot) {
+        return ids[slot];
+    }
+
+    void remove(int slot) {
+        if (!tombstones.get(slot)) {
+            tombstones.set(slot);
+            tombstoneCount++;
+        }
+    }
+
+    /**
+     * Copies live trips into the given arrays starting at {@code offset} and returns the next offset.
+     */
+    int copyLive(int[] toStarts, int[] toEnds, long[] toIds, long[] toEmployees, int[] toDestinations, int offset) {
+        int n = offset;
+        for (int slot = 0; slot < size; slot++) {
+            if (!tombstones.get(slot)) {
+                toStarts[n] = starts[slot];
+                toEnds[n] = ends[slot];
+                toIds[n] = ids[slot];
+                toEmployees[n] = employees[slot];
+                toDestinations[n++] = destinations[slot];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Calls the visitor for every live trip sharing at least one day with {@code [from, to]} and returns
+     * how many there were.
+     */
+    int overlapping(int from, int to, AbroadIndex.TripVisitor visitor) {
+        return size == 0 ? 0 : visit(maxLevel, (1 << maxLevel) - 1, from, to, visitor);
+    }
+
+    private int visit(int level, int node, int from, int to, AbroadIndex.TripVisitor visitor) {
+        if (level <= LINEAR_SCAN_LEVEL) {
+            int count = 0;
+            int first = node >> level << level;
+            int last = Math.min(size, first + (1 << (level + 1)) - 1);
+            for (int i = first; i < last && starts[i] <= to; i++) {
+                count += accept(i, from, visitor);
+            }
+            return count;
+        }
+        int count = 0;
+        int half = 1 << (level - 1);
+        int left = node - half;
+        // A left child past the end is virtual but can still have real descendants
+        if (left >= size || maxEnd[left] >= from) {
+            count += visit(level - 1, left, from, to, visitor);
+        }
+        if (node < size && starts[node] <= to) {
+            count += accept(node, from, visitor);
+            count += visit(level - 1, node + half, from, to, visitor);
+        }
+        return count;
+    }
+
+    private int accept(int slot, int from, AbroadIndex.TripVisitor visitor) {
+        if (ends[slot] < from || tombstones.get(slot)) {
+            return 0;
+        }
+        visitor.visit(ids[slot], employees[slot], destinations[slot], starts[slot], ends[slot]);
+        return 1;
+    }
+
+    // Fills maxEnd bottom-up and returns the root level
+    private int build() {
+        if (size == 0) {
+            return 0;
+        }
+        int lastIndex = 0;
+        int lastMax = 0;
+        for (int i = 0; i < size; i += 2) {
+            lastIndex = i;
+            lastMax = maxEnd[i] = ends[i];
+        }
+        int level = 1;
+        for (; 1L << level <= size; level++) {
+            int half = 1 << (level - 1);
+            for (int i = (half << 1) - 1; i < size; i += half << 2) {
+                int leftMax = maxEnd[i - half];
+                int rightMax = i + half < size ? maxEnd[i + half] : lastMax;
+                maxEnd[i] = Math.max(ends[i], Math.max(leftMax, rightMax));
+            }
+            // Move to the parent of the last real node, which covers the ragged right edge
+            lastIndex = (lastIndex >> level & 1) != 0 ? lastIndex - half : lastIndex + half;
+            if (lastIndex < size && maxEnd[lastIndex] > lastMax) {
+                lastMax = maxEnd[lastIndex];
+            }
+        }
+        return level - 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.gabriel.workflexbackend.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Published for every single-row workation write. {@code previous} is the row before the write and is null
+ * for a new workation; {@code interval} is the row after it and is null when the workation was deleted.
+ * <p>
+ * Events are numbered as they are published. Updates and deletes publish while holding the row lock, so of
+ * two events for the same workation the higher {@code sequence} is the later committed state, even when
+ * their after-commit listeners run in the opposite order.
+ */
+public record WorkationChangedEvent(Long id, WorkationInterval previous, WorkationInterval interval, long sequence) {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    public WorkationChangedEvent(Long id, WorkationInterval previous, WorkationInterval interval) {
+        this(id, previous, interval, SEQUENCE.incrementAndGet());
+    }
+
+    public boolean isDeleted() {
+        return interval == null;
+    }
+}
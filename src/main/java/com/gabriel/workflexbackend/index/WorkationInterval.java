@@ -0,0 +1,21 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * Who travelled where and when, and how it was scored: the columns the in-memory indexes and aggregates
+ * are built from.
+ */
+public record WorkationInterval(Long id, Long employeeId, String destination, LocalDateTime start, LocalDateTime end,
+                                RiskEnum risk, Integer workingDays) {
+
+    public int startDay() {
+        return (int) start.toLocalDate().toEpochDay();
+    }
+
+    public int endDay() {
+        return (int) end.toLocalDate().toEpochDay();
+    }
+}
@@ -0,0 +1,8 @@
+package com.gabriel.workflexbackend.index;
+
+/**
+ * Published after writes that touch many workations at once (imports, cascades). Indexes rebuild
+ * from the database instead of applying row-level changes.
+ */
+public record WorkationsReloadedEvent() {
+}
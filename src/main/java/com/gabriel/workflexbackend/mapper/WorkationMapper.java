@@ -16,6 +16,7 @@ public interface WorkationMapper {
     @Mapping(target = "employee", source = "employee.name")
     @Mapping(target = "start", source = "start", qualifiedByName = "mapToLocalDate")
     @Mapping(target = "end", source = "end", qualifiedByName = "mapToLocalDate")
+    @Mapping(target = "overlapsWith", ignore = true)
     WorkationResponseDTO toDTO(Workation workation);
     
     @Mapping(target = "employee", ignore = true) // We'll handle employee mapping manually in service
@@ -0,0 +1,136 @@
+package com.gabriel.workflexbackend.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times every statement executed on connections from the wrapped pool and reports it to
+ * {@link SlowQueryMonitor}: the SQL Hibernate generates for the repositories as well as
+ * {@code JdbcTemplate} batches. Bind values set on prepared statements are kept by position until the next
+ * execution. Only execution is timed; reading a large result set afterwards is not.
+ * <p>
+ * Connections and statements are JDK proxies, so {@code unwrap} still reaches the pool's own objects.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryMonitor monitor;
+
+    public SlowQueryDataSource(DataSource targetDataSource, SlowQueryMonitor monitor) {
+        super(targetDataSource);
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            if (!method.getName().startsWith("prepare") && !method.getName().equals("createStatement")) {
+                return result;
+            }
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            return proxy(Statement.class, new StatementHandler((Statement) result, null));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        // SQL of a prepared statement, or of the last plain statement added to a batch
+        private String sql;
+        private final List<Object> parameters = new ArrayList<>();
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                long started = System.nanoTime();
+                try {
+                    return SlowQueryDataSource.invoke(target, method, args);
+                } finally {
+                    if (executed != null) {
+                        monitor.record(executed, System.nanoTime() - started, parameters);
+                    }
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String text) {
+                sql = text;
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.gabriel.workflexbackend.metrics;
+
+import com.gabriel.workflexbackend.dto.response.SlowQueryResponseDTO;
+import com.gabriel.workflexbackend.dto.response.SqlStatsResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latency per SQL fingerprint (see {@link SqlFingerprint}) for every statement run through
+ * {@link SlowQueryDataSource}, and the slowest statements seen at or above the threshold, with their bind
+ * parameters and the application method that ran them.
+ * <p>
+ * Statistics cover the last {@code window-minutes} only: each fingerprint keeps a ring of per-minute slots,
+ * and a slot still holding an older minute is replaced by the first statement recorded into it. A statement
+ * racing with that replacement may be counted in the slot being dropped.
+ * <p>
+ * A statement below the threshold costs one map lookup on its SQL text and three striped counter updates;
+ * fingerprints are computed once per distinct SQL text. Only statements that make it into the retained
+ * samples walk the stack and copy their parameters.
+ */
+@Component
+public class SlowQueryMonitor {
+
+    static final String OTHER_FINGERPRINT = "(other statements)";
+
+    private static final String APPLICATION_PACKAGE = "com.gabriel.workflexbackend.";
+    private static final String METRICS_PACKAGE = APPLICATION_PACKAGE + "metrics.";
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final long thresholdNanos;
+    private final int sampleSize;
+    private final int maxFingerprints;
+    private final int windowMinutes;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, FingerprintStats> statsBySql = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, FingerprintStats> statsByFingerprint = new ConcurrentHashMap<>();
+
+    // Min-heap on elapsed time, so the fastest retained sample is the one to evict
+    private final PriorityQueue<Sample> slowest = new PriorityQueue<>(Comparator.comparingLong(Sample::elapsedNanos));
+    private final ReentrantLock samplesLock = new ReentrantLock();
+    // Elapsed time a statement has to beat to be retained once the samples are full; read without the lock
+    private volatile long sampleFloorNanos = -1;
+
+    private record Sample(String fingerprint, String sql, List<String> parameters, long elapsedNanos, String caller,
+                          Instant capturedAt) {
+    }
+
+    private static final class FingerprintStats {
+
+        private final String fingerprint;
+        private final AtomicReferenceArray<MinuteSlot> slots;
+
+        private FingerprintStats(String fingerprint, int windowMinutes) {
+            this.fingerprint = fingerprint;
+            this.slots = new AtomicReferenceArray<>(windowMinutes);
+        }
+
+        private MinuteSlot slot(long minute) {
+            int index = (int) (minute % slots.length());
+            while (true) {
+                MinuteSlot slot = slots.get(index);
+                if (slot != null && slot.minute == minute) {
+                    return slot;
+                }
+                MinuteSlot fresh = new MinuteSlot(minute);
+                if (slots.compareAndSet(index, slot, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+    }
+
+    private static final class MinuteSlot {
+
+        private final long minute;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private MinuteSlot(long minute) {
+            this.minute = minute;
+        }
+    }
+
+    @Autowired
+    public SlowQueryMonitor(@Value("${workflex.slow-query.threshold-ms:100}") long thresholdMillis,
+                            @Value("${workflex.slow-query.samples:20}") int sampleSize,
+                            @Value("${workflex.slow-query.max-fingerprints:500}") int maxFingerprints,
+                            @Value("${workflex.slow-query.window-minutes:15}") int windowMinutes) {
+        this(thresholdMillis, sampleSize, maxFingerprints, windowMinutes, Clock.systemUTC());
+    }
+
+    SlowQueryMonitor(long thresholdMillis, int sampleSize, int maxFingerprints, int windowMinutes, Clock clock) {
+        if (windowMinutes < 1) {
+            throw new IllegalArgumentException("workflex.slow-query.window-minutes must be at least 1");
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleSize = sampleSize;
+        this.maxFingerprints = maxFingerprints;
+        this.windowMinutes = windowMinutes;
+        this.clock = clock;
+    }
+
+    /**
+     * Records one execution. {@code parameters} holds the bind values by position, starting at 0, and is
+     * only read when the statement is retained as a sample.
+     */
+    public void record(String sql, long elapsedNanos, List<?> parameters) {
+        FingerprintStats stats = statsFor(sql);
+        MinuteSlot slot = stats.slot(currentMinute());
+        slot.count.increment();
+        slot.totalNanos.add(elapsedNanos);
+        slot.maxNanos.accumulate(elapsedNanos);
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        slot.slowCount.increment();
+        if (sampleSize > 0 && elapsedNanos > sampleFloorNanos) {
+            retain(new Sample(stats.fingerprint, sql, render(parameters), elapsedNanos, caller(), Instant.now()));
+        }
+    }
+
+    // Statistics over the last windowMinutes minutes, including the current one
+    public List<SqlStatsResponseDTO> getStats() {
+        long oldestMinute = currentMinute() - windowMinutes + 1;
+        return statsByFingerprint.values().stream()
+                .map(stats -> toDTO(stats, oldestMinute))
+                .filter(dto -> dto.getCount() > 0)
+                .sorted(Comparator.comparingDouble(SqlStatsResponseDTO::getTotalMillis).reversed())
+                .toList();
+    }
+
+    public List<SlowQueryResponseDTO> getSlowest() {
+        List<Sample> samples;
+        samplesLock.lock();
+        try {
+            samples = new ArrayList<>(slowest);
+        } finally {
+            samplesLock.unlock();
+        }
+        samples.sort(Comparator.comparingLong(Sample::elapsedNanos).reversed());
+        return samples.stream()
+                .map(sample -> new SlowQueryResponseDTO(sample.fingerprint(), sample.sql(), sample.parameters(),
+                        toMillis(sample.elapsedNanos()), sample.caller(), sample.capturedAt()))
+                .toList();
+    }
+
+    public void reset() {
+        samplesLock.lock();
+        try {
+            statsBySql.clear();
+            statsByFingerprint.clear();
+            slowest.clear();
+            sampleFloorNanos = -1;
+        } finally {
+            samplesLock.unlock();
+        }
+    }
+
+    private FingerprintStats statsFor(String sql) {
+        FingerprintStats stats = statsBySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        if (statsByFingerprint.size() >= maxFingerprints && !statsByFingerprint.containsKey(fingerprint)) {
+            fingerprint = OTHER_FINGERPRINT;
+        }
+        stats = statsByFingerprint.computeIfAbsent(fingerprint, key -> new FingerprintStats(key, windowMinutes));
+        // SQL built with inline literals would otherwise grow this map without bound
+        if (statsBySql.size() < maxFingerprints * 4) {
+            statsBySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    private void retain(Sample sample) {
+        samplesLock.lock();
+        try {
+            if (slowest.size() == sampleSize && sample.elapsedNanos() <= slowest.peek().elapsedNanos()) {
+                return;
+            }
+            slowest.add(sample);
+            if (slowest.size() > sampleSize) {
+                slowest.poll();
+            }
+            if (slowest.size() == sampleSize) {
+                sampleFloorNanos = slowest.peek().elapsedNanos();
+            }
+        } finally {
+            samplesLock.unlock();
+        }
+    }
+
+    // The innermost application frame outside this package: the service, resolver or writer behind the statement
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(METRICS_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private static List<String> render(List<?> parameters) {
+        List<String> rendered = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            String value = parameter instanceof byte[] bytes ? "<" + bytes.length + " bytes>" : String.valueOf(parameter);
+            rendered.add(value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value);
+        }
+        return rendered;
+    }
+
+    private long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+    }
+
+    private static SqlStatsResponseDTO toDTO(FingerprintStats stats, long oldestMinute) {
+        long count = 0;
+        long slowCount = 0;
+        long totalNanos = 0;
+        long maxNanos = 0;
+        for (int i = 0; i < stats.slots.length(); i++) {
+            MinuteSlot slot = stats.slots.get(i);
+            if (slot == null || slot.minute < oldestMinute) {
+                continue;
+            }
+            count += slot.count.sum();
+            slowCount += slot.slowCount.sum();
+            totalNanos += slot.totalNanos.sum();
+            maxNanos = Math.max(maxNanos, slot.maxNanos.get());
+        }
+        return new SqlStatsResponseDTO(stats.fingerprint, count, slowCount, toMillis(totalNanos),
+                count == 0 ? 0 : toMillis(totalNanos / count), toMillis(maxNanos));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
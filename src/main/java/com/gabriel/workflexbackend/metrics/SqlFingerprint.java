@@ -0,0 +1,27 @@
+package com.gabriel.workflexbackend.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape, so that statements differing only in literals or in the length of
+ * an {@code IN} list are counted together: string and number literals become {@code ?}, any list of
+ * placeholders in parentheses becomes {@code (?...)} and runs of whitespace become one space.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    // Digits inside identifiers, like Hibernate's w1_0 aliases, are left alone
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = PLACEHOLDER_LIST.matcher(fingerprint).replaceAll("(?...)");
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+    }
+}
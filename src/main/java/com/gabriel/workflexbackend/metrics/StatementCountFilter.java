@@ -0,0 +1,44 @@
+package com.gabriel.workflexbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many statements Hibernate prepared for each request, per method and URI template, as
+ * {@code workflex.request.statements}. A sudden rise on one endpoint usually means an N+1 select.
+ * Work a request hands to another thread, like a streaming export, is not included.
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("workflex.request.statements")
+                    .description("SQL statements prepared by Hibernate per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(StatementCounter.current());
+        }
+    }
+}
@@ -11,10 +11,20 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor // Required for JPA/Hibernate
 @AllArgsConstructor
+@Table(indexes = {
+        // Backs keyset pagination, which seeks and orders on (start, id)
+        @Index(name = "idx_workation_start_id", columnList = "start, id"),
+        // Search filters: the selective equality filters lead an index, followed by start for the date range
+        // and ordering. Origin (a handful of home countries) and risk (three values) are residual filters.
+        @Index(name = "idx_workation_employee_start", columnList = "employee_id, start"),
+        @Index(name = "idx_workation_destination_start", columnList = "destination, start")
+})
 public class Workation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workation_seq")
+    @SequenceGenerator(name = "workation_seq", sequenceName = "workation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,244 @@
+package com.gabriel.workflexbackend.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.gabriel.workflexbackend.exception.UnsupportedYearException;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.CsvValues;
+import com.gabriel.workflexbackend.service.DataVersion;
+import com.gabriel.workflexbackend.workingdays.WorkingDayCalendar;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Yearly compliance report: for every employee, the countries visited, trips, working days and highest
+ * risk within one calendar year.
+ * <p>
+ * The data comes from two projection queries run in one read-only transaction, all employees and the
+ * year's trips ordered by employee, so no entities or lazy associations are loaded. Each employee's trips
+ * are then a contiguous slice, and ranges of employees are summarized in parallel on the fork/join pool.
+ * Finished reports are cached per year against the {@link DataVersion} and reused until a write bumps it;
+ * only a few years are kept, and years the working-day calendars don't cover are refused.
+ */
+@Slf4j
+@Service
+public class ComplianceReportService {
+
+    public static final String CSV_HEADER = "employeeId,employee,year,countries,trips,workingDays,highestRisk";
+
+    private static final int EMPLOYEES_PER_TASK = 512;
+
+    private record CachedReport(long version, List<EmployeeYearSummary> rows) {
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final WorkationRepository workationRepository;
+    private final DataVersion dataVersion;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Integer, CachedReport> reports;
+
+    public ComplianceReportService(EmployeeRepository employeeRepository,
+                                   WorkationRepository workationRepository,
+                                   DataVersion dataVersion,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${workflex.report.cached-years:5}") int cachedYears) {
+        this.employeeRepository = employeeRepository;
+        this.workationRepository = workationRepository;
+        this.dataVersion = dataVersion;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reports = Caffeine.newBuilder().maximumSize(cachedYears).build();
+    }
+
+    /**
+     * Refuses years outside the range the working-day calendars support, before anything is streamed.
+     */
+    public static void requireSupportedYear(int year) {
+        if (!WorkingDayCalendar.isSupported(year)) {
+            throw new UnsupportedYearException("Compliance reports are only available for years "
+                    + WorkingDayCalendar.MIN_YEAR + " to " + WorkingDayCalendar.MAX_YEAR);
+        }
+    }
+
+    public List<EmployeeYearSummary> getReport(int year) {
+        requireSupportedYear(year);
+        // Read the version before loading: if a write lands mid-load the report is tagged stale and rebuilt next time
+        long version = dataVersion.current();
+        CachedReport cached = reports.getIfPresent(year);
+        if (cached != null && cached.version() == version) {
+            return cached.rows();
+        }
+        List<EmployeeYearSummary> rows = generate(year);
+        reports.put(year, new CachedReport(version, rows));
+        return rows;
+    }
+
+    public long cachedYears() {
+        reports.cleanUp();
+        return reports.estimatedSize();
+    }
+
+    /**
+     * Writes the report for {@code year} to {@code out} and returns the number of employees written.
+     */
+    public long write(int year, ReportFormat format, OutputStream out) throws IOException {
+        List<EmployeeYearSummary> rows = getReport(year);
+        if (format == ReportFormat.JSON) {
+            try (SequenceWriter writer = objectMapper.writerFor(EmployeeYearSummary.class).writeValuesAsArray(out)) {
+                writer.writeAll(rows);
+            }
+            return rows.size();
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (EmployeeYearSummary row : rows) {
+            writer.write(String.valueOf(row.employeeId()));
+            writer.write(',');
+            writer.write(CsvValues.escape(row.employee()));
+            writer.write(',');
+            writer.write(String.valueOf(row.year()));
+            writer.write(',');
+            writer.write(CsvValues.escape(String.join(";", row.countries())));
+            writer.write(',');
+            writer.write(String.valueOf(row.trips()));
+            writer.write(',');
+            writer.write(String.valueOf(row.workingDays()));
+            writer.write(',');
+            writer.write(row.highestRisk() != null ? row.highestRisk().name() : "");
+            writer.write('\n');
+        }
+        writer.flush();
+        return rows.size();
+    }
+
+    private List<EmployeeYearSummary> generate(int year) {
+        long startedAt = System.nanoTime();
+        LocalDate first = LocalDate.of(year, 1, 1);
+        LocalDate last = LocalDate.of(year, 12, 31);
+        record Snapshot(List<EmployeeName> employees, List<WorkationInterval> trips) {
+        }
+        Snapshot snapshot = readOnlyTransaction.execute(status -> new Snapshot(employeeRepository.findAllNames(),
+                workationRepository.findIntervalsBetween(first.atStartOfDay(), last.atTime(23, 59, 59))));
+
+        // Both lists are ordered by employee id, so one merge pass finds each employee's slice of trips
+        List<EmployeeName> employees = snapshot.employees();
+        List<WorkationInterval> trips = snapshot.trips();
+        int[] tripsFrom = new int[employees.size()];
+        int[] tripsTo = new int[employees.size()];
+        int trip = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            long employeeId = employees.get(i).id();
+            while (trip < trips.size() && trips.get(trip).employeeId() < employeeId) {
+                trip++;
+            }
+            tripsFrom[i] = trip;
+            while (trip < trips.size() && trips.get(trip).employeeId() == employeeId) {
+                trip++;
+            }
+            tripsTo[i] = trip;
+        }
+
+        EmployeeYearSummary[] rows = new EmployeeYearSummary[employees.size()];
+        ForkJoinPool.commonPool().invoke(new SummarizeTask(year, employees, trips, tripsFrom, tripsTo, rows, 0, rows.length));
+        log.info("Generated {} compliance report: {} employees, {} trips in {} ms", year, rows.length, trips.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return List.of(rows);
+    }
+
+    private static EmployeeYearSummary summarize(int year, EmployeeName employee, List<WorkationInterval> trips, int from, int to) {
+        LocalDate first = LocalDate.of(year, 1, 1);
+        LocalDate last = LocalDate.of(year, 12, 31);
+        TreeSet<String> countries = new TreeSet<>();
+        long workingDays = 0;
+        RiskEnum highestRisk = null;
+        for (int i = from; i < to; i++) {
+            WorkationInterval trip = trips.get(i);
+            if (trip.destination() != null) {
+                countries.add(trip.destination());
+            }
+            workingDays += workingDaysWithin(trip, first, last);
+            // Risks are declared from highest to lowest
+            if (trip.risk() != null && (highestRisk == null || trip.risk().ordinal() < highestRisk.ordinal())) {
+                highestRisk = trip.risk();
+            }
+        }
+        return new EmployeeYearSummary(employee.id(), employee.name(), year, List.copyOf(countries), to - from,
+                workingDays, highestRisk);
+    }
+
+    // The trip's working days that fall inside [first, last], split pro rata by calendar day like the analytics cube
+    private static long workingDaysWithin(WorkationInterval trip, LocalDate first, LocalDate last) {
+        long workingDays = trip.workingDays() == null ? 0 : trip.workingDays();
+        LocalDate start = trip.start().toLocalDate();
+        LocalDate end = trip.end().toLocalDate();
+        if (!start.isBefore(first) && !end.isAfter(last)) {
+            return workingDays;
+        }
+        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
+        long daysBefore = start.isBefore(first) ? ChronoUnit.DAYS.between(start, first) : 0;
+        long daysWithin = ChronoUnit.DAYS.between(start.isBefore(first) ? first : start, end.isAfter(last) ? last : end) + 1;
+        return workingDays * (daysBefore + daysWithin) / totalDays - workingDays * daysBefore / totalDays;
+    }
+
+    private static final class SummarizeTask extends RecursiveAction {
+
+        private final int year;
+        private final List<EmployeeName> employees;
+        private final List<WorkationInterval> trips;
+        private final int[] tripsFrom;
+        private final int[] tripsTo;
+        private final EmployeeYearSummary[] rows;
+        private final int from;
+        private final int to;
+
+        SummarizeTask(int year, List<EmployeeName> employees, List<WorkationInterval> trips, int[] tripsFrom,
+                      int[] tripsTo, EmployeeYearSummary[] rows, int from, int to) {
+            this.year = year;
+            this.employees = employees;
+            this.trips = trips;
+            this.tripsFrom = tripsFrom;
+            this.tripsTo = tripsTo;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= EMPLOYEES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    rows[i] = summarize(year, employees.get(i), trips, tripsFrom[i], tripsTo[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SummarizeTask(year, employees, trips, tripsFrom, tripsTo, rows, from, middle),
+                    new SummarizeTask(year, employees, trips, tripsFrom, tripsTo, rows, middle, to));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.gabriel.workflexbackend.report;
+
+public record EmployeeName(Long id, String name) {
+}
@@ -0,0 +1,13 @@
+package com.gabriel.workflexbackend.report;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.util.List;
+
+/**
+ * One employee's line of the yearly compliance report. Trips crossing the year boundary count with the
+ * days and pro rata working days that fall inside the year.
+ */
+public record EmployeeYearSummary(long employeeId, String employee, int year, List<String> countries, int trips,
+                                  long workingDays, RiskEnum highestRisk) {
+}
@@ -0,0 +1,32 @@
+package com.gabriel.workflexbackend.report;
+
+import java.util.Locale;
+
+public enum ReportFormat {
+    JSON("application/json", "json"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ReportFormat fromParameter(String format) {
+        try {
+            return ReportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unsupported report format: " + format);
+        }
+    }
+}
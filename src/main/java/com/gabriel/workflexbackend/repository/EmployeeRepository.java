@@ -1,9 +1,30 @@
 package com.gabriel.workflexbackend.repository;
 
 import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.report.EmployeeName;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    Optional<Employee> findByName(String name);
+
+    List<Employee> findByNameIn(Collection<String> names);
+
+    // Every employee's id and name without loading entities, in id order
+    @Query("select new com.gabriel.workflexbackend.report.EmployeeName(e.id, e.name) from Employee e order by e.id")
+    List<EmployeeName> findAllNames();
+
+    // One statement instead of the load-then-delete of deleteById; the caller removes the workations first
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") Long id);
 }
@@ -1,9 +1,118 @@
 package com.gabriel.workflexbackend.repository;
 
+import com.gabriel.workflexbackend.index.WorkationInterval;
 import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.risk.WorkationRiskRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface WorkationRepository extends JpaRepository<Workation, Long> {
+public interface WorkationRepository extends JpaRepository<Workation, Long>, JpaSpecificationExecutor<Workation> {
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    // Fetch the employee in the same select so mapping to the DTO doesn't trigger one query per row
+    @EntityGraph(attributePaths = "employee")
+    @Query("select w from Workation w")
+    List<Workation> findAllWithEmployee();
+
+    @EntityGraph(attributePaths = "employee")
+    @Query("select w from Workation w where w.id = :id")
+    Optional<Workation> findWithEmployeeById(@Param("id") Long id);
+
+    // Keyset pagination on (start, id): seeks past the cursor instead of skipping rows with OFFSET
+    @EntityGraph(attributePaths = "employee")
+    @Query("select w from Workation w order by w.start, w.id")
+    List<Workation> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = "employee")
+    @Query("select w from Workation w where w.start > :start or (w.start = :start and w.id > :id) order by w.start, w.id")
+    List<Workation> findPageAfter(@Param("start") LocalDateTime start, @Param("id") Long id, Limit limit);
+
+    // Chunked full-table walks for recalculation jobs, keyed on the primary key, reading only the rule columns
+    @Query("select new com.gabriel.workflexbackend.risk.WorkationRiskRow(w.id, w.origin, w.destination, w.start, w.end, w.workingDays, w.risk) "
+            + "from Workation w where w.id > :afterId order by w.id")
+    List<WorkationRiskRow> findRiskRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select min(w.id) from Workation w")
+    Long findMinId();
+
+    @Query("select max(w.id) from Workation w")
+    Long findMaxId();
+
+    // Risk re-scoring reads only the columns the rules look at, for a half-open primary key range
+    @Query("select new com.gabriel.workflexbackend.risk.WorkationRiskRow(w.id, w.origin, w.destination, w.start, w.end, w.workingDays, w.risk) "
+            + "from Workation w where w.id >= :fromId and w.id < :toId")
+    List<WorkationRiskRow> findRiskRowsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // One year's trips for the compliance report, as projections ordered so each employee's rows are contiguous
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select new com.gabriel.workflexbackend.index.WorkationInterval(w.id, w.employee.id, w.destination, w.start, w.end, "
+            + "w.risk, w.workingDays) "
+            + "from Workation w where w.employee is not null and w.start <= :to and w.end >= :from order by w.employee.id")
+    List<WorkationInterval> findIntervalsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Writes that publish a row's previous state read it with a row lock, so a concurrent write to the same
+    // row waits for this transaction instead of changing the row between the read and the write
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Workation w where w.id in :ids")
+    List<Workation> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    // The rows about to be deleted, locked, so the in-memory indexes can be told exactly what went away
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.gabriel.workflexbackend.index.WorkationInterval(w.id, w.employee.id, w.destination, w.start, w.end, "
+            + "w.risk, w.workingDays) "
+            + "from Workation w where w.id in :ids")
+    List<WorkationInterval> findIntervalsForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Workation w where w.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Retention cleanup: start <= end, so bounding start as well lets the delete seek on the (start, id) index
+    @Modifying
+    @Query("delete from Workation w where w.start < :before and w.end < :before")
+    int deleteEndedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from Workation w where w.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Forward-only, read-only cursor for exports: rows are pulled from the driver in fetch-size chunks
+    // and never dirty-checked. Must be consumed inside a transaction and closed by the caller. Left join, so
+    // workations without an employee are exported too.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select w from Workation w left join fetch w.employee order by w.id")
+    Stream<Workation> streamAllForExport();
+
+    // Trips per employee for the in-memory indexes, streamed without loading entities
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.gabriel.workflexbackend.index.WorkationInterval(w.id, w.employee.id, w.destination, w.start, w.end, "
+            + "w.risk, w.workingDays) "
+            + "from Workation w where w.employee is not null and w.start is not null and w.end is not null")
+    Stream<WorkationInterval> streamIntervals();
 }
@@ -0,0 +1,132 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Risk rules compiled into a country-pair matrix.
+ * <p>
+ * Every country named in the rules or groups gets a small integer index, with index 0 standing for
+ * any other country. Cell {@code [origin * size + destination]} holds the rules that apply to that
+ * pair, already ordered by precedence, as parallel primitive arrays. Evaluating a trip is two hash
+ * lookups plus a scan over the handful of thresholds in one cell.
+ */
+public final class CompiledRiskRules {
+
+    private static final RiskEnum[] RISKS = RiskEnum.values();
+
+    private final Map<String, Integer> countryIndex;
+    private final int size;
+    private final int[][] maxDurationDays;
+    private final int[][] maxWorkingDays;
+    private final byte[][] risks;
+    private final RiskEnum fallback;
+
+    private CompiledRiskRules(Map<String, Integer> countryIndex, int size, int[][] maxDurationDays,
+                              int[][] maxWorkingDays, byte[][] risks, RiskEnum fallback) {
+        this.countryIndex = countryIndex;
+        this.size = size;
+        this.maxDurationDays = maxDurationDays;
+        this.maxWorkingDays = maxWorkingDays;
+        this.risks = risks;
+        this.fallback = fallback;
+    }
+
+    public static CompiledRiskRules compile(List<RiskRule> rules, Map<String, Set<String>> groups, RiskEnum fallback) {
+        Map<String, Integer> countryIndex = new HashMap<>();
+        List<String> countries = new ArrayList<>();
+        countries.add(RiskRule.ANY);
+        groups.values().forEach(members -> members.forEach(country -> register(country, countryIndex, countries)));
+        for (RiskRule rule : rules) {
+            for (String selector : List.of(rule.origin(), rule.destination())) {
+                if (RiskRule.specificity(selector) == 2) {
+                    register(selector, countryIndex, countries);
+                } else if (RiskRule.specificity(selector) == 1 && !groups.containsKey(key(selector.substring(1)))) {
+                    throw new IllegalArgumentException("Unknown country group in risk rules: " + selector);
+                }
+            }
+        }
+
+        // Stable sort keeps file order among rules of equal specificity
+        List<RiskRule> ordered = new ArrayList<>(rules);
+        ordered.sort(Comparator.comparingInt((RiskRule rule) -> rule.specificity()).reversed());
+
+        int size = countries.size();
+        int[][] maxDurationDays = new int[size * size][];
+        int[][] maxWorkingDays = new int[size * size][];
+        byte[][] risks = new byte[size * size][];
+        for (int origin = 0; origin < size; origin++) {
+            for (int destination = 0; destination < size; destination++) {
+                List<RiskRule> cell = new ArrayList<>();
+                for (RiskRule rule : ordered) {
+                    if (matches(rule.origin(), countries.get(origin), origin, groups)
+                            && matches(rule.destination(), countries.get(destination), destination, groups)) {
+                        cell.add(rule);
+                    }
+                }
+                int index = origin * size + destination;
+                maxDurationDays[index] = cell.stream().mapToInt(RiskRule::maxDurationDays).toArray();
+                maxWorkingDays[index] = cell.stream().mapToInt(RiskRule::maxWorkingDays).toArray();
+                risks[index] = new byte[cell.size()];
+                for (int i = 0; i < cell.size(); i++) {
+                    risks[index][i] = (byte) cell.get(i).risk().ordinal();
+                }
+            }
+        }
+        return new CompiledRiskRules(Map.copyOf(countryIndex), size, maxDurationDays, maxWorkingDays, risks, fallback);
+    }
+
+    public RiskEnum evaluate(String origin, String destination, long durationDays, long workingDays) {
+        int index = indexOf(origin) * size + indexOf(destination);
+        int[] durationLimits = maxDurationDays[index];
+        int[] workingDayLimits = maxWorkingDays[index];
+        for (int i = 0; i < durationLimits.length; i++) {
+            if (durationDays <= durationLimits[i] && workingDays <= workingDayLimits[i]) {
+                return RISKS[risks[index][i]];
+            }
+        }
+        return fallback;
+    }
+
+    public int countryCount() {
+        return size - 1;
+    }
+
+    private int indexOf(String country) {
+        if (country == null) {
+            return 0;
+        }
+        Integer index = countryIndex.get(key(country));
+        return index == null ? 0 : index;
+    }
+
+    private static boolean matches(String selector, String country, int countryIndex, Map<String, Set<String>> groups) {
+        if (RiskRule.ANY.equals(selector)) {
+            return true;
+        }
+        if (countryIndex == 0) {
+            return false; // unknown countries only match wildcards
+        }
+        if (selector.startsWith(RiskRule.GROUP_PREFIX)) {
+            return groups.get(key(selector.substring(1))).contains(key(country));
+        }
+        return key(selector).equals(key(country));
+    }
+
+    private static void register(String country, Map<String, Integer> countryIndex, List<String> countries) {
+        if (countryIndex.putIfAbsent(key(country), countries.size()) == null) {
+            countries.add(country);
+        }
+    }
+
+    static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gabriel.workflexbackend.risk;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one background risk re-scoring run. Counters are updated by the chunk workers while
+ * clients poll them.
+ */
+@Getter
+public class RescoreJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final long rulesVersion;
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    // Rows changed by someone else between being read and re-scored, left as they were
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong chunksDone = new AtomicLong();
+
+    @Setter
+    private volatile long chunksTotal;
+    @Setter
+    private volatile RescoreJobStatus status = RescoreJobStatus.QUEUED;
+    @Setter
+    private volatile Instant startedAt;
+    @Setter
+    private volatile Instant finishedAt;
+    @Setter
+    private volatile String error;
+
+    public RescoreJob(long rulesVersion) {
+        this.rulesVersion = rulesVersion;
+    }
+
+    public boolean isFinished() {
+        return status == RescoreJobStatus.COMPLETED || status == RescoreJobStatus.FAILED
+                || status == RescoreJobStatus.CANCELLED;
+    }
+
+    public boolean isCancelled() {
+        return status == RescoreJobStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,9 @@
+package com.gabriel.workflexbackend.risk;
+
+public enum RescoreJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
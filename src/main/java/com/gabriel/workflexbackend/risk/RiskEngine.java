@@ -0,0 +1,122 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.importer.CsvLineTokenizer;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Derives a workation's risk from its origin, destination, duration and working days using the rule
+ * table under {@code risk/}. The compiled table is swapped atomically on {@link #reload()}, so
+ * evaluations never see a half-loaded rule set.
+ */
+@Slf4j
+@Component
+public class RiskEngine {
+
+    private final Resource rules;
+    private final Resource groups;
+    private final RiskEnum fallback;
+    private final AtomicLong version = new AtomicLong();
+    // Reloads read files, so they queue on a lock rather than a monitor that pins virtual threads
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile CompiledRiskRules compiled;
+
+    public RiskEngine(@Value("${workflex.risk.rules:classpath:risk/risk-rules.csv}") Resource rules,
+                      @Value("${workflex.risk.groups:classpath:risk/country-groups.csv}") Resource groups,
+                      @Value("${workflex.risk.fallback:HIGH}") RiskEnum fallback) {
+        this.rules = rules;
+        this.groups = groups;
+        this.fallback = fallback;
+        reload();
+    }
+
+    /**
+     * Re-reads the rule files and replaces the compiled table. A broken file leaves the current
+     * table in place.
+     *
+     * @return the version of the newly loaded rules
+     */
+    public long reload() {
+        reloadLock.lock();
+        try {
+            Map<String, Set<String>> groupMembers = new HashMap<>();
+            readCsv(groups, 2, fields -> groupMembers.computeIfAbsent(CompiledRiskRules.key(fields[0]), k -> new HashSet<>())
+                    .add(CompiledRiskRules.key(fields[1])));
+
+            List<RiskRule> ruleList = new ArrayList<>();
+            readCsv(rules, 5, fields -> ruleList.add(new RiskRule(fields[0].trim(), fields[1].trim(),
+                    parseLimit(fields[2]), parseLimit(fields[3]), RiskEnum.valueOf(fields[4].trim().toUpperCase(Locale.ROOT)))));
+
+            compiled = CompiledRiskRules.compile(ruleList, groupMembers, fallback);
+            long loaded = version.incrementAndGet();
+            log.info("Loaded {} risk rules over {} countries (version {})", ruleList.size(), compiled.countryCount(), loaded);
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public RiskEnum evaluate(String origin, String destination, LocalDate start, LocalDate end, int workingDays) {
+        long durationDays = ChronoUnit.DAYS.between(start, end) + 1;
+        return compiled.evaluate(origin, destination, durationDays, workingDays);
+    }
+
+    private static int parseLimit(String value) {
+        String trimmed = value.trim();
+        return RiskRule.ANY.equals(trimmed) ? Integer.MAX_VALUE : Integer.parseInt(trimmed);
+    }
+
+    // Reads comma-separated lines, skipping the header and '#' comments
+    private static void readCsv(Resource resource, int columns, Consumer<String[]> rows) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String[] fields = new String[columns];
+            String line;
+            boolean header = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                try {
+                    if (CsvLineTokenizer.tokenize(line, fields) != columns) {
+                        throw new IllegalArgumentException("expected " + columns + " columns");
+                    }
+                    rows.accept(fields);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid risk rule line in " + resource + ": " + line + " (" + e.getMessage() + ")", e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read risk rules " + resource, e);
+        }
+    }
+}
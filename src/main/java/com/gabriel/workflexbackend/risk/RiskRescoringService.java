@@ -0,0 +1,200 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.config.CacheConfig;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.DataVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Re-scores every workation against the current risk rules in the background.
+ * <p>
+ * The primary key space is cut into fixed-width ranges that run as independent short transactions on
+ * the re-scoring executor, so the job never holds locks on more than a few chunks at a time and API
+ * requests keep being served. Only rows whose risk actually changes are written, in one JDBC batch per
+ * chunk. Each update only applies if the row still holds the values the new risk was computed from, so a
+ * workation edited between the read and the write keeps the risk its own write gave it; such rows are
+ * counted as skipped. Starting a new run cancels the one in progress.
+ */
+@Slf4j
+@Service
+public class RiskRescoringService {
+
+    private static final String UPDATE_RISK_IF_UNCHANGED = "update workation set risk = ? where id = ? "
+            + "and risk is not distinct from ? and origin is not distinct from ? and destination is not distinct from ? "
+            + "and start = ? and end_date = ? and working_days is not distinct from ?";
+
+    private final WorkationRepository workationRepository;
+    private final RiskEngine riskEngine;
+    private final DataVersion dataVersion;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor executor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final AtomicReference<RescoreJob> currentJob = new AtomicReference<>();
+
+    public RiskRescoringService(WorkationRepository workationRepository,
+                                RiskEngine riskEngine,
+                                DataVersion dataVersion,
+                                CacheManager cacheManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Qualifier("riskRescoreExecutor") TaskExecutor executor,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${workflex.risk.rescore-chunk-size:1000}") int chunkSize) {
+        this.workationRepository = workationRepository;
+        this.riskEngine = riskEngine;
+        this.dataVersion = dataVersion;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public RescoreJob start() {
+        RescoreJob job = new RescoreJob(riskEngine.getVersion());
+        RescoreJob previous = currentJob.getAndSet(job);
+        if (previous != null && !previous.isFinished()) {
+            previous.setStatus(RescoreJobStatus.CANCELLED);
+            previous.setFinishedAt(Instant.now());
+        }
+
+        CompletableFuture.supplyAsync(() -> plan(job), executor)
+                .thenCompose(ranges -> CompletableFuture.allOf(ranges.stream()
+                        .map(range -> CompletableFuture.runAsync(() -> rescoreRange(job, range[0], range[1]), executor))
+                        .toArray(CompletableFuture[]::new)))
+                .whenComplete((ignored, failure) -> finish(job, failure));
+        return job;
+    }
+
+    public Optional<RescoreJob> getCurrentJob() {
+        return Optional.ofNullable(currentJob.get());
+    }
+
+    private List<long[]> plan(RescoreJob job) {
+        job.setStartedAt(Instant.now());
+        job.setStatus(RescoreJobStatus.RUNNING);
+        Long minId = workationRepository.findMinId();
+        Long maxId = workationRepository.findMaxId();
+        List<long[]> ranges = new ArrayList<>();
+        if (minId != null) {
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                ranges.add(new long[]{from, from + chunkSize});
+            }
+        }
+        job.setChunksTotal(ranges.size());
+        return ranges;
+    }
+
+    private void rescoreRange(RescoreJob job, long fromId, long toId) {
+        if (job.isCancelled()) {
+            return;
+        }
+        List<Long> updated = transactionTemplate.execute(status -> {
+            List<WorkationRiskRow> rows = workationRepository.findRiskRowsInRange(fromId, toId);
+            List<WorkationRiskRow> changed = new ArrayList<>();
+            List<RiskEnum> newRisks = new ArrayList<>();
+            for (WorkationRiskRow row : rows) {
+                if (row.start() == null || row.end() == null) {
+                    continue;
+                }
+                RiskEnum risk = riskEngine.evaluate(row.origin(), row.destination(), row.start().toLocalDate(),
+                        row.end().toLocalDate(), row.workingDays() == null ? 0 : row.workingDays());
+                if (risk != row.risk()) {
+                    changed.add(row);
+                    newRisks.add(risk);
+                }
+            }
+            job.getScanned().addAndGet(rows.size());
+            if (changed.isEmpty()) {
+                return List.of();
+            }
+
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_RISK_IF_UNCHANGED, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    WorkationRiskRow row = changed.get(i);
+                    ps.setString(1, newRisks.get(i).name());
+                    ps.setLong(2, row.id());
+                    ps.setString(3, row.risk() == null ? null : row.risk().name());
+                    ps.setString(4, row.origin());
+                    ps.setString(5, row.destination());
+                    ps.setTimestamp(6, Timestamp.valueOf(row.start()));
+                    ps.setTimestamp(7, Timestamp.valueOf(row.end()));
+                    ps.setObject(8, row.workingDays(), Types.INTEGER);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return changed.size();
+                }
+            });
+            List<Long> ids = new ArrayList<>(changed.size());
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    ids.add(changed.get(i).id());
+                }
+            }
+            job.getSkipped().addAndGet(changed.size() - ids.size());
+            return ids;
+        });
+
+        if (updated != null && !updated.isEmpty()) {
+            job.getUpdated().addAndGet(updated.size());
+            Cache cache = cacheManager.getCache(CacheConfig.WORKATIONS);
+            if (cache != null) {
+                updated.forEach(cache::evict);
+            }
+            dataVersion.bump();
+        }
+        job.getChunksDone().incrementAndGet();
+    }
+
+    private void finish(RescoreJob job, Throwable failure) {
+        if (job.getUpdated().get() > 0) {
+            // Rows were re-scored behind the back of the in-memory aggregates
+            eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        }
+        if (job.isCancelled()) {
+            log.info("Risk re-scoring {} cancelled after {} rows", job.getId(), job.getScanned().get());
+            return;
+        }
+        if (failure != null) {
+            job.setStatus(RescoreJobStatus.FAILED);
+            job.setError(failure.getMessage());
+            log.error("Risk re-scoring {} failed", job.getId(), failure);
+        } else {
+            job.setStatus(RescoreJobStatus.COMPLETED);
+            log.info("Risk re-scoring {} with rules v{}: scanned {}, updated {}, skipped {}", job.getId(),
+                    job.getRulesVersion(), job.getScanned().get(), job.getUpdated().get(), job.getSkipped().get());
+        }
+        job.setFinishedAt(Instant.now());
+    }
+}
@@ -0,0 +1,23 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+/**
+ * One line of the risk rule table. Limits of {@link Integer#MAX_VALUE} mean "no limit".
+ */
+public record RiskRule(String origin, String destination, int maxDurationDays, int maxWorkingDays, RiskEnum risk) {
+
+    public static final String ANY = "*";
+    public static final String GROUP_PREFIX = "@";
+
+    static int specificity(String selector) {
+        if (ANY.equals(selector)) {
+            return 0;
+        }
+        return selector.startsWith(GROUP_PREFIX) ? 1 : 2;
+    }
+
+    int specificity() {
+        return specificity(origin) + specificity(destination);
+    }
+}
@@ -0,0 +1,12 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a workation that risk evaluation depends on, read without loading the entity.
+ */
+public record WorkationRiskRow(Long id, String origin, String destination, LocalDateTime start, LocalDateTime end,
+                               Integer workingDays, RiskEnum risk) {
+}
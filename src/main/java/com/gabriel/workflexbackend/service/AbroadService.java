@@ -0,0 +1,60 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.AbroadResponseDTO;
+import com.gabriel.workflexbackend.index.AbroadIndex;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AbroadService {
+
+    private final AbroadIndex abroadIndex;
+    private final EmployeeRepository employeeRepository;
+
+    // Trips covering at least one day of [from, to], answered from the in-memory index
+    public List<AbroadResponseDTO> getAbroad(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        List<AbroadResponseDTO> trips = new ArrayList<>();
+        List<Long> tripEmployees = new ArrayList<>();
+        abroadIndex.forEachAbroad(from, to, (workationId, employeeId, destination, startDay, endDay) -> {
+            trips.add(new AbroadResponseDTO(null, abroadIndex.destinationName(destination), workationId,
+                    LocalDate.ofEpochDay(startDay), LocalDate.ofEpochDay(endDay)));
+            tripEmployees.add(employeeId);
+        });
+
+        // Names are looked up once for all distinct employees
+        Set<Long> employeeIds = new HashSet<>(tripEmployees);
+        Map<Long, String> names = employeeRepository.findAllById(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Employee::getName));
+        for (int i = 0; i < trips.size(); i++) {
+            trips.get(i).setEmployee(names.get(tripEmployees.get(i)));
+        }
+        trips.sort(Comparator.comparing(AbroadResponseDTO::getEmployee, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(AbroadResponseDTO::getStart));
+        return trips;
+    }
+
+    public int countAbroad(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return abroadIndex.countAbroad(from, to);
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before its start");
+        }
+    }
+}
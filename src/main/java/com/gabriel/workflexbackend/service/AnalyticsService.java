@@ -0,0 +1,46 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.analytics.AnalyticsCube;
+import com.gabriel.workflexbackend.analytics.CubeDimension;
+import com.gabriel.workflexbackend.analytics.CubeRow;
+import com.gabriel.workflexbackend.dto.response.AnalyticsRowResponseDTO;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    private final AnalyticsCube analyticsCube;
+    private final EmployeeRepository employeeRepository;
+
+    // Totals from the pre-aggregated cube, grouped by the requested dimensions
+    public List<AnalyticsRowResponseDTO> getTotals(YearMonth from, YearMonth to, List<String> groupBy) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before its start");
+        }
+        EnumSet<CubeDimension> dimensions = EnumSet.noneOf(CubeDimension.class);
+        groupBy.stream().filter(dimension -> !dimension.isBlank())
+                .forEach(dimension -> dimensions.add(CubeDimension.fromParameter(dimension)));
+
+        List<CubeRow> rows = analyticsCube.rollup(from, to, dimensions);
+        Map<Long, String> names = dimensions.contains(CubeDimension.EMPLOYEE)
+                ? employeeRepository.findAllById(rows.stream().map(CubeRow::employeeId).filter(Objects::nonNull).distinct().toList())
+                        .stream()
+                        .collect(Collectors.toMap(Employee::getId, Employee::getName))
+                : Map.of();
+        return rows.stream()
+                .map(row -> new AnalyticsRowResponseDTO(row.employeeId() == null ? null : names.get(row.employeeId()),
+                        row.destination(), row.risk(), row.year(), row.month(), row.trips(), row.days(), row.workingDays()))
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.gabriel.workflexbackend.service;
+
+public enum BatchItemStatus {
+    // Written and committed
+    OK,
+    // Update or delete of an id that doesn't exist
+    NOT_FOUND,
+    // Invalid input or an overlap in REJECT mode; nothing was written for this item
+    REJECTED,
+    // The item's chunk failed to commit, so it was rolled back with the rest of its chunk
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.gabriel.workflexbackend.service;
+
+public enum BatchOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,38 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.CacheStatsResponseDTO;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+    private final EmployeeResolver employeeResolver;
+    private final WorkationListCache workationListCache;
+
+    public List<CacheStatsResponseDTO> getCacheStats() {
+        List<CacheStatsResponseDTO> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                result.add(toDTO(name, nativeCache.stats(), nativeCache.estimatedSize()));
+            }
+        }
+        result.add(toDTO("employeesByName", employeeResolver.stats(), employeeResolver.size()));
+        result.add(new CacheStatsResponseDTO("workationList", workationListCache.getHits(),
+                workationListCache.getMisses(), 0, workationListCache.getSize()));
+        return result;
+    }
+
+    private static CacheStatsResponseDTO toDTO(String name, CacheStats stats, long size) {
+        return new CacheStatsResponseDTO(name, stats.hitCount(), stats.missCount(), stats.evictionCount(), size);
+    }
+}
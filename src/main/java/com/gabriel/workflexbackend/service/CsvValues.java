@@ -0,0 +1,24 @@
+package com.gabriel.workflexbackend.service;
+
+/**
+ * Renders values as RFC 4180 CSV fields for the exports and reports.
+ */
+public final class CsvValues {
+
+    private CsvValues() {
+    }
+
+    /**
+     * Returns {@code value} as a CSV field: empty for null, and double-quoted with "" escapes when it
+     * contains a comma, a quote or a line break.
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
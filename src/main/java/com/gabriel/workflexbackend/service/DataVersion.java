@@ -0,0 +1,35 @@
+package com.gabriel.workflexbackend.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter bumped on every write to workations or employees. Anything derived from the whole
+ * data set (list snapshots, reports) can be cached against it and reused while it stays the same.
+ */
+@Component
+public class DataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    // Inside a transaction the bump waits for commit, so readers never cache a version that gets rolled back
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+}
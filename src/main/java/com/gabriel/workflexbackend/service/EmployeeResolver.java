@@ -0,0 +1,247 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.importer.PooledSequenceAllocator;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves employee names to employees, creating them on first use.
+ * <p>
+ * Lookups go through a bounded cache keyed by name that only ever holds committed employees. A new employee
+ * is inserted in the caller's transaction, on the connection it already holds, and cached once that
+ * transaction commits; if it rolls back, the employee goes with it. Until then the same transaction finds
+ * it again by name. Two transactions inserting the same name meet on the unique index: the loser's insert
+ * is rolled back to a savepoint, leaving its transaction usable, and it reads the winner's employee instead.
+ */
+@Component
+public class EmployeeResolver {
+
+    private static final String INSERT_EMPLOYEE = "insert into employee (id, name) values (?, ?)";
+
+    // Must match the allocationSize of the Employee @SequenceGenerator mapping
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequenceAllocator employeeIdAllocator;
+    private final Cache<String, Employee> employeesByName;
+
+    public EmployeeResolver(EmployeeRepository employeeRepository,
+                            JdbcTemplate jdbcTemplate,
+                            EntityManagerFactory entityManagerFactory,
+                            @Value("${workflex.employee-cache.max-size:10000}") long maxSize) {
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.employeeIdAllocator = new PooledSequenceAllocator(jdbcTemplate,
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                        .getSequenceSupport().getSequenceNextValString("employee_seq"),
+                SEQUENCE_ALLOCATION_SIZE);
+        this.employeesByName = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+    }
+
+    public Employee resolve(String name) {
+        String key = key(name);
+        Employee known = lookup(key);
+        if (known != null) {
+            return known;
+        }
+        Employee employee = new Employee(employeeIdAllocator.next(), key);
+        try {
+            insert(List.of(employee));
+        } catch (DataIntegrityViolationException e) {
+            // Someone else inserted the same name between our lookup and insert
+            return employeeRepository.findByName(key).map(this::cache).orElseThrow(() -> e);
+        }
+        return employee;
+    }
+
+    /**
+     * Resolves many names at once, keyed by trimmed name: cached names are served from the cache, the rest
+     * are looked up in one query and the missing ones inserted together in one batch.
+     */
+    public Map<String, Employee> resolveAll(Collection<String> names) {
+        Map<String, Employee> resolved = new HashMap<>();
+        Map<String, Employee> pending = pendingEmployees();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            String key = key(name);
+            Employee known = employeesByName.getIfPresent(key);
+            if (known == null) {
+                known = pending.get(key);
+            }
+            if (known != null) {
+                resolved.put(key, known);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        for (Employee employee : employeeRepository.findByNameIn(missing)) {
+            missing.remove(employee.getName());
+            resolved.put(employee.getName(), cache(employee));
+        }
+        if (!missing.isEmpty()) {
+            List<Employee> created = new ArrayList<>(missing.size());
+            missing.forEach(name -> created.add(new Employee(employeeIdAllocator.next(), name)));
+            try {
+                insert(created);
+                created.forEach(employee -> resolved.put(employee.getName(), employee));
+            } catch (DataIntegrityViolationException e) {
+                // Another writer inserted some of these names first; fall back to resolving them one by one
+                missing.forEach(name -> resolved.put(name, resolve(name)));
+            }
+        }
+        return resolved;
+    }
+
+    // Looks a name up without creating it; only employees that exist are cached
+    public Optional<Employee> find(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lookup(name.trim()));
+    }
+
+    // Evictions inside a transaction wait for it to commit, so a concurrent lookup can't re-cache the old row meanwhile
+    public void evict(String name) {
+        if (name != null) {
+            String key = name.trim();
+            afterCommit(() -> employeesByName.invalidate(key));
+        }
+    }
+
+    // For deletes that only know the id: drops whichever cached name resolved to it
+    public void evictById(Long id) {
+        afterCommit(() -> employeesByName.asMap().values().removeIf(employee -> id.equals(employee.getId())));
+    }
+
+    public void evictAll() {
+        employeesByName.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return employeesByName.stats();
+    }
+
+    public long size() {
+        return employeesByName.estimatedSize();
+    }
+
+    private static String key(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Employee name is required");
+        }
+        return name.trim();
+    }
+
+    // The cached, uncommitted or stored employee with this name, or null
+    private Employee lookup(String key) {
+        Employee cached = employeesByName.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Employee pending = pendingEmployees().get(key);
+        if (pending != null) {
+            return pending;
+        }
+        // Not inserted by this transaction, so the row is committed and safe to cache
+        return employeeRepository.findByName(key).map(this::cache).orElse(null);
+    }
+
+    private Employee cache(Employee employee) {
+        Employee existing = employeesByName.asMap().putIfAbsent(employee.getName(), employee);
+        return existing != null ? existing : employee;
+    }
+
+    private void insert(List<Employee> employees) {
+        List<Object[]> rows = new ArrayList<>(employees.size());
+        employees.forEach(employee -> rows.add(new Object[]{employee.getId(), employee.getName()}));
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, rows);
+            employees.forEach(this::cache);
+            return;
+        }
+
+        // Some databases abort the whole transaction on a failed statement, so a duplicate name rolls back to here
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, rows);
+            } catch (DataAccessException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+        PendingEmployees pending = (PendingEmployees) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEmployees();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        for (Employee employee : employees) {
+            pending.byName.put(employee.getName(), employee);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Map<String, Employee> pendingEmployees() {
+        PendingEmployees pending = (PendingEmployees) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending.byName : Map.of();
+    }
+
+    // Employees the current transaction inserted, cached only once it commits
+    private final class PendingEmployees implements TransactionSynchronization {
+
+        private final Map<String, Employee> byName = new HashMap<>();
+
+        @Override
+        public void afterCommit() {
+            byName.values().forEach(EmployeeResolver.this::cache);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeResolver.this);
+        }
+    }
+}
@@ -1,39 +1,80 @@
 package com.gabriel.workflexbackend.service;
 
+import com.gabriel.workflexbackend.config.CacheConfig;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
 import com.gabriel.workflexbackend.model.Employee;
 import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("workflex.service")
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final WorkationRepository workationRepository;
+    private final EmployeeResolver employeeResolver;
+    private final DataVersion dataVersion;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#p0")
     public Employee getEmployeeById(Long id) {
         return employeeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + id));
     }
 
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#result.id")
+    @Transactional
     public Employee createEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        dataVersion.bump();
+        return savedEmployee;
     }
 
+    // Workation DTOs embed the employee name, so renames and deletes drop every cached workation
+    @Caching(put = @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#p0"),
+            evict = @CacheEvict(cacheNames = CacheConfig.WORKATIONS, allEntries = true))
+    @Transactional
     public Employee updateEmployee(Long id, Employee employeeDetails) {
         Employee employee = getEmployeeById(id);
+        employeeResolver.evict(employee.getName());
         employee.setName(employeeDetails.getName());
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        dataVersion.bump();
+        return savedEmployee;
     }
 
-    public void deleteEmployee(Long id) {
-        Employee employee = getEmployeeById(id);
-        employeeRepository.delete(employee);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#p0"),
+            @CacheEvict(cacheNames = CacheConfig.WORKATIONS, allEntries = true)
+    })
+    @Transactional
+    public int deleteEmployee(Long id) {
+        // An employee's workations go with them: one bulk statement each, children first, so no rows are loaded
+        int workations = workationRepository.deleteByEmployeeId(id);
+        if (employeeRepository.deleteEmployeeById(id) == 0) {
+            throw new IllegalArgumentException("Employee not found with id: " + id);
+        }
+        employeeResolver.evictById(id); // takes effect once the delete commits
+        if (workations > 0) {
+            eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        }
+        dataVersion.bump();
+        return workations;
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.ResidencyResponseDTO;
+import com.gabriel.workflexbackend.index.ResidencyExposure;
+import com.gabriel.workflexbackend.index.ResidencyMonitor;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ResidencyService {
+
+    private final ResidencyMonitor residencyMonitor;
+    private final EmployeeRepository employeeRepository;
+
+    // Employees approaching or over the residency threshold in the rolling window ending on asOf
+    public List<ResidencyResponseDTO> getExposures(LocalDate asOf) {
+        List<ResidencyExposure> exposures = residencyMonitor.findExposures(asOf);
+        Map<Long, String> names = employeeRepository.findAllById(exposures.stream().map(ResidencyExposure::employeeId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Employee::getId, Employee::getName));
+        return exposures.stream()
+                .map(exposure -> new ResidencyResponseDTO(names.get(exposure.employeeId()), exposure.destination(), exposure.days(),
+                        residencyMonitor.getThresholdDays(), exposure.status(), exposure.windowStart(), exposure.windowEnd()))
+                .toList();
+    }
+}
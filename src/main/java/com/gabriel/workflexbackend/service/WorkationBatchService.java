@@ -0,0 +1,334 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.config.CacheConfig;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchItemResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchRequestDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.exception.UnsupportedYearException;
+import com.gabriel.workflexbackend.exception.WorkationOverlapException;
+import com.gabriel.workflexbackend.index.OverlapIndex;
+import com.gabriel.workflexbackend.index.OverlapMode;
+import com.gabriel.workflexbackend.index.WorkationChangedEvent;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.mapper.WorkationMapper;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many workation writes in one call, for clients syncing trips from another system.
+ * <p>
+ * Deletes run first, then updates, then creates, so a batch can free a slot and fill it again. Each kind is
+ * cut into chunks that commit as their own transaction: updates are loaded with one query per chunk and
+ * flushed as JDBC batches, creates take their ids from the pooled sequence so their inserts batch too, and
+ * deletes are a single set-based statement per chunk. Each chunk resolves the employees of its valid items
+ * in one lookup, inside its own transaction.
+ * <p>
+ * Items are validated one by one and every item gets its own result; an invalid or overlapping item is
+ * skipped without affecting the rest of its chunk. Overlaps are checked against the committed data and
+ * the items already written in the same chunk, in request order.
+ */
+@Slf4j
+@Service
+public class WorkationBatchService {
+
+    private final WorkationRepository workationRepository;
+    private final EmployeeResolver employeeResolver;
+    private final WorkationMapper workationMapper;
+    private final WorkingDaysCalculator workingDaysCalculator;
+    private final RiskEngine riskEngine;
+    private final OverlapIndex overlapIndex;
+    private final DataVersion dataVersion;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public WorkationBatchService(WorkationRepository workationRepository,
+                                 EmployeeResolver employeeResolver,
+                                 WorkationMapper workationMapper,
+                                 WorkingDaysCalculator workingDaysCalculator,
+                                 RiskEngine riskEngine,
+                                 OverlapIndex overlapIndex,
+                                 DataVersion dataVersion,
+                                 CacheManager cacheManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${workflex.batch.chunk-size:500}") int chunkSize,
+                                 @Value("${workflex.batch.max-items:10000}") int maxItems) {
+        this.workationRepository = workationRepository;
+        this.employeeResolver = employeeResolver;
+        this.workationMapper = workationMapper;
+        this.workingDaysCalculator = workingDaysCalculator;
+        this.riskEngine = riskEngine;
+        this.overlapIndex = overlapIndex;
+        this.dataVersion = dataVersion;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public WorkationBatchResponseDTO apply(WorkationBatchRequestDTO request) {
+        List<Long> deletes = request.getDeletes() == null ? List.of() : request.getDeletes();
+        List<WorkationResponseDTO> updates = request.getUpdates() == null ? List.of() : request.getUpdates();
+        List<WorkationResponseDTO> creates = request.getCreates() == null ? List.of() : request.getCreates();
+        int total = deletes.size() + updates.size() + creates.size();
+        if (total > maxItems) {
+            throw new IllegalArgumentException("A batch may hold at most " + maxItems + " items, got " + total);
+        }
+
+        List<WorkationBatchItemResponseDTO> results = new ArrayList<>(total);
+        for (int from = 0; from < deletes.size(); from += chunkSize) {
+            results.addAll(deleteChunk(deletes.subList(from, Math.min(from + chunkSize, deletes.size())), from));
+        }
+
+        Set<Long> updatedIds = new HashSet<>();
+        for (int from = 0; from < updates.size(); from += chunkSize) {
+            results.addAll(writeChunk(BatchOperation.UPDATE, updates.subList(from, Math.min(from + chunkSize, updates.size())),
+                    from, updatedIds));
+        }
+        for (int from = 0; from < creates.size(); from += chunkSize) {
+            results.addAll(writeChunk(BatchOperation.CREATE, creates.subList(from, Math.min(from + chunkSize, creates.size())),
+                    from, updatedIds));
+        }
+
+        Map<BatchOperation, Long> succeeded = results.stream()
+                .filter(result -> result.getStatus() == BatchItemStatus.OK)
+                .collect(Collectors.groupingBy(WorkationBatchItemResponseDTO::getOperation, Collectors.counting()));
+        int created = succeeded.getOrDefault(BatchOperation.CREATE, 0L).intValue();
+        int updated = succeeded.getOrDefault(BatchOperation.UPDATE, 0L).intValue();
+        int deleted = succeeded.getOrDefault(BatchOperation.DELETE, 0L).intValue();
+        log.info("Applied workation batch: {} created, {} updated, {} deleted of {} items", created, updated, deleted, total);
+        return new WorkationBatchResponseDTO(created, updated, deleted, total - created - updated - deleted, results);
+    }
+
+    private List<WorkationBatchItemResponseDTO> deleteChunk(List<Long> ids, int offset) {
+        List<WorkationBatchItemResponseDTO> results = new ArrayList<>(ids.size());
+        return inTransaction(BatchOperation.DELETE, offset, ids, results, () -> {
+            List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+            // Locked, so every row read is still there to delete and the published intervals are current
+            Map<Long, WorkationInterval> existing = requested.isEmpty() ? Map.of()
+                    : workationRepository.findIntervalsForUpdateByIdIn(requested).stream()
+                    .collect(Collectors.toMap(WorkationInterval::id, Function.identity()));
+            if (!existing.isEmpty()) {
+                int removed = workationRepository.deleteByIdIn(existing.keySet());
+                if (removed != existing.size()) {
+                    throw new IllegalStateException("Deleted " + removed + " of " + existing.size() + " workations read");
+                }
+            }
+
+            Cache cache = cacheManager.getCache(CacheConfig.WORKATIONS);
+            Set<Long> deleted = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                Long id = ids.get(i);
+                if (id == null) {
+                    results.add(result(BatchOperation.DELETE, offset + i, null, BatchItemStatus.REJECTED, "Workation id is required"));
+                } else if (!existing.containsKey(id) || !deleted.add(id)) {
+                    results.add(result(BatchOperation.DELETE, offset + i, id, BatchItemStatus.NOT_FOUND, "Workation not found with id: " + id));
+                } else {
+                    eventPublisher.publishEvent(new WorkationChangedEvent(id, existing.get(id), null));
+                    if (cache != null) {
+                        cache.evict(id);
+                    }
+                    results.add(result(BatchOperation.DELETE, offset + i, id, BatchItemStatus.OK, null));
+                }
+            }
+            if (!deleted.isEmpty()) {
+                dataVersion.bump();
+            }
+        });
+    }
+
+    /**
+     * Writes one chunk in its own transaction. Items are validated first; only the employees named by valid
+     * items are then resolved, in the chunk's transaction, so a rejected item or a rolled-back chunk never
+     * leaves an employee behind. {@code updatedIds} holds the ids updated by committed chunks of this batch.
+     */
+    private List<WorkationBatchItemResponseDTO> writeChunk(BatchOperation operation, List<WorkationResponseDTO> items, int offset,
+                                                           Set<Long> updatedIds) {
+        List<WorkationBatchItemResponseDTO> results = new ArrayList<>(items.size());
+        // Created workations only get an id from the chunk that writes them
+        List<Long> itemIds = items.stream()
+                .map(item -> item == null || operation == BatchOperation.CREATE ? null : item.getId())
+                .collect(Collectors.toList());
+        inTransaction(operation, offset, itemIds, results, () -> {
+            Map<Long, Workation> existing = Map.of();
+            if (operation == BatchOperation.UPDATE) {
+                List<Long> ids = items.stream().filter(Objects::nonNull).map(WorkationResponseDTO::getId)
+                        .filter(Objects::nonNull).distinct().toList();
+                existing = ids.isEmpty() ? Map.of() : workationRepository.findAllForUpdateByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Workation::getId, Function.identity()));
+            }
+
+            // Working days of each valid item, or the result rejecting it
+            int[] workingDays = new int[items.size()];
+            WorkationBatchItemResponseDTO[] rejected = new WorkationBatchItemResponseDTO[items.size()];
+            Set<String> names = new HashSet<>();
+            for (int i = 0; i < items.size(); i++) {
+                WorkationResponseDTO item = items.get(i);
+                Long id = item == null ? null : item.getId();
+                if (operation == BatchOperation.UPDATE) {
+                    if (id == null) {
+                        rejected[i] = result(operation, offset + i, null, BatchItemStatus.REJECTED, "Workation id is required");
+                        continue;
+                    }
+                    if (!existing.containsKey(id)) {
+                        rejected[i] = result(operation, offset + i, id, BatchItemStatus.NOT_FOUND, "Workation not found with id: " + id);
+                        continue;
+                    }
+                }
+                try {
+                    if (item == null || item.getEmployee() == null || item.getEmployee().isBlank()) {
+                        throw new IllegalArgumentException("Employee name is required");
+                    }
+                    WorkationService.requireValidDates(item);
+                    workingDays[i] = workingDaysCalculator.countWorkingDays(item.getOrigin(), item.getStart(), item.getEnd());
+                } catch (IllegalArgumentException | UnsupportedYearException e) {
+                    rejected[i] = result(operation, offset + i, id, BatchItemStatus.REJECTED, e.getMessage());
+                    continue;
+                }
+                names.add(item.getEmployee().trim());
+            }
+            Map<String, Employee> employees = names.isEmpty() ? Map.of() : employeeResolver.resolveAll(names);
+
+            Cache cache = cacheManager.getCache(CacheConfig.WORKATIONS);
+            Map<Long, List<WorkationInterval>> written = new HashMap<>();
+            Set<Long> writtenIds = new HashSet<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (rejected[i] != null) {
+                    results.add(rejected[i]);
+                    continue;
+                }
+                WorkationResponseDTO item = items.get(i);
+                Long id = item.getId();
+                Workation workation = null;
+                if (operation == BatchOperation.UPDATE) {
+                    if (updatedIds.contains(id) || writtenIds.contains(id)) {
+                        results.add(result(operation, offset + i, id, BatchItemStatus.REJECTED, "Workation " + id + " is updated more than once in this batch"));
+                        continue;
+                    }
+                    workation = existing.get(id);
+                }
+
+                Employee employee = employees.get(item.getEmployee().trim());
+                List<Long> overlaps = findOverlaps(employee.getId(), item, id, written, writtenIds);
+                if (!overlaps.isEmpty() && overlapIndex.getMode() == OverlapMode.REJECT) {
+                    results.add(result(operation, offset + i, id, BatchItemStatus.REJECTED,
+                            new WorkationOverlapException(employee.getName(), overlaps).getMessage()));
+                    continue;
+                }
+
+                WorkationInterval previous = null;
+                if (workation == null) {
+                    workation = workationMapper.toEntity(item);
+                    workation.setId(null);
+                } else {
+                    previous = WorkationService.toInterval(workation);
+                    workation.setOrigin(item.getOrigin());
+                    workation.setDestination(item.getDestination());
+                    workation.setStart(item.getStart().atStartOfDay());
+                    workation.setEnd(item.getEnd().atTime(23, 59, 59));
+                }
+                workation.setEmployee(employee);
+                workation.setWorkingDays(workingDays[i]);
+                workation.setRisk(riskEngine.evaluate(item.getOrigin(), item.getDestination(), item.getStart(), item.getEnd(), workingDays[i]));
+                // Ids come from the pooled sequence, so the insert itself is deferred to the batched flush at commit
+                Workation saved = workationRepository.save(workation);
+
+                WorkationInterval interval = WorkationService.toInterval(saved);
+                written.computeIfAbsent(employee.getId(), k -> new ArrayList<>()).add(interval);
+                writtenIds.add(saved.getId());
+                eventPublisher.publishEvent(new WorkationChangedEvent(saved.getId(), previous, interval));
+
+                WorkationResponseDTO dto = workationMapper.toDTO(saved);
+                if (cache != null) {
+                    cache.put(saved.getId(), dto);
+                }
+                WorkationBatchItemResponseDTO result = result(operation, offset + i, saved.getId(), BatchItemStatus.OK, null);
+                if (!overlaps.isEmpty()) {
+                    WorkationResponseDTO flagged = workationMapper.toDTO(saved);
+                    flagged.setOverlapsWith(overlaps);
+                    result.setWorkation(flagged);
+                } else {
+                    result.setWorkation(dto);
+                }
+                results.add(result);
+            }
+            if (!writtenIds.isEmpty()) {
+                dataVersion.bump();
+            }
+        });
+
+        // Only updates that committed count against later chunks; a rolled-back chunk reports its items as failed
+        if (operation == BatchOperation.UPDATE) {
+            results.stream().filter(result -> result.getStatus() == BatchItemStatus.OK)
+                    .forEach(result -> updatedIds.add(result.getId()));
+        }
+        return results;
+    }
+
+    // Committed trips come from the index, except those rewritten earlier in this chunk whose new dates are used instead
+    private List<Long> findOverlaps(Long employeeId, WorkationResponseDTO item, Long excludeId,
+                                    Map<Long, List<WorkationInterval>> written, Set<Long> writtenIds) {
+        List<Long> overlaps = new ArrayList<>();
+        for (Long overlap : overlapIndex.findOverlaps(employeeId, item.getStart(), item.getEnd(), excludeId)) {
+            if (!writtenIds.contains(overlap)) {
+                overlaps.add(overlap);
+            }
+        }
+        long startDay = item.getStart().toEpochDay();
+        long endDay = item.getEnd().toEpochDay();
+        for (WorkationInterval interval : written.getOrDefault(employeeId, List.of())) {
+            if (!interval.id().equals(excludeId) && interval.startDay() <= endDay && interval.endDay() >= startDay) {
+                overlaps.add(interval.id());
+            }
+        }
+        return overlaps;
+    }
+
+    // Runs one chunk in its own transaction; if it fails, every item it had written or not yet reached is reported as failed
+    private List<WorkationBatchItemResponseDTO> inTransaction(BatchOperation operation, int offset, List<Long> ids,
+                                                              List<WorkationBatchItemResponseDTO> results, Runnable chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.run());
+            return results;
+        } catch (RuntimeException e) {
+            log.error("Workation batch chunk of {} {} items at index {} failed", ids.size(), operation, offset, e);
+            String error = "Chunk rolled back: " + e.getMessage();
+            results.replaceAll(result -> result.getStatus() != BatchItemStatus.OK ? result
+                    : result(operation, result.getIndex(), ids.get(result.getIndex() - offset), BatchItemStatus.FAILED, error));
+            for (int i = results.size(); i < ids.size(); i++) {
+                results.add(result(operation, offset + i, ids.get(i), BatchItemStatus.FAILED, error));
+            }
+            return results;
+        }
+    }
+
+    private static WorkationBatchItemResponseDTO result(BatchOperation operation, int index, Long id, BatchItemStatus status, String error) {
+        return new WorkationBatchItemResponseDTO(operation, index, id, status, error, null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page, encoded as an opaque URL-safe token for clients.
+ */
+public record WorkationCursor(LocalDateTime start, Long id) {
+
+    public String encode() {
+        String raw = start + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new WorkationCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
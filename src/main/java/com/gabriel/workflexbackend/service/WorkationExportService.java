@@ -0,0 +1,88 @@
+package com.gabriel.workflexbackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.workflexbackend.mapper.WorkationMapper;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class WorkationExportService {
+
+    public static final String CSV_HEADER = "workationId,employee,origin,destination,start,end,workingDays,risk";
+
+    // Rows written between flushes; also how often the persistence context is cleared
+    private static final int FLUSH_EVERY = 500;
+
+    private final WorkationRepository workationRepository;
+    private final WorkationMapper workationMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Streams every workation to {@code out} in the given format and returns the number of rows written.
+     * Memory stays flat: rows come from a forward-only cursor and the session is cleared as we go.
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<Workation> workations = workationRepository.streamAllForExport()) {
+            Iterator<Workation> iterator = workations.iterator();
+            while (iterator.hasNext()) {
+                Workation workation = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, workation);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(workationMapper.toDTO(workation)));
+                    writer.write('\n');
+                }
+
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    // Same layout as static/workations.csv so an export can be imported back
+    private void writeCsvRow(Writer writer, Workation workation) throws IOException {
+        writer.write(String.valueOf(workation.getId()));
+        writer.write(',');
+        writer.write(CsvValues.escape(workation.getEmployee() != null ? workation.getEmployee().getName() : null));
+        writer.write(',');
+        writer.write(CsvValues.escape(workation.getOrigin()));
+        writer.write(',');
+        writer.write(CsvValues.escape(workation.getDestination()));
+        writer.write(',');
+        writer.write(workation.getStart() != null ? workation.getStart().toLocalDate().toString() : "");
+        writer.write(',');
+        writer.write(workation.getEnd() != null ? workation.getEnd().toLocalDate().toString() : "");
+        writer.write(',');
+        writer.write(workation.getWorkingDays() != null ? workation.getWorkingDays().toString() : "");
+        writer.write(',');
+        writer.write(workation.getRisk() != null ? workation.getRisk().name() : "");
+        writer.write('\n');
+    }
+}
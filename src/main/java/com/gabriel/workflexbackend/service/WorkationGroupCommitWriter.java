@@ -0,0 +1,251 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.exception.WorkationOverlapException;
+import com.gabriel.workflexbackend.exception.WriteOutcomeUnknownException;
+import com.gabriel.workflexbackend.exception.WriteQueueFullException;
+import com.gabriel.workflexbackend.index.OverlapIndex;
+import com.gabriel.workflexbackend.index.OverlapMode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional group-commit path for workation creates under burst load.
+ * <p>
+ * Callers put their create on a bounded queue and wait for the result. A single writer thread takes the
+ * first waiting create, gathers more for up to the linger time or until the batch is full, and inserts the
+ * whole batch in one transaction, so a burst of requests pays for one commit instead of one each. Callers
+ * get their persisted workation back only after that commit. An item that fails validation fails alone;
+ * if the batch itself fails to commit, its items are retried one by one through the normal create path.
+ * <p>
+ * Overlaps are checked against committed trips and the creates written earlier in the same batch, like the
+ * batch endpoint does within a chunk. A caller that gives up waiting cancels its create if the writer has
+ * not reached it yet; otherwise its batch may still commit and the caller is told the outcome is unknown.
+ * Disabled by default; when disabled no thread is started.
+ */
+@Slf4j
+@Component
+public class WorkationGroupCommitWriter {
+
+    private record PendingCreate(WorkationResponseDTO workation, CompletableFuture<WorkationResponseDTO> result,
+                                 AtomicBoolean decided) {
+
+        PendingCreate(WorkationResponseDTO workation) {
+            this(workation, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        // Exactly one of the writer (to write it) and the caller (to cancel it) wins
+        boolean claim() {
+            return decided.compareAndSet(false, true);
+        }
+    }
+
+    // A create written earlier in the current batch, for overlap checks
+    private record WrittenTrip(long id, LocalDate start, LocalDate end) {
+    }
+
+    private final WorkationService workationService;
+    private final OverlapIndex overlapIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long timeoutMillis;
+    private final BlockingQueue<PendingCreate> queue;
+    private final AtomicLong batchesCommitted = new AtomicLong();
+    private final AtomicLong itemsCommitted = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public WorkationGroupCommitWriter(WorkationService workationService,
+                                      OverlapIndex overlapIndex,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${workflex.group-commit.enabled:false}") boolean enabled,
+                                      @Value("${workflex.group-commit.batch-size:64}") int batchSize,
+                                      @Value("${workflex.group-commit.linger-ms:2}") long lingerMillis,
+                                      @Value("${workflex.group-commit.queue-capacity:1024}") int queueCapacity,
+                                      @Value("${workflex.group-commit.timeout-ms:10000}") long timeoutMillis) {
+        this.workationService = workationService;
+        this.overlapIndex = overlapIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = enabled ? Thread.ofPlatform().name("workation-group-commit").daemon().start(this::run) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getBatchesCommitted() {
+        return batchesCommitted.get();
+    }
+
+    public long getItemsCommitted() {
+        return itemsCommitted.get();
+    }
+
+    /**
+     * Creates a workation through the shared writer and blocks until its batch has committed.
+     */
+    public WorkationResponseDTO create(WorkationResponseDTO workationDTO) {
+        if (!enabled || !running) {
+            throw new IllegalStateException("Group commit is not enabled");
+        }
+        PendingCreate pending = new PendingCreate(workationDTO);
+        try {
+            if (!queue.offer(pending, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new WriteQueueFullException("Workation write queue is full, try again later");
+            }
+            return pending.result().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the workation to be written", e);
+        } catch (TimeoutException e) {
+            if (pending.claim()) {
+                throw new WriteQueueFullException("Workation was not written within " + timeoutMillis + " ms and was dropped, try again later");
+            }
+            throw new WriteOutcomeUnknownException("Timed out waiting for the workation to be committed; it may still be saved, "
+                    + "check before retrying");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        List<PendingCreate> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("Workation writer is shutting down")));
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                // Linger briefly so a burst of requests shares one commit
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                batch.forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("Workation writer is shutting down")));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Workation group commit failed for {} items", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        List<PendingCreate> written = new ArrayList<>(batch.size());
+        List<WorkationResponseDTO> results = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, List<WrittenTrip>> tripsByEmployee = new HashMap<>();
+                for (PendingCreate pending : batch) {
+                    if (!pending.claim()) {
+                        continue; // its caller gave up before the writer got to it
+                    }
+                    WorkationResponseDTO workation = pending.workation();
+                    WorkationResponseDTO result;
+                    try {
+                        List<Long> batchOverlaps = findBatchOverlaps(workation, tripsByEmployee);
+                        result = workationService.insertWorkation(workation);
+                        if (!batchOverlaps.isEmpty()) {
+                            List<Long> overlaps = new ArrayList<>(result.getOverlapsWith() == null ? List.of() : result.getOverlapsWith());
+                            overlaps.addAll(batchOverlaps);
+                            result.setOverlapsWith(overlaps);
+                        }
+                    } catch (RuntimeException e) {
+                        // Rejected before anything was written for it, the rest of the batch goes ahead
+                        pending.result().completeExceptionally(e);
+                        continue;
+                    }
+                    tripsByEmployee.computeIfAbsent(result.getEmployee(), k -> new ArrayList<>())
+                            .add(new WrittenTrip(result.getId(), result.getStart(), result.getEnd()));
+                    workationService.cacheWritten(result);
+                    written.add(pending);
+                    results.add(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Workation group commit of {} items failed, retrying them one by one", written.size(), e);
+            for (PendingCreate pending : written) {
+                try {
+                    pending.result().complete(workationService.createWorkation(pending.workation()));
+                } catch (RuntimeException retryFailure) {
+                    pending.result().completeExceptionally(retryFailure);
+                }
+            }
+            return;
+        }
+
+        // Only now is every row durable, so callers may see their ids
+        for (int i = 0; i < written.size(); i++) {
+            written.get(i).result().complete(results.get(i));
+        }
+        batchesCommitted.incrementAndGet();
+        itemsCommitted.addAndGet(written.size());
+    }
+
+    // Creates earlier in this batch sharing a day with this one; not committed yet, so the overlap index can't see them
+    private List<Long> findBatchOverlaps(WorkationResponseDTO workation, Map<String, List<WrittenTrip>> tripsByEmployee) {
+        if (workation.getEmployee() == null || workation.getStart() == null || workation.getEnd() == null) {
+            return List.of(); // left to the create's own validation
+        }
+        List<Long> overlaps = new ArrayList<>();
+        for (WrittenTrip trip : tripsByEmployee.getOrDefault(workation.getEmployee().trim(), List.of())) {
+            if (!trip.start().isAfter(workation.getEnd()) && !trip.end().isBefore(workation.getStart())) {
+                overlaps.add(trip.id());
+            }
+        }
+        if (!overlaps.isEmpty() && overlapIndex.getMode() == OverlapMode.REJECT) {
+            throw new WorkationOverlapException(workation.getEmployee().trim(), overlaps);
+        }
+        return overlaps;
+    }
+}
@@ -0,0 +1,62 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the last full workation list together with the {@link DataVersion} it was read at,
+ * and serves it again until some write bumps the version.
+ */
+@Component
+public class WorkationListCache {
+
+    private record Snapshot(long version, List<WorkationResponseDTO> workations) {
+    }
+
+    private final DataVersion dataVersion;
+    private final boolean enabled;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Snapshot snapshot;
+
+    public WorkationListCache(DataVersion dataVersion,
+                              @Value("${workflex.cache.list-snapshot.enabled:true}") boolean enabled) {
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+    }
+
+    public List<WorkationResponseDTO> get(Supplier<List<WorkationResponseDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // Read the version before loading: if a write lands mid-load the snapshot is tagged stale and reloaded next time
+        long version = dataVersion.current();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            hits.increment();
+            return current.workations();
+        }
+        misses.increment();
+        List<WorkationResponseDTO> workations = List.copyOf(loader.get());
+        snapshot = new Snapshot(version, workations);
+        return workations;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.workations().size();
+    }
+}
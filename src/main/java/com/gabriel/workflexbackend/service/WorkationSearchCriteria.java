@@ -0,0 +1,13 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for workation search; null fields are not applied. {@code from}/{@code to} select
+ * workations that lie entirely within the given date range.
+ */
+public record WorkationSearchCriteria(String employee, String origin, String destination, RiskEnum risk,
+                                      LocalDate from, LocalDate to) {
+}
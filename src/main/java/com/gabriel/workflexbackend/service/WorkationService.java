@@ -1,56 +1,204 @@
 package com.gabriel.workflexbackend.service;
 
+import com.gabriel.workflexbackend.config.CacheConfig;
+import com.gabriel.workflexbackend.dto.response.CursorPageResponseDTO;
+import com.gabriel.workflexbackend.dto.response.OverlapConflictResponseDTO;
 import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.exception.InvalidRequestException;
+import com.gabriel.workflexbackend.exception.WorkationOverlapException;
+import com.gabriel.workflexbackend.index.OverlapConflict;
+import com.gabriel.workflexbackend.index.OverlapIndex;
+import com.gabriel.workflexbackend.index.OverlapMode;
+import com.gabriel.workflexbackend.index.WorkationChangedEvent;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
 import com.gabriel.workflexbackend.mapper.WorkationMapper;
 import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
 import com.gabriel.workflexbackend.model.Workation;
 import com.gabriel.workflexbackend.repository.EmployeeRepository;
 import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("workflex.service")
 public class WorkationService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final WorkationRepository workationRepository;
-    private final EmployeeRepository employeeRepository;
+    private final EmployeeResolver employeeResolver;
     private final WorkationMapper workationMapper;
+    private final WorkationListCache workationListCache;
+    private final DataVersion dataVersion;
+    private final WorkingDaysCalculator workingDaysCalculator;
+    private final RiskEngine riskEngine;
+    private final OverlapIndex overlapIndex;
+    private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     public List<WorkationResponseDTO> getAllWorkations() {
-        return workationRepository.findAll().stream()
+        return workationListCache.get(() -> workationRepository.findAllWithEmployee().stream()
+                .map(workationMapper::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    public CursorPageResponseDTO<WorkationResponseDTO> getWorkationPage(String after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to know whether there is a next page without running a COUNT(*)
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<Workation> rows;
+        if (after == null || after.isBlank()) {
+            rows = workationRepository.findFirstPage(fetchLimit);
+        } else {
+            WorkationCursor cursor = WorkationCursor.decode(after);
+            rows = workationRepository.findPageAfter(cursor.start(), cursor.id(), fetchLimit);
+        }
+
+        return toPage(rows, limit);
+    }
+
+    /**
+     * Filters workations by any combination of criteria, paged with the same (start, id) cursor as
+     * {@link #getWorkationPage}. The employee name is resolved to its id through the employee cache so
+     * the query can seek on the (employee_id, start) index without joining the employee table.
+     */
+    public CursorPageResponseDTO<WorkationResponseDTO> searchWorkations(WorkationSearchCriteria criteria, String after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Specification<Workation> spec = WorkationSpecifications.fetchEmployee();
+        if (criteria.employee() != null) {
+            Optional<Employee> employee = employeeResolver.find(criteria.employee());
+            if (employee.isEmpty()) {
+                return new CursorPageResponseDTO<>(List.of(), null, false);
+            }
+            spec = spec.and(WorkationSpecifications.hasEmployeeId(employee.get().getId()));
+        }
+        if (criteria.origin() != null) {
+            spec = spec.and(WorkationSpecifications.hasOrigin(criteria.origin()));
+        }
+        if (criteria.destination() != null) {
+            spec = spec.and(WorkationSpecifications.hasDestination(criteria.destination()));
+        }
+        if (criteria.risk() != null) {
+            spec = spec.and(WorkationSpecifications.hasRisk(criteria.risk()));
+        }
+        if (criteria.from() != null) {
+            spec = spec.and(WorkationSpecifications.startsOnOrAfter(criteria.from()));
+        }
+        if (criteria.to() != null) {
+            // start <= end, so bounding start as well lets the date range seek on the index instead of filtering
+            spec = spec.and(WorkationSpecifications.endsOnOrBefore(criteria.to()))
+                    .and(WorkationSpecifications.startsOnOrBefore(criteria.to()));
+        }
+        if (after != null && !after.isBlank()) {
+            WorkationCursor cursor = WorkationCursor.decode(after);
+            spec = spec.and(WorkationSpecifications.after(cursor.start(), cursor.id()));
+        }
+
+        List<Workation> rows = workationRepository.findBy(spec, query -> query
+                .sortBy(Sort.by("start", "id"))
+                .limit(limit + 1)
+                .all());
+        return toPage(rows, limit);
+    }
+
+    // Rows were fetched with one extra to tell whether a next page exists
+    private CursorPageResponseDTO<WorkationResponseDTO> toPage(List<Workation> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Workation> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Workation last = page.get(page.size() - 1);
+            nextCursor = new WorkationCursor(last.getStart(), last.getId()).encode();
+        }
+
+        List<WorkationResponseDTO> items = page.stream()
                 .map(workationMapper::toDTO)
                 .collect(Collectors.toList());
+        return new CursorPageResponseDTO<>(items, nextCursor, hasNext);
     }
 
+    @Cacheable(cacheNames = CacheConfig.WORKATIONS, key = "#p0")
     public WorkationResponseDTO getWorkationById(Long id) {
-        Workation workation = workationRepository.findById(id)
+        Workation workation = workationRepository.findWithEmployeeById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Workation not found with id: " + id));
         return workationMapper.toDTO(workation);
     }
 
+    @Transactional
     public WorkationResponseDTO createWorkation(WorkationResponseDTO workationDTO) {
-        // Find or create employee
-        Employee employee = findOrCreateEmployee(workationDTO.getEmployee());
-        
+        WorkationResponseDTO created = insertWorkation(workationDTO);
+        cacheWritten(created);
+        return created;
+    }
+
+    /**
+     * The body of {@link #createWorkation} without its transaction and cache handling, for callers that group
+     * several creates into one transaction. Every validation error is thrown before anything is written, so
+     * a failed item leaves the surrounding transaction usable.
+     */
+    public WorkationResponseDTO insertWorkation(WorkationResponseDTO workationDTO) {
+        int workingDays = calculateWorkingDays(workationDTO);
+        RiskEnum risk = evaluateRisk(workationDTO, workingDays);
+        Optional<Employee> knownEmployee = employeeResolver.find(workationDTO.getEmployee());
+        List<Long> overlaps = knownEmployee.map(employee -> checkOverlaps(employee, workationDTO, null)).orElse(List.of());
+
+        // Only create the employee once the workation is known to be valid
+        Employee employee = knownEmployee.orElseGet(() -> findOrCreateEmployee(workationDTO.getEmployee()));
+
         // Convert DTO to entity
         Workation workation = workationMapper.toEntity(workationDTO);
         workation.setEmployee(employee);
-        
+        workation.setWorkingDays(workingDays);
+        workation.setRisk(risk);
+
         // Save and return
         Workation savedWorkation = workationRepository.save(workation);
-        return workationMapper.toDTO(savedWorkation);
+        publishChange(null, savedWorkation);
+        dataVersion.bump();
+        return toDTO(savedWorkation, overlaps);
     }
 
+    @Transactional
     public WorkationResponseDTO updateWorkation(Long id, WorkationResponseDTO workationDTO) {
-        Workation existingWorkation = workationRepository.findById(id)
+        // Locked so the previous state published to the in-memory aggregates is the one this write replaces
+        Workation existingWorkation = workationRepository.findAllForUpdateByIdIn(List.of(id)).stream()
+                .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Workation not found with id: " + id));
+        WorkationInterval previous = toInterval(existingWorkation);
 
-        // Find or create employee
-        Employee employee = findOrCreateEmployee(workationDTO.getEmployee());
+        int workingDays = calculateWorkingDays(workationDTO);
+        RiskEnum risk = evaluateRisk(workationDTO, workingDays);
+        Optional<Employee> knownEmployee = employeeResolver.find(workationDTO.getEmployee());
+        List<Long> overlaps = knownEmployee.map(employee -> checkOverlaps(employee, workationDTO, id)).orElse(List.of());
+        Employee employee = knownEmployee.orElseGet(() -> findOrCreateEmployee(workationDTO.getEmployee()));
 
         // Update fields
         existingWorkation.setEmployee(employee);
@@ -58,23 +206,134 @@ public class WorkationService {
         existingWorkation.setDestination(workationDTO.getDestination());
         existingWorkation.setStart(workationDTO.getStart().atStartOfDay());
         existingWorkation.setEnd(workationDTO.getEnd().atTime(23, 59, 59));
-        existingWorkation.setWorkingDays(workationDTO.getWorkingDays().intValue());
-        existingWorkation.setRisk(workationDTO.getRisk());
+        existingWorkation.setWorkingDays(workingDays);
+        existingWorkation.setRisk(risk);
 
         Workation savedWorkation = workationRepository.save(existingWorkation);
-        return workationMapper.toDTO(savedWorkation);
+        publishChange(previous, savedWorkation);
+        dataVersion.bump();
+        WorkationResponseDTO updated = toDTO(savedWorkation, overlaps);
+        cacheWritten(updated);
+        return updated;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.WORKATIONS, key = "#p0")
+    @Transactional
     public void deleteWorkation(Long id) {
-        Workation workation = workationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Workation not found with id: " + id));
-        workationRepository.delete(workation);
+        // The indexes need the deleted row, so read it locked as a projection and delete with one statement, never
+        // loading the entity. Only a delete that removed the row is published.
+        WorkationInterval previous = workationRepository.findIntervalsForUpdateByIdIn(List.of(id)).stream()
+                .findFirst()
+                .orElse(null);
+        if (previous == null || workationRepository.deleteByIdIn(List.of(id)) != 1) {
+            throw new IllegalArgumentException("Workation not found with id: " + id);
+        }
+        eventPublisher.publishEvent(new WorkationChangedEvent(id, previous, null));
+        dataVersion.bump();
+    }
+
+    /**
+     * Deletes every workation that ended before {@code date} with a single statement and returns how many
+     * were removed. The in-memory indexes and aggregates are rebuilt rather than updated row by row.
+     */
+    @CacheEvict(cacheNames = CacheConfig.WORKATIONS, allEntries = true)
+    @Transactional
+    public int deleteWorkationsEndedBefore(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("A date is required to delete workations by end date");
+        }
+        return bulkDeleted(workationRepository.deleteEndedBefore(date.atStartOfDay()));
+    }
+
+    // All of one employee's workations with a single statement; the employee itself is kept
+    @CacheEvict(cacheNames = CacheConfig.WORKATIONS, allEntries = true)
+    @Transactional
+    public int deleteWorkationsOfEmployee(Long employeeId) {
+        return bulkDeleted(workationRepository.deleteByEmployeeId(employeeId));
+    }
+
+    private int bulkDeleted(int deleted) {
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new WorkationsReloadedEvent());
+            dataVersion.bump();
+        }
+        return deleted;
+    }
+
+    // Every overlapping pair of trips across all employees, from the in-memory interval index
+    public List<OverlapConflictResponseDTO> getOverlapConflicts() {
+        List<OverlapConflict> conflicts = overlapIndex.findAllConflicts();
+        Map<Long, String> names = employeeRepository.findAllById(conflicts.stream().map(OverlapConflict::employeeId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Employee::getId, Employee::getName));
+        return conflicts.stream()
+                .map(conflict -> new OverlapConflictResponseDTO(names.get(conflict.employeeId()), conflict.workationId(),
+                        conflict.conflictingWorkationId(), conflict.overlapStart(), conflict.overlapEnd()))
+                .collect(Collectors.toList());
+    }
+
+    // Working days are always derived from the dates and the origin country's calendar, never taken from input
+    private int calculateWorkingDays(WorkationResponseDTO workationDTO) {
+        requireValidDates(workationDTO);
+        return workingDaysCalculator.countWorkingDays(workationDTO.getOrigin(), workationDTO.getStart(), workationDTO.getEnd());
+    }
+
+    static void requireValidDates(WorkationResponseDTO workationDTO) {
+        if (workationDTO.getStart() == null || workationDTO.getEnd() == null) {
+            throw new IllegalArgumentException("Workation start and end dates are required");
+        }
+        if (workationDTO.getEnd().isBefore(workationDTO.getStart())) {
+            throw new IllegalArgumentException("Workation end date must not be before its start date");
+        }
+    }
+
+    // Risk comes from the rule table, like working days it is not taken from input
+    private RiskEnum evaluateRisk(WorkationResponseDTO workationDTO, int workingDays) {
+        return riskEngine.evaluate(workationDTO.getOrigin(), workationDTO.getDestination(),
+                workationDTO.getStart(), workationDTO.getEnd(), workingDays);
+    }
+
+    // Rejects or returns the employee's other workations sharing a day with this one, depending on the overlap mode
+    private List<Long> checkOverlaps(Employee employee, WorkationResponseDTO workationDTO, Long excludeId) {
+        List<Long> overlaps = overlapIndex.findOverlaps(employee.getId(), workationDTO.getStart(), workationDTO.getEnd(), excludeId);
+        if (!overlaps.isEmpty() && overlapIndex.getMode() == OverlapMode.REJECT) {
+            throw new WorkationOverlapException(employee.getName(), overlaps);
+        }
+        return overlaps;
+    }
+
+    /**
+     * Caches a written workation for {@link #getWorkationById} once the transaction commits. The cached copy
+     * leaves out {@code overlapsWith}: that is the conflicts at write time, only meant for the write's response.
+     */
+    public void cacheWritten(WorkationResponseDTO written) {
+        Cache cache = cacheManager.getCache(CacheConfig.WORKATIONS);
+        if (cache != null && written != null) {
+            cache.put(written.getId(), new WorkationResponseDTO(written.getId(), written.getEmployee(), written.getOrigin(),
+                    written.getDestination(), written.getStart(), written.getEnd(), written.getWorkingDays(),
+                    written.getRisk(), null));
+        }
+    }
+
+    // Picked up by the in-memory indexes and aggregates once the transaction commits
+    private void publishChange(WorkationInterval previous, Workation workation) {
+        eventPublisher.publishEvent(new WorkationChangedEvent(workation.getId(), previous, toInterval(workation)));
+    }
+
+    static WorkationInterval toInterval(Workation workation) {
+        return new WorkationInterval(workation.getId(), workation.getEmployee() == null ? null : workation.getEmployee().getId(),
+                workation.getDestination(), workation.getStart(), workation.getEnd(), workation.getRisk(), workation.getWorkingDays());
+    }
+
+    private WorkationResponseDTO toDTO(Workation workation, List<Long> overlaps) {
+        WorkationResponseDTO dto = workationMapper.toDTO(workation);
+        if (dto != null && !overlaps.isEmpty()) {
+            dto.setOverlapsWith(overlaps);
+        }
+        return dto;
     }
 
     private Employee findOrCreateEmployee(String employeeName) {
-        // This is a simplified approach - in a real app you might want to search by name
-        Employee employee = new Employee();
-        employee.setName(employeeName);
-        return employeeRepository.save(employee);
+        return employeeResolver.resolve(employeeName);
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Building blocks for workation search. Each one maps to a single indexed column comparison so the
+ * combined predicate can seek on one of the composite indexes declared on {@link Workation}.
+ */
+public final class WorkationSpecifications {
+
+    private WorkationSpecifications() {
+    }
+
+    public static Specification<Workation> hasEmployeeId(Long employeeId) {
+        return (root, query, cb) -> cb.equal(root.get("employee").get("id"), employeeId);
+    }
+
+    public static Specification<Workation> hasOrigin(String origin) {
+        return (root, query, cb) -> cb.equal(root.get("origin"), origin);
+    }
+
+    public static Specification<Workation> hasDestination(String destination) {
+        return (root, query, cb) -> cb.equal(root.get("destination"), destination);
+    }
+
+    public static Specification<Workation> hasRisk(RiskEnum risk) {
+        return (root, query, cb) -> cb.equal(root.get("risk"), risk);
+    }
+
+    public static Specification<Workation> startsOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("start"), from.atStartOfDay());
+    }
+
+    public static Specification<Workation> endsOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("end"), to.atTime(23, 59, 59));
+    }
+
+    public static Specification<Workation> startsOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("start"), to.atTime(23, 59, 59));
+    }
+
+    // Keyset continuation on the (start, id) search order
+    public static Specification<Workation> after(LocalDateTime start, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("start"), start),
+                cb.and(cb.equal(root.get("start"), start), cb.greaterThan(root.get("id"), id)));
+    }
+
+    // Loads the employee in the same select; skipped for count queries, which can't fetch
+    public static Specification<Workation> fetchEmployee() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("employee", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package com.gabriel.workflexbackend.workingdays;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * A public holiday that can be placed on any year. Supported rule syntax:
+ * <ul>
+ *     <li>{@code 12-25}: fixed month and day</li>
+ *     <li>{@code easter+1}, {@code easter-2}: offset from Western (Gregorian) Easter Sunday</li>
+ *     <li>{@code orthodox+1}: offset from Orthodox Easter Sunday</li>
+ *     <li>{@code 11-THU#4}, {@code 05-MON#-1}: nth (or last, with -1) weekday of a month</li>
+ * </ul>
+ */
+public record HolidayRule(Kind kind, int month, int day, DayOfWeek dayOfWeek, int offset) {
+
+    public enum Kind {
+        FIXED,
+        EASTER,
+        ORTHODOX_EASTER,
+        NTH_WEEKDAY
+    }
+
+    public static HolidayRule parse(String rule) {
+        String value = rule.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (value.startsWith("easter")) {
+                return new HolidayRule(Kind.EASTER, 0, 0, null, offset(value.substring("easter".length())));
+            }
+            if (value.startsWith("orthodox")) {
+                return new HolidayRule(Kind.ORTHODOX_EASTER, 0, 0, null, offset(value.substring("orthodox".length())));
+            }
+            int month = Integer.parseInt(value.substring(0, 2));
+            String rest = value.substring(3);
+            int hash = rest.indexOf('#');
+            if (hash > 0) {
+                DayOfWeek dayOfWeek = parseDayOfWeek(rest.substring(0, hash));
+                return new HolidayRule(Kind.NTH_WEEKDAY, month, 0, dayOfWeek, Integer.parseInt(rest.substring(hash + 1)));
+            }
+            MonthDay.of(month, Integer.parseInt(rest)); // validates the date
+            return new HolidayRule(Kind.FIXED, month, Integer.parseInt(rest), null, 0);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid holiday rule: " + rule);
+        }
+    }
+
+    /**
+     * The holiday's date in {@code year}, or null when it doesn't occur that year (e.g. 02-29).
+     */
+    public LocalDate resolve(int year) {
+        return switch (kind) {
+            case FIXED -> MonthDay.of(month, day).isValidYear(year) ? LocalDate.of(year, month, day) : null;
+            case EASTER -> westernEaster(year).plusDays(offset);
+            case ORTHODOX_EASTER -> orthodoxEaster(year).plusDays(offset);
+            case NTH_WEEKDAY -> {
+                LocalDate firstOfMonth = YearMonth.of(year, month).atDay(1);
+                yield offset < 0
+                        ? firstOfMonth.with(TemporalAdjusters.lastInMonth(dayOfWeek))
+                        : firstOfMonth.with(TemporalAdjusters.dayOfWeekInMonth(offset, dayOfWeek));
+            }
+        };
+    }
+
+    // Anonymous Gregorian algorithm (Meeus/Jones/Butcher)
+    static LocalDate westernEaster(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    // Meeus Julian algorithm, shifted to the Gregorian calendar (valid 1900-2099)
+    static LocalDate orthodoxEaster(int year) {
+        int a = year % 4;
+        int b = year % 7;
+        int c = year % 19;
+        int d = (19 * c + 15) % 30;
+        int e = (2 * a + 4 * b - d + 34) % 7;
+        int month = (d + e + 114) / 31;
+        int day = ((d + e + 114) % 31) + 1;
+        return LocalDate.of(year, month, day).plusDays(13);
+    }
+
+    private static int offset(String value) {
+        return value.isEmpty() ? 0 : Integer.parseInt(value.startsWith("+") ? value.substring(1) : value);
+    }
+
+    static DayOfWeek parseDayOfWeek(String value) {
+        String prefix = value.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().startsWith(prefix) && prefix.length() >= 3) {
+                return dayOfWeek;
+            }
+        }
+        throw new IllegalArgumentException("Invalid day of week: " + value);
+    }
+}
@@ -0,0 +1,127 @@
+package com.gabriel.workflexbackend.workingdays;
+
+import com.gabriel.workflexbackend.exception.UnsupportedYearException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Working-day calendar of one country: weekend days plus public holidays.
+ * <p>
+ * Each year is compiled once, on first use, into a bitset of working days and a prefix-sum table
+ * ({@code prefix[d]} = working days before day-of-year {@code d}). Counting the working days of a
+ * range is then two array reads per calendar year it touches, regardless of the range length.
+ * <p>
+ * Only years from {@link #MIN_YEAR} to {@link #MAX_YEAR} are supported, the range the Orthodox Easter rule
+ * is valid for; the compiled tables sit in one slot per year, so at most that many are ever kept.
+ */
+public class WorkingDayCalendar {
+
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2099;
+
+    private record YearTable(long[] workingDays, short[] prefix) {
+
+        boolean isWorkingDay(int dayOfYear) {
+            return (workingDays[dayOfYear >>> 6] & (1L << dayOfYear)) != 0;
+        }
+
+        // Working days in [fromDay, toDay] (zero-based days of the year, inclusive)
+        int count(int fromDay, int toDay) {
+            return prefix[toDay + 1] - prefix[fromDay];
+        }
+
+        int total() {
+            return prefix[prefix.length - 1];
+        }
+    }
+
+    private final String country;
+    private final Set<DayOfWeek> weekend;
+    private final List<HolidayRule> holidays;
+    private final AtomicReferenceArray<YearTable> years = new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+
+    public WorkingDayCalendar(String country, Set<DayOfWeek> weekend, List<HolidayRule> holidays) {
+        this.country = country;
+        this.weekend = Set.copyOf(weekend);
+        this.holidays = List.copyOf(holidays);
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return year(date.getYear()).isWorkingDay(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Working days from {@code start} to {@code end}, both inclusive. Returns 0 when end is before start.
+     *
+     * @throws UnsupportedYearException if the range touches a year outside {@link #MIN_YEAR}..{@link #MAX_YEAR}
+     */
+    public int countWorkingDays(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return 0;
+        }
+        int startYear = start.getYear();
+        int endYear = end.getYear();
+        if (startYear == endYear) {
+            return year(startYear).count(start.getDayOfYear() - 1, end.getDayOfYear() - 1);
+        }
+
+        YearTable first = year(startYear);
+        int count = first.count(start.getDayOfYear() - 1, first.prefix().length - 2);
+        for (int y = startYear + 1; y < endYear; y++) {
+            count += year(y).total();
+        }
+        return count + year(endYear).count(0, end.getDayOfYear() - 1);
+    }
+
+    public static boolean isSupported(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    private YearTable year(int year) {
+        if (!isSupported(year)) {
+            throw new UnsupportedYearException("Year " + year + " is outside the supported range "
+                    + MIN_YEAR + "-" + MAX_YEAR);
+        }
+        int slot = year - MIN_YEAR;
+        YearTable table = years.get(slot);
+        if (table == null) {
+            // Two threads may compile the same year; both tables are equal and the first one wins
+            years.compareAndSet(slot, null, compile(year));
+            table = years.get(slot);
+        }
+        return table;
+    }
+
+    private YearTable compile(int year) {
+        int length = Year.of(year).length();
+        long[] workingDays = new long[(length + 63) >>> 6];
+        int firstDayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek().ordinal();
+        for (int day = 0; day < length; day++) {
+            if (!weekend.contains(DayOfWeek.values()[(firstDayOfWeek + day) % 7])) {
+                workingDays[day >>> 6] |= 1L << day;
+            }
+        }
+        for (HolidayRule holiday : holidays) {
+            LocalDate date = holiday.resolve(year);
+            if (date != null && date.getYear() == year) {
+                int day = date.getDayOfYear() - 1;
+                workingDays[day >>> 6] &= ~(1L << day);
+            }
+        }
+
+        short[] prefix = new short[length + 1];
+        for (int day = 0; day < length; day++) {
+            prefix[day + 1] = (short) (prefix[day] + ((workingDays[day >>> 6] >>> day) & 1L));
+        }
+        return new YearTable(workingDays, prefix);
+    }
+}
@@ -0,0 +1,104 @@
+package com.gabriel.workflexbackend.workingdays;
+
+import com.gabriel.workflexbackend.importer.CsvLineTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Computes working days for a date range in a given country, using the weekend and holiday
+ * calendars under {@code holidays/}. Countries without a calendar only skip the default weekend.
+ */
+@Slf4j
+@Component
+public class WorkingDaysCalculator {
+
+    private static final String DEFAULT_COUNTRY = "*";
+
+    private final Map<String, WorkingDayCalendar> calendars;
+    private final WorkingDayCalendar defaultCalendar;
+
+    public WorkingDaysCalculator(@Value("${workflex.working-days.holidays:classpath:holidays/holidays.csv}") Resource holidays,
+                                 @Value("${workflex.working-days.weekends:classpath:holidays/weekends.csv}") Resource weekends) {
+        Map<String, Set<DayOfWeek>> weekendsByCountry = new HashMap<>();
+        readCsv(weekends, fields -> {
+            Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (String day : fields[1].split("\\|")) {
+                days.add(HolidayRule.parseDayOfWeek(day));
+            }
+            weekendsByCountry.put(key(fields[0]), days);
+        });
+        Set<DayOfWeek> defaultWeekend = weekendsByCountry.getOrDefault(DEFAULT_COUNTRY, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+        Map<String, String> countryNames = new HashMap<>();
+        Map<String, List<HolidayRule>> holidaysByCountry = new HashMap<>();
+        readCsv(holidays, fields -> {
+            countryNames.putIfAbsent(key(fields[0]), fields[0]);
+            holidaysByCountry.computeIfAbsent(key(fields[0]), k -> new ArrayList<>()).add(HolidayRule.parse(fields[1]));
+        });
+
+        Map<String, WorkingDayCalendar> compiled = new HashMap<>();
+        weekendsByCountry.keySet().forEach(country -> countryNames.putIfAbsent(country, country));
+        countryNames.forEach((key, name) -> compiled.put(key, new WorkingDayCalendar(name,
+                weekendsByCountry.getOrDefault(key, defaultWeekend), holidaysByCountry.getOrDefault(key, List.of()))));
+        this.calendars = Map.copyOf(compiled);
+        this.defaultCalendar = new WorkingDayCalendar(DEFAULT_COUNTRY, defaultWeekend, List.of());
+        log.info("Loaded working-day calendars for {} countries", holidaysByCountry.size());
+    }
+
+    public int countWorkingDays(String country, LocalDate start, LocalDate end) {
+        return calendarFor(country).countWorkingDays(start, end);
+    }
+
+    public WorkingDayCalendar calendarFor(String country) {
+        if (country == null) {
+            return defaultCalendar;
+        }
+        return calendars.getOrDefault(key(country), defaultCalendar);
+    }
+
+    private static String key(String country) {
+        return country.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Reads "country,value[,...]" lines, skipping the header and '#' comments
+    private static void readCsv(Resource resource, Consumer<String[]> rows) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String[] fields = new String[3];
+            String line;
+            boolean header = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                if (CsvLineTokenizer.tokenize(line, fields) < 2) {
+                    throw new IllegalArgumentException("Invalid calendar line in " + resource + ": " + line);
+                }
+                rows.accept(fields);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read working-day calendar " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.gabriel.workflexbackend.workingdays;
+
+import com.gabriel.workflexbackend.config.CacheConfig;
+import com.gabriel.workflexbackend.dto.response.RecalculationResponseDTO;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.risk.WorkationRiskRow;
+import com.gabriel.workflexbackend.service.DataVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recomputes the stored working days of every workation, one transaction per chunk of rows, and re-scores
+ * the rows whose day count changed, since the risk rules look at it.
+ * <p>
+ * Rows are read as projections and written with one conditional JDBC batch per chunk, like
+ * {@link com.gabriel.workflexbackend.risk.RiskRescoringService}: an update only applies if the row still
+ * holds the values it was computed from, so a workation edited in between keeps what its own write gave
+ * it; such rows are counted as skipped. The walk runs on the calling thread and reads the whole table, one
+ * select per thousand rows plus a batch for the changed ones, so the request lasts as long as a full scan.
+ */
+@Slf4j
+@Service
+public class WorkingDaysRecalculationService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String UPDATE_IF_UNCHANGED = "update workation set working_days = ?, risk = ? where id = ? "
+            + "and origin is not distinct from ? and destination is not distinct from ? and start = ? and end_date = ? "
+            + "and working_days is not distinct from ? and risk is not distinct from ?";
+
+    private final WorkationRepository workationRepository;
+    private final WorkingDaysCalculator workingDaysCalculator;
+    private final RiskEngine riskEngine;
+    private final DataVersion dataVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public WorkingDaysRecalculationService(WorkationRepository workationRepository,
+                                           WorkingDaysCalculator workingDaysCalculator,
+                                           RiskEngine riskEngine,
+                                           DataVersion dataVersion,
+                                           ApplicationEventPublisher eventPublisher,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager) {
+        this.workationRepository = workationRepository;
+        this.workingDaysCalculator = workingDaysCalculator;
+        this.riskEngine = riskEngine;
+        this.dataVersion = dataVersion;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.WORKATIONS, allEntries = true)
+    public RecalculationResponseDTO recalculateAll() {
+        long scanned = 0;
+        long updated = 0;
+        long skipped = 0;
+        long afterId = 0;
+
+        while (true) {
+            long chunkAfterId = afterId;
+            long[] chunkResult = transactionTemplate.execute(status -> {
+                List<WorkationRiskRow> chunk = workationRepository.findRiskRowsAfter(chunkAfterId, Limit.of(CHUNK_SIZE));
+                List<WorkationRiskRow> changed = new ArrayList<>();
+                List<Integer> newWorkingDays = new ArrayList<>();
+                List<RiskEnum> newRisks = new ArrayList<>();
+                for (WorkationRiskRow row : chunk) {
+                    if (row.start() == null || row.end() == null
+                            || !WorkingDayCalendar.isSupported(row.start().getYear())
+                            || !WorkingDayCalendar.isSupported(row.end().getYear())) {
+                        continue;
+                    }
+                    int workingDays = workingDaysCalculator.countWorkingDays(row.origin(),
+                            row.start().toLocalDate(), row.end().toLocalDate());
+                    if (row.workingDays() == null || row.workingDays() != workingDays) {
+                        changed.add(row);
+                        newWorkingDays.add(workingDays);
+                        newRisks.add(riskEngine.evaluate(row.origin(), row.destination(), row.start().toLocalDate(),
+                                row.end().toLocalDate(), workingDays));
+                    }
+                }
+                long lastId = chunk.isEmpty() ? -1 : chunk.get(chunk.size() - 1).id();
+                if (changed.isEmpty()) {
+                    return new long[]{chunk.size(), 0, 0, lastId};
+                }
+
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_IF_UNCHANGED, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        WorkationRiskRow row = changed.get(i);
+                        ps.setInt(1, newWorkingDays.get(i));
+                        ps.setString(2, newRisks.get(i).name());
+                        ps.setLong(3, row.id());
+                        ps.setString(4, row.origin());
+                        ps.setString(5, row.destination());
+                        ps.setTimestamp(6, Timestamp.valueOf(row.start()));
+                        ps.setTimestamp(7, Timestamp.valueOf(row.end()));
+                        ps.setObject(8, row.workingDays(), Types.INTEGER);
+                        ps.setString(9, row.risk() == null ? null : row.risk().name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return changed.size();
+                    }
+                });
+                long written = 0;
+                for (int count : counts) {
+                    if (count > 0) {
+                        written++;
+                    }
+                }
+                return new long[]{chunk.size(), written, changed.size() - written, lastId};
+            });
+
+            if (chunkResult == null || chunkResult[0] == 0) {
+                break;
+            }
+            scanned += chunkResult[0];
+            updated += chunkResult[1];
+            skipped += chunkResult[2];
+            afterId = chunkResult[3];
+        }
+
+        if (updated > 0) {
+            dataVersion.bump();
+            eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        }
+        log.info("Recalculated working days: scanned {}, updated {}, skipped {}", scanned, updated, skipped);
+        return new RecalculationResponseDTO(scanned, updated, skipped);
+    }
+}
@@ -0,0 +1,140 @@
+package com.gabriel.workflexbackend.analytics;
+
+import com.gabriel.workflexbackend.index.WorkationChangedEvent;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AnalyticsCubeTest {
+
+    private static final String[] DESTINATIONS = {"Spain", "Portugal", "India"};
+
+    private final WorkationRepository workationRepository = mock(WorkationRepository.class);
+
+    private final AnalyticsCube analyticsCube = new AnalyticsCube(workationRepository, mock(PlatformTransactionManager.class), 100);
+
+    @Test
+    void testSplitsTripsAcrossMonthsKeepingWorkingDayTotals() {
+        // Arrange: 10 days in January and 5 in February, 11 working days in total
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(
+                interval(1L, 10L, "Spain", RiskEnum.LOW, "2024-01-22", "2024-02-05", 11)));
+
+        // Act
+        List<CubeRow> rows = analyticsCube.rollup(YearMonth.of(2024, 1), YearMonth.of(2024, 12),
+                EnumSet.of(CubeDimension.DESTINATION, CubeDimension.MONTH));
+
+        // Assert
+        assertThat(rows).containsExactly(
+                new CubeRow(null, "Spain", null, 2024, YearMonth.of(2024, 1), 1, 10, 7),
+                new CubeRow(null, "Spain", null, 2024, YearMonth.of(2024, 2), 0, 5, 4));
+    }
+
+    @Test
+    void testChangeEventsReplaceThePreviousContribution() {
+        // Arrange
+        WorkationInterval original = interval(1L, 10L, "Spain", RiskEnum.LOW, "2024-03-01", "2024-03-10", 8);
+        WorkationInterval moved = interval(1L, 10L, "India", RiskEnum.HIGH, "2024-04-01", "2024-04-05", 5);
+        WorkationInterval created = interval(2L, 20L, "India", RiskEnum.HIGH, "2024-04-10", "2024-04-11", 2);
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(original));
+        analyticsCube.size();
+
+        // Act
+        analyticsCube.onWorkationChanged(new WorkationChangedEvent(1L, original, moved));
+        analyticsCube.onWorkationChanged(new WorkationChangedEvent(2L, null, created));
+        analyticsCube.onWorkationChanged(new WorkationChangedEvent(2L, created, null));
+
+        // Assert
+        assertThat(analyticsCube.rollup(YearMonth.of(2024, 1), YearMonth.of(2024, 12),
+                EnumSet.of(CubeDimension.DESTINATION, CubeDimension.RISK, CubeDimension.MONTH)))
+                .containsExactly(new CubeRow(null, "India", RiskEnum.HIGH, 2024, YearMonth.of(2024, 4), 1, 5, 5));
+        assertThat(analyticsCube.size()).isEqualTo(1);
+        verify(workationRepository, times(1)).streamIntervals();
+    }
+
+    @Test
+    void testParallelBuildMatchesIncrementalUpdates() {
+        // Arrange: the same rows once through the fork/join build and once as individual creates
+        SplittableRandom random = new SplittableRandom(9);
+        List<WorkationInterval> intervals = new ArrayList<>();
+        RiskEnum[] risks = RiskEnum.values();
+        for (long id = 1; id <= 5000; id++) {
+            LocalDate start = LocalDate.of(2023, 1, 1).plusDays(random.nextInt(700));
+            int days = random.nextInt(60);
+            intervals.add(new WorkationInterval(id, (long) random.nextInt(40), DESTINATIONS[random.nextInt(DESTINATIONS.length)],
+                    start.atStartOfDay(), start.plusDays(days).atTime(23, 59, 59), risks[random.nextInt(risks.length)], days * 5 / 7));
+        }
+        when(workationRepository.streamIntervals()).thenReturn(intervals.stream());
+
+        WorkationRepository emptyRepository = mock(WorkationRepository.class);
+        when(emptyRepository.streamIntervals()).thenReturn(Stream.empty());
+        AnalyticsCube incremental = new AnalyticsCube(emptyRepository, mock(PlatformTransactionManager.class), 100);
+        incremental.size();
+        intervals.forEach(interval -> incremental.onWorkationChanged(new WorkationChangedEvent(interval.id(), null, interval)));
+
+        // Act
+        EnumSet<CubeDimension> all = EnumSet.allOf(CubeDimension.class);
+        List<CubeRow> built = analyticsCube.rollup(YearMonth.of(2020, 1), YearMonth.of(2030, 12), all);
+
+        // Assert
+        assertThat(built).isEqualTo(incremental.rollup(YearMonth.of(2020, 1), YearMonth.of(2030, 12), all));
+        List<CubeRow> totals = analyticsCube.rollup(YearMonth.of(2020, 1), YearMonth.of(2030, 12), EnumSet.noneOf(CubeDimension.class));
+        assertThat(totals).hasSize(1);
+        assertThat(totals.get(0).trips()).isEqualTo(5000);
+        assertThat(totals.get(0).workingDays()).isEqualTo(intervals.stream().mapToLong(WorkationInterval::workingDays).sum());
+    }
+
+    @Test
+    void testRollupByEmployeeAndYear() {
+        // Arrange
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(
+                interval(1L, 10L, "Spain", RiskEnum.LOW, "2023-12-30", "2024-01-02", 2),
+                interval(2L, 10L, "India", RiskEnum.HIGH, "2024-05-01", "2024-05-03", 3),
+                interval(3L, 20L, "Spain", RiskEnum.LOW, "2024-06-01", "2024-06-01", 1)));
+
+        // Act
+        List<CubeRow> rows = analyticsCube.rollup(YearMonth.of(2024, 1), YearMonth.of(2024, 12),
+                EnumSet.of(CubeDimension.EMPLOYEE, CubeDimension.YEAR));
+
+        // Assert: only the 2024 part of the trip over new year counts, and it started in 2023
+        assertThat(rows).containsExactly(
+                new CubeRow(10L, null, null, 2024, null, 1, 5, 4),
+                new CubeRow(20L, null, null, 2024, null, 1, 1, 1));
+    }
+
+    @Test
+    void testInvalidateRebuildsFromDatabaseOnNextUse() {
+        // Arrange
+        when(workationRepository.streamIntervals())
+                .thenReturn(Stream.of(interval(1L, 10L, "Spain", RiskEnum.LOW, "2024-03-01", "2024-03-10", 8)))
+                .thenReturn(Stream.empty());
+        analyticsCube.size();
+
+        // Act
+        analyticsCube.onWorkationsReloaded(new WorkationsReloadedEvent());
+
+        // Assert
+        assertThat(analyticsCube.size()).isZero();
+        verify(workationRepository, times(2)).streamIntervals();
+    }
+
+    private static WorkationInterval interval(Long id, Long employeeId, String destination, RiskEnum risk,
+                                              String start, String end, int workingDays) {
+        return new WorkationInterval(id, employeeId, destination, LocalDateTime.parse(start + "T00:00:00"),
+                LocalDateTime.parse(end + "T23:59:59"), risk, workingDays);
+    }
+}
@@ -0,0 +1,186 @@
+package com.gabriel.workflexbackend.benchmark;
+
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test shared by the platform-thread and virtual-thread runs: a thousand HTTP clients, each sending
+ * requests back to back, against the embedded server on a seeded table. Four in five requests read one
+ * workation by id, through the read-through cache, and the fifth searches one employee's quarter.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; clients, requests per client and rows can be changed with
+ * {@code -Dbenchmark.clients=...}, {@code -Dbenchmark.requests=...} and {@code -Dbenchmark.rows=...}.
+ * Against in-memory H2 most of a request is CPU time; a file or server database adds the I/O waits that
+ * virtual threads are meant for.
+ */
+@Tag("benchmark")
+abstract class ConcurrentClientsBenchmarkSupport {
+
+    private static final String[] COUNTRIES = {"Germany", "Spain", "France", "Portugal", "India", "United States",
+            "Greece", "Italy", "Poland", "Austria", "Brazil", "Japan", "Mexico", "Canada", "Ireland", "Sweden"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    protected abstract String mode();
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void benchmarkConcurrentClients() throws Exception {
+        // Arrange
+        int rows = Integer.getInteger("benchmark.rows", 100_000);
+        int clients = Integer.getInteger("benchmark.clients", 1_000);
+        int requests = Integer.getInteger("benchmark.requests", 50);
+        int employees = Math.max(1, rows / 50);
+        workationBulkImporter.importCsv(new StringReader(csv(rows, employees)), (lineNumber, line, reason) -> { });
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        long[] ids = jdbcTemplate.queryForList("select id from workation", Long.class).stream().mapToLong(Long::longValue).toArray();
+
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientThreads)
+                     .connectTimeout(Duration.ofSeconds(30)).build()) {
+            run(http, clientThreads, ids, employees, clients, Math.max(1, requests / 5), "warmup");
+
+            // Act
+            Result result = run(http, clientThreads, ids, employees, clients, requests, "measured");
+
+            // Assert
+            assertThat(result.ok() + result.busy()).isEqualTo((long) clients * requests);
+            assertThat(result.ok()).isPositive();
+        }
+    }
+
+    private record Result(long ok, long busy) {
+    }
+
+    private Result run(HttpClient http, ExecutorService clientThreads, long[] ids, int employees, int clients, int requests,
+                       String phase) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong ok = new AtomicLong();
+        AtomicLong busy = new AtomicLong();
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            SplittableRandom random = new SplittableRandom(c);
+            results.add(clientThreads.submit(() -> {
+                long[] nanos = new long[requests];
+                start.await();
+                for (int i = 0; i < requests; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(uri(random, i, ids, employees)).GET().build();
+                    long started = System.nanoTime();
+                    int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    nanos[i] = System.nanoTime() - started;
+                    if (status == 200) {
+                        ok.incrementAndGet();
+                    } else if (status == 503) {
+                        busy.incrementAndGet();
+                    } else {
+                        throw new IllegalStateException("Unexpected status " + status + " for " + request.uri());
+                    }
+                }
+                return nanos;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        long[] latencies = new long[clients * requests];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] nanos = result.get();
+            System.arraycopy(nanos, 0, latencies, offset, nanos.length);
+            offset += nanos.length;
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        Arrays.sort(latencies);
+        int total = latencies.length;
+        System.out.printf("HTTP [%s threads, %s]: %d requests from %d clients in %.0f ms -> %.0f req/s, "
+                        + "p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms, %d rejected as busy%n",
+                mode(), phase, total, clients, seconds * 1000, total / seconds, latencies[total / 2] / 1e6,
+                latencies[(int) (total * 0.99)] / 1e6, latencies[(int) (total * 0.999)] / 1e6, latencies[total - 1] / 1e6,
+                busy.get());
+        return new Result(ok.get(), busy.get());
+    }
+
+    private URI uri(SplittableRandom random, int request, long[] ids, int employees) {
+        String base = "http://localhost:" + port + "/workflex/workation";
+        if (request % 5 == 4) {
+            LocalDate from = LocalDate.of(2020, 1, 1).plusMonths(3L * random.nextInt(20));
+            return URI.create(base + "/search?employee=Employee%20" + random.nextInt(employees)
+                    + "&from=" + from + "&to=" + from.plusMonths(3).minusDays(1));
+        }
+        return URI.create(base + "/" + ids[random.nextInt(ids.length)]);
+    }
+
+    private static String csv(int rows, int employees) {
+        SplittableRandom random = new SplittableRandom(42);
+        RiskEnum[] risks = RiskEnum.values();
+        StringBuilder csv = new StringBuilder(rows * 80);
+        csv.append("workationId,employee,origin,destination,start,end,workingDays,risk\n");
+        for (int i = 0; i < rows; i++) {
+            LocalDate start = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000));
+            int days = 1 + random.nextInt(30);
+            csv.append('w').append(i).append(",Employee ").append(random.nextInt(employees)).append(',')
+                    .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                    .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                    .append(start).append(',').append(start.plusDays(days)).append(',')
+                    .append(days * 5 / 7).append(',').append(risks[random.nextInt(risks.length)]).append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.gabriel.workflexbackend.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link ConcurrentClientsBenchmarkSupport} against Tomcat's default pool of 200 platform worker threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "workflex.employee-cache.max-size=100000"
+})
+class PlatformThreadClientsBenchmarkTest extends ConcurrentClientsBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
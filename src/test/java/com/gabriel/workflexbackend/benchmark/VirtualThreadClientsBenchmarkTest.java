@@ -0,0 +1,22 @@
+package com.gabriel.workflexbackend.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link ConcurrentClientsBenchmarkSupport} with a virtual thread per request, admitted against the
+ * connection pool as configured for production.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "workflex.virtual-threads.requests-per-connection=4",
+        "workflex.virtual-threads.admission-timeout-ms=5000",
+        "workflex.employee-cache.max-size=100000"
+})
+class VirtualThreadClientsBenchmarkTest extends ConcurrentClientsBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,137 @@
+package com.gabriel.workflexbackend.benchmark;
+
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import com.gabriel.workflexbackend.service.WorkationGroupCommitWriter;
+import com.gabriel.workflexbackend.service.WorkationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares concurrent workation creates committed one per transaction with the group-commit writer.
+ * Run with {@code mvn test -Pbenchmark}; the number of creates per path and of concurrent callers can be
+ * changed with {@code -Dbenchmark.rows=...} and {@code -Dbenchmark.threads=...}. The default in-memory H2
+ * makes commits cheap; point {@code spring.datasource.url} at a file or server database to see the effect
+ * of real commit costs.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "workflex.group-commit.enabled=true",
+        "workflex.employee-cache.max-size=100000"
+})
+class WorkationGroupCommitBenchmarkTest {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationGroupCommitWriter groupCommitWriter;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+    }
+
+    @Test
+    void benchmarkConcurrentCreates() throws Exception {
+        // Arrange
+        int rows = Integer.getInteger("benchmark.rows", 20_000);
+        int threads = Integer.getInteger("benchmark.threads", 32);
+        // Warm both paths up on earlier dates than the measured trips; this also creates their employees
+        run("warmup transaction per create", "Direct", rows / 10, threads, LocalDate.of(1900, 1, 1), workationService::createWorkation);
+        run("warmup group commit", "Grouped", rows / 10, threads, LocalDate.of(1900, 1, 1), groupCommitWriter::create);
+        long batchesBefore = groupCommitWriter.getBatchesCommitted();
+        long itemsBefore = groupCommitWriter.getItemsCommitted();
+
+        // Act
+        double direct = run("transaction per create", "Direct", rows, threads, LocalDate.of(2000, 1, 1), workationService::createWorkation);
+        double grouped = run("group commit", "Grouped", rows, threads, LocalDate.of(2000, 1, 1), groupCommitWriter::create);
+
+        // Assert
+        long batches = groupCommitWriter.getBatchesCommitted() - batchesBefore;
+        System.out.printf("Group commit: %d batches, %.1f creates per commit, %.2fx the throughput of one transaction per create%n",
+                batches, (double) (groupCommitWriter.getItemsCommitted() - itemsBefore) / batches, grouped / direct);
+        assertThat(workationRepository.count()).isEqualTo(2L * rows + 2L * (rows / 10));
+        assertThat(batches).isLessThan(rows);
+    }
+
+    // Returns creates per second; every caller writes non-overlapping trips for its own employee
+    private double run(String name, String employeePrefix, int rows, int threads, LocalDate firstStart,
+                       UnaryOperator<WorkationResponseDTO> create) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        int perThread = rows / threads;
+        List<Future<long[]>> results = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            String employee = employeePrefix + " " + t;
+            int count = perThread + (t < rows % threads ? 1 : 0);
+            results.add(executor.submit(() -> {
+                long[] nanos = new long[count];
+                start.await();
+                for (int i = 0; i < count; i++) {
+                    WorkationResponseDTO workation = workation(employee, firstStart.plusDays(2L * i));
+                    long started = System.nanoTime();
+                    assertThat(create.apply(workation).getId()).isNotNull();
+                    nanos[i] = System.nanoTime() - started;
+                }
+                return nanos;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        long[] latencies = new long[rows];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] nanos = result.get();
+            System.arraycopy(nanos, 0, latencies, offset, nanos.length);
+            offset += nanos.length;
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        double throughput = rows / seconds;
+        System.out.printf("Create [%s]: %d creates from %d threads in %.0f ms -> %.0f creates/s, p50 %.3f ms, p99 %.3f ms%n",
+                name, rows, threads, seconds * 1000, throughput, latencies[rows / 2] / 1e6, latencies[rows * 99 / 100] / 1e6);
+        return throughput;
+    }
+
+    private static WorkationResponseDTO workation(String employee, LocalDate start) {
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setEmployee(employee);
+        dto.setOrigin("Germany");
+        dto.setDestination("Spain");
+        dto.setStart(start);
+        dto.setEnd(start);
+        return dto;
+    }
+}
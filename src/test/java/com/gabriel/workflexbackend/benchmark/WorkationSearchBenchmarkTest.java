@@ -0,0 +1,141 @@
+package com.gabriel.workflexbackend.benchmark;
+
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import com.gabriel.workflexbackend.service.WorkationSearchCriteria;
+import com.gabriel.workflexbackend.service.WorkationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures search latency for selective filters on a large table. Run with {@code mvn test -Pbenchmark};
+ * the row count can be changed with {@code -Dbenchmark.rows=...}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.plan_cache_enabled=true",
+        // Sized to hold every employee of the generated data set, as it should be in production
+        "workflex.employee-cache.max-size=100000"
+})
+class WorkationSearchBenchmarkTest {
+
+    private static final String[] COUNTRIES = {"Germany", "Spain", "France", "Portugal", "India", "United States",
+            "Greece", "Italy", "Poland", "Austria", "Brazil", "Japan", "Mexico", "Canada", "Ireland", "Sweden"};
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    // The statements the search specifications produce, minus the employee join
+    private static final String EMPLOYEE_SQL = "select * from workation where employee_id = ? "
+            + "and start >= timestamp '2023-01-01 00:00:00' and end_date <= timestamp '2023-03-31 23:59:59' "
+            + "and start <= timestamp '2023-03-31 23:59:59' order by start, id fetch first 51 rows only";
+    private static final String ROUTE_SQL = "select * from workation where origin = 'Germany' and destination = ? "
+            + "and risk = 'HIGH' and start >= timestamp '2023-06-01 00:00:00' and end_date <= timestamp '2023-06-07 23:59:59' "
+            + "and start <= timestamp '2023-06-07 23:59:59' order by start, id fetch first 21 rows only";
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+    }
+
+    @Test
+    void benchmarkSelectiveSearches() throws Exception {
+        // Arrange
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        int employees = Math.max(1, rows / 50);
+        workationBulkImporter.importCsv(new StringReader(csv(rows, employees)), (lineNumber, line, reason) -> { });
+        jdbcTemplate.execute("analyze");
+        long firstEmployeeId = jdbcTemplate.queryForObject("select min(id) from employee", Long.class);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // Act: one employee in a quarter, and one route in a week, through the API service and as bare SQL
+        double employeeService = measure("service: employee + date range", () -> workationService.searchWorkations(
+                new WorkationSearchCriteria("Employee " + random.nextInt(employees), null, null, null,
+                        LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 31)), null, 50).getItems().size());
+        double routeService = measure("service: origin + destination + risk + date range", () -> workationService.searchWorkations(
+                new WorkationSearchCriteria(null, "Germany", COUNTRIES[random.nextInt(COUNTRIES.length)], RiskEnum.HIGH,
+                        LocalDate.of(2023, 6, 1), LocalDate.of(2023, 6, 7)), null, 20).getItems().size());
+        double employeeSql = measure("sql: employee + date range", () -> jdbcTemplate.queryForList(EMPLOYEE_SQL,
+                firstEmployeeId + random.nextInt(employees)).size());
+        double routeSql = measure("sql: origin + destination + risk + date range", () -> jdbcTemplate.queryForList(ROUTE_SQL,
+                COUNTRIES[random.nextInt(COUNTRIES.length)]).size());
+        System.out.println(jdbcTemplate.queryForObject("explain " + EMPLOYEE_SQL, String.class, firstEmployeeId));
+        System.out.println(jdbcTemplate.queryForObject("explain " + ROUTE_SQL, String.class, "Spain"));
+
+        // Assert: the indexed lookups stay sub-millisecond; the service adds a fixed Spring Data/Hibernate
+        // overhead per call on top, guarded with a looser bound against regressions such as full scans
+        assertThat(employeeSql).isLessThan(1.0);
+        assertThat(routeSql).isLessThan(1.0);
+        assertThat(employeeService).isLessThan(3.0);
+        assertThat(routeService).isLessThan(3.0);
+    }
+
+    private double measure(String name, IntSupplier search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.getAsInt();
+        }
+        long[] nanos = new long[ITERATIONS];
+        long results = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            results += search.getAsInt();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double median = nanos[ITERATIONS / 2] / 1e6;
+        System.out.printf("Search [%s]: p50 %.3f ms, p99 %.3f ms, %.1f rows per query%n",
+                name, median, nanos[ITERATIONS * 99 / 100] / 1e6, (double) results / ITERATIONS);
+        return median;
+    }
+
+    private static String csv(int rows, int employees) {
+        SplittableRandom random = new SplittableRandom(42);
+        RiskEnum[] risks = RiskEnum.values();
+        StringBuilder csv = new StringBuilder(rows * 80);
+        csv.append("workationId,employee,origin,destination,start,end,workingDays,risk\n");
+        for (int i = 0; i < rows; i++) {
+            LocalDate start = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000));
+            int days = 1 + random.nextInt(30);
+            csv.append('w').append(i).append(",Employee ").append(random.nextInt(employees)).append(',')
+                    .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                    .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                    .append(start).append(',').append(start.plusDays(days)).append(',')
+                    .append(days * 5 / 7).append(',').append(risks[random.nextInt(risks.length)]).append('\n');
+        }
+        return csv.toString();
+    }
+}
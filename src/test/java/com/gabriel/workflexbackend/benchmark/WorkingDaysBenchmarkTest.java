@@ -0,0 +1,71 @@
+package com.gabriel.workflexbackend.benchmark;
+
+import com.gabriel.workflexbackend.workingdays.WorkingDayCalendar;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares prefix-sum range counting against a day-by-day loop. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WorkingDaysBenchmarkTest {
+
+    private static final int RANGES = 100_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void benchmarkCountWorkingDays() {
+        // Arrange
+        WorkingDaysCalculator calculator = new WorkingDaysCalculator(
+                new ClassPathResource("holidays/holidays.csv"), new ClassPathResource("holidays/weekends.csv"));
+        WorkingDayCalendar calendar = calculator.calendarFor("Germany");
+        LocalDate[] starts = new LocalDate[RANGES];
+        LocalDate[] ends = new LocalDate[RANGES];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < RANGES; i++) {
+            starts[i] = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000));
+            ends[i] = starts[i].plusDays(random.nextInt(365));
+        }
+
+        // Act
+        long prefixSum = 0;
+        long prefixNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < RANGES; i++) {
+                sum += calendar.countWorkingDays(starts[i], ends[i]);
+            }
+            prefixNanos = Math.min(prefixNanos, System.nanoTime() - started);
+            prefixSum = sum;
+        }
+
+        long loopSum = 0;
+        long loopNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < RANGES; i++) {
+                for (LocalDate day = starts[i]; !day.isAfter(ends[i]); day = day.plusDays(1)) {
+                    if (calendar.isWorkingDay(day)) {
+                        sum++;
+                    }
+                }
+            }
+            loopNanos = Math.min(loopNanos, System.nanoTime() - started);
+            loopSum = sum;
+        }
+
+        // Assert
+        System.out.printf("Working days: prefix-sum %.1f ns/range, day-by-day loop %.1f ns/range%n",
+                (double) prefixNanos / RANGES, (double) loopNanos / RANGES);
+        assertThat(prefixSum).isEqualTo(loopSum);
+    }
+}
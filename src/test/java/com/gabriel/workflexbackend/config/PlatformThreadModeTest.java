@@ -0,0 +1,32 @@
+package com.gabriel.workflexbackend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PlatformThreadModeTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void testExportsGetBoundedPlatformExecutor() throws Exception {
+        // Act
+        SimpleAsyncTaskExecutor exports = context.getBean("applicationTaskExecutor", SimpleAsyncTaskExecutor.class);
+        Thread exportThread = CompletableFuture.supplyAsync(Thread::currentThread, exports).get();
+
+        // Assert
+        assertThat(exportThread.isVirtual()).isFalse();
+        assertThat(exportThread.getName()).startsWith("mvc-async-");
+        assertThat(exports.isThrottleActive()).isTrue();
+        assertThat(exports.getConcurrencyLimit()).isEqualTo(4);
+        assertThat(context.getBeansOfType(RequestConcurrencyLimitFilter.class)).isEmpty();
+    }
+}
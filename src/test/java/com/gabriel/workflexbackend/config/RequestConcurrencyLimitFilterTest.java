@@ -0,0 +1,50 @@
+package com.gabriel.workflexbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestConcurrencyLimitFilterTest {
+
+    @Test
+    void testRequestBeyondLimitIsRejectedAfterTimeout() throws Exception {
+        // Arrange: one connection, one request per connection
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, 1, 10, new ObjectMapper());
+        MockHttpServletResponse blocked = new MockHttpServletResponse();
+        List<Integer> permitsWhileRunning = new ArrayList<>();
+
+        // Act: a second request arrives while the first still holds the only permit
+        filter.doFilter(new MockHttpServletRequest("GET", "/workflex/workation"), new MockHttpServletResponse(), (request, response) -> {
+            permitsWhileRunning.add(filter.getAvailablePermits());
+            filter.doFilter(new MockHttpServletRequest("GET", "/workflex/workation"), blocked,
+                    (inner, innerResponse) -> permitsWhileRunning.add(-1));
+        });
+
+        // Assert
+        assertThat(permitsWhileRunning).containsExactly(0);
+        assertThat(blocked.getStatus()).isEqualTo(503);
+        assertThat(blocked.getContentAsString()).contains("Server is busy");
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void testPermitIsReleasedWhenRequestFails() {
+        // Arrange
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(10, 4, 10, new ObjectMapper());
+
+        // Act & Assert
+        assertThat(filter.getMaxConcurrentRequests()).isEqualTo(40);
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/workflex/workation"),
+                new MockHttpServletResponse(), (request, response) -> {
+                    throw new IllegalStateException("boom");
+                })).isInstanceOf(IllegalStateException.class);
+        assertThat(filter.getAvailablePermits()).isEqualTo(40);
+    }
+}
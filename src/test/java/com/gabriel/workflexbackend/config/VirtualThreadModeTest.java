@@ -0,0 +1,54 @@
+package com.gabriel.workflexbackend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"spring.threads.virtual.enabled=true", "spring.task.execution.simple.concurrency-limit=4"})
+class VirtualThreadModeTest {
+
+    @Autowired
+    @Qualifier("importTaskExecutor")
+    private ThreadPoolTaskExecutor importTaskExecutor;
+
+    @Autowired
+    @Qualifier("riskRescoreExecutor")
+    private ThreadPoolTaskExecutor riskRescoreExecutor;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void testBackgroundExecutorsRunOnBoundedVirtualThreads() throws Exception {
+        // Act
+        Thread importThread = CompletableFuture.supplyAsync(Thread::currentThread, importTaskExecutor).get();
+        Thread rescoreThread = CompletableFuture.supplyAsync(Thread::currentThread, riskRescoreExecutor).get();
+
+        // Assert
+        assertThat(importThread.isVirtual()).isTrue();
+        assertThat(importThread.getName()).startsWith("import-");
+        assertThat(rescoreThread.isVirtual()).isTrue();
+        assertThat(importTaskExecutor.getMaxPoolSize()).isEqualTo(2);
+        assertThat(riskRescoreExecutor.getMaxPoolSize()).isEqualTo(4);
+    }
+
+    @Test
+    void testRequestsAreAdmittedAgainstConnectionPoolAndExportsGetVirtualExecutor() {
+        // Act
+        RequestConcurrencyLimitFilter filter = context.getBean(RequestConcurrencyLimitFilter.class);
+        SimpleAsyncTaskExecutor exports = context.getBean("applicationTaskExecutor", SimpleAsyncTaskExecutor.class);
+
+        // Assert
+        assertThat(filter.getMaxConcurrentRequests()).isEqualTo(40);
+        assertThat(exports.isThrottleActive()).isTrue();
+        assertThat(exports.getConcurrencyLimit()).isEqualTo(4);
+    }
+}
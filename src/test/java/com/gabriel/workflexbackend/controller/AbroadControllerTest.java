@@ -0,0 +1,58 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.AbroadResponseDTO;
+import com.gabriel.workflexbackend.service.AbroadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AbroadController.class)
+class AbroadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AbroadService abroadService;
+
+    @Test
+    void testGetAbroadOnDate() throws Exception {
+        // Arrange
+        LocalDate day = LocalDate.of(2024, 3, 5);
+        when(abroadService.getAbroad(day, day)).thenReturn(List.of(
+                new AbroadResponseDTO("John Doe", "Spain", 1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10))));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/abroad").param("date", "2024-03-05"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee").value("John Doe"))
+                .andExpect(jsonPath("$[0].destination").value("Spain"))
+                .andExpect(jsonPath("$[0].workationId").value(1))
+                .andExpect(jsonPath("$[0].start").value("01/03/2024"))
+                .andExpect(jsonPath("$[0].end").value("10/03/2024"));
+
+        verify(abroadService, times(1)).getAbroad(day, day);
+    }
+
+    @Test
+    void testCountAbroadInWeek() throws Exception {
+        // Arrange
+        when(abroadService.countAbroad(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 10))).thenReturn(12);
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/abroad/count").param("from", "2024-03-04").param("to", "2024-03-10"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("12"));
+
+        verify(abroadService, times(1)).countAbroad(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 10));
+    }
+}
@@ -0,0 +1,89 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.CacheStatsResponseDTO;
+import com.gabriel.workflexbackend.dto.response.SlowQueryResponseDTO;
+import com.gabriel.workflexbackend.dto.response.SqlStatsResponseDTO;
+import com.gabriel.workflexbackend.metrics.SlowQueryMonitor;
+import com.gabriel.workflexbackend.service.CacheStatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheStatsService cacheStatsService;
+
+    @MockBean
+    private SlowQueryMonitor slowQueryMonitor;
+
+    @Test
+    void testGetCacheStats() throws Exception {
+        // Arrange
+        when(cacheStatsService.getCacheStats()).thenReturn(List.of(new CacheStatsResponseDTO("workations", 5, 2, 1, 10)));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/admin/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("workations"))
+                .andExpect(jsonPath("$[0].hits").value(5))
+                .andExpect(jsonPath("$[0].misses").value(2))
+                .andExpect(jsonPath("$[0].evictions").value(1))
+                .andExpect(jsonPath("$[0].size").value(10));
+
+        verify(cacheStatsService, times(1)).getCacheStats();
+    }
+
+    @Test
+    void testGetQueryStats() throws Exception {
+        // Arrange
+        when(slowQueryMonitor.getStats()).thenReturn(List.of(
+                new SqlStatsResponseDTO("select * from workation where id = ?", 4, 1, 200.0, 50.0, 150.0)));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/admin/queries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].fingerprint").value("select * from workation where id = ?"))
+                .andExpect(jsonPath("$[0].count").value(4))
+                .andExpect(jsonPath("$[0].slowCount").value(1))
+                .andExpect(jsonPath("$[0].maxMillis").value(150.0));
+    }
+
+    @Test
+    void testGetSlowQueries() throws Exception {
+        // Arrange
+        when(slowQueryMonitor.getSlowest()).thenReturn(List.of(new SlowQueryResponseDTO("select * from workation where id = ?",
+                "select * from workation where id = ?", List.of("7"), 150.0, "WorkationService.getWorkationById",
+                Instant.parse("2024-03-01T10:00:00Z"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/admin/slow-queries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].parameters[0]").value("7"))
+                .andExpect(jsonPath("$[0].elapsedMillis").value(150.0))
+                .andExpect(jsonPath("$[0].caller").value("WorkationService.getWorkationById"));
+    }
+
+    @Test
+    void testResetQueryStats() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/workflex/admin/queries"))
+                .andExpect(status().isNoContent());
+
+        verify(slowQueryMonitor, times(1)).reset();
+    }
+}
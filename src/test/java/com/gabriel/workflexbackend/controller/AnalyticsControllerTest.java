@@ -0,0 +1,62 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.AnalyticsRowResponseDTO;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.service.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AnalyticsController.class)
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AnalyticsService analyticsService;
+
+    @Test
+    void testGetTotalsByDestinationRiskAndMonth() throws Exception {
+        // Arrange
+        List<String> groupBy = List.of("destination", "risk", "month");
+        when(analyticsService.getTotals(YearMonth.of(2024, 1), YearMonth.of(2024, 12), groupBy)).thenReturn(List.of(
+                new AnalyticsRowResponseDTO(null, "Spain", RiskEnum.LOW, 2024, YearMonth.of(2024, 3), 4, 30, 22)));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/analytics")
+                        .param("from", "2024-01")
+                        .param("to", "2024-12")
+                        .param("groupBy", "destination,risk,month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee").doesNotExist())
+                .andExpect(jsonPath("$[0].destination").value("Spain"))
+                .andExpect(jsonPath("$[0].risk").value("LOW"))
+                .andExpect(jsonPath("$[0].month").value("2024-03"))
+                .andExpect(jsonPath("$[0].trips").value(4))
+                .andExpect(jsonPath("$[0].days").value(30))
+                .andExpect(jsonPath("$[0].workingDays").value(22));
+
+        verify(analyticsService, times(1)).getTotals(YearMonth.of(2024, 1), YearMonth.of(2024, 12), groupBy);
+    }
+
+    @Test
+    void testGetTotalsRejectsUnknownDimension() throws Exception {
+        // Arrange
+        when(analyticsService.getTotals(YearMonth.of(2024, 1), YearMonth.of(2024, 12), List.of("planet")))
+                .thenThrow(new IllegalArgumentException("Unsupported analytics dimension: planet"));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/analytics").param("from", "2024-01").param("to", "2024-12").param("groupBy", "planet"))
+                .andExpect(status().isInternalServerError());
+    }
+}
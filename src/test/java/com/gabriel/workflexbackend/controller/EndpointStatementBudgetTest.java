@@ -0,0 +1,251 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Runs every endpoint against a small and a four times larger seeded database, with cold caches, and
+ * checks the SQL statements Hibernate prepared and the entities it loaded against a budget per endpoint.
+ * The statement count must also be the same at both sizes, which is what catches an N+1 load through
+ * the lazy {@code Workation.employee} association even while it is still under budget.
+ * <p>
+ * When an endpoint legitimately needs another statement, raise its budget here. The CSV import and risk
+ * re-scoring run as background jobs over the whole table in chunks and are covered by the benchmarks.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session.events.log=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true"
+})
+@AutoConfigureMockMvc
+class EndpointStatementBudgetTest {
+
+    private static final int TRIPS_PER_EMPLOYEE = 4;
+    private static final int SMALL = 5;
+    private static final int LARGE = SMALL * 4;
+    private static final String[] DESTINATIONS = {"Spain", "France", "India", "Portugal"};
+
+    // Entity loads an endpoint may make that grow with the table, for endpoints returning all of it
+    private static final int TABLE = -1;
+
+    private record Seed(List<Long> workationIds, List<Long> employeeIds) {
+
+        private long workation(int index) {
+            return workationIds.get(index);
+        }
+
+        private long employee(int index) {
+            return employeeIds.get(index);
+        }
+    }
+
+    private record EndpointCase(String name, int maxStatements, int maxEntityLoads, boolean async,
+                                Function<Seed, RequestBuilder> request) {
+    }
+
+    private record Measurement(long statements, long entityLoads) {
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        clearDatabase();
+    }
+
+    @Test
+    void testEveryEndpointStaysWithinItsStatementBudget() throws Exception {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> violations = new ArrayList<>();
+
+        for (EndpointCase endpoint : endpoints()) {
+            // Act: the first run is not counted, as the first inserts also fetch blocks of ids from the sequences
+            measure(endpoint, SMALL, statistics);
+            Measurement small = measure(endpoint, SMALL, statistics);
+            Measurement large = measure(endpoint, LARGE, statistics);
+            System.out.printf(Locale.ROOT, "%-32s statements %d/%d, entity loads %d/%d%n", endpoint.name(),
+                    small.statements(), large.statements(), small.entityLoads(), large.entityLoads());
+
+            // Assert
+            if (large.statements() > endpoint.maxStatements()) {
+                violations.add(endpoint.name() + ": " + large.statements() + " statements, budget " + endpoint.maxStatements());
+            }
+            if (large.statements() > small.statements()) {
+                violations.add(endpoint.name() + ": statements grow with the data, " + small.statements() + " for "
+                        + SMALL * TRIPS_PER_EMPLOYEE + " rows, " + large.statements() + " for " + LARGE * TRIPS_PER_EMPLOYEE);
+            }
+            int maxEntityLoads = endpoint.maxEntityLoads() == TABLE ? LARGE * (TRIPS_PER_EMPLOYEE + 1) : endpoint.maxEntityLoads();
+            if (large.entityLoads() > maxEntityLoads) {
+                violations.add(endpoint.name() + ": " + large.entityLoads() + " entity loads, budget " + maxEntityLoads);
+            }
+        }
+
+        assertThat(violations).isEmpty();
+    }
+
+    private List<EndpointCase> endpoints() {
+        return List.of(
+                sync("GET workations", 1, TABLE, seed -> get("/workflex/workation")),
+                // A page holds limit + 1 workations, to tell whether there is a next one, and their employees
+                sync("GET workation page", 1, 22, seed -> get("/workflex/workation").param("limit", "10")),
+                sync("GET workation search", 2, 5, seed -> get("/workflex/workation/search")
+                        .param("employee", "Employee 1").param("from", "2024-01-01").param("to", "2024-12-31")),
+                sync("GET workation search page", 1, 22, seed -> get("/workflex/workation/search")
+                        .param("destination", "Spain").param("limit", "10")),
+                async("GET workation export", 1, TABLE, seed -> get("/workflex/workation/export")),
+                sync("GET workation conflicts", 1, 0, seed -> get("/workflex/workation/conflicts")),
+                sync("GET workation", 1, 2, seed -> get("/workflex/workation/{id}", seed.workation(0))),
+                sync("POST workation", 3, 1, seed -> post("/workflex/workation").contentType(MediaType.APPLICATION_JSON)
+                        .content(workation("Employee 1", "01/01/2030", "05/01/2030"))),
+                sync("POST workation batch", 5, 2, seed -> post("/workflex/workation/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"creates\":[" + workation("Employee 1", "01/01/2030", "05/01/2030") + ","
+                                + workation("Employee 2", "01/01/2030", "05/01/2030") + "],\"updates\":[],\"deletes\":["
+                                + seed.workation(2) + "," + seed.workation(3) + "]}")),
+                sync("PUT workation", 4, 2, seed -> put("/workflex/workation/{id}", seed.workation(0))
+                        .contentType(MediaType.APPLICATION_JSON).content(workation("Employee 0", "01/01/2030", "05/01/2030"))),
+                sync("DELETE workation", 2, 0, seed -> delete("/workflex/workation/{id}", seed.workation(0))),
+                sync("DELETE workations ended before", 1, 0, seed -> delete("/workflex/workation").param("endedBefore", "2024-03-01")),
+                sync("DELETE workations of employee", 1, 0, seed -> delete("/workflex/workation").param("employeeId",
+                        String.valueOf(seed.employee(0)))),
+                sync("GET employees", 1, TABLE, seed -> get("/workflex/employees")),
+                sync("GET employee", 1, 1, seed -> get("/workflex/employees/{id}", seed.employee(0))),
+                sync("POST employee", 1, 0, seed -> post("/workflex/employees").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"New Employee\"}")),
+                sync("PUT employee", 2, 1, seed -> put("/workflex/employees/{id}", seed.employee(0))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Renamed Employee\"}")),
+                sync("DELETE employee", 2, 0, seed -> delete("/workflex/employees/{id}", seed.employee(0))),
+                // Answered from the in-memory index; only the employees abroad are loaded, in one statement
+                sync("GET abroad on date", 2, TABLE, seed -> get("/workflex/abroad").param("date", "2024-01-05")),
+                sync("GET abroad between", 2, TABLE, seed -> get("/workflex/abroad").param("from", "2024-01-01").param("to", "2024-02-01")),
+                sync("GET abroad count", 1, 0, seed -> get("/workflex/abroad/count").param("from", "2024-01-01").param("to", "2024-02-01")),
+                sync("GET residency", 1, 0, seed -> get("/workflex/residency").param("asOf", "2024-12-31")),
+                sync("GET analytics", 1, 0, seed -> get("/workflex/analytics").param("from", "2024-01").param("to", "2024-12")
+                        .param("groupBy", "destination,month")),
+                sync("GET working days", 0, 0, seed -> get("/workflex/working-days").param("country", "Germany")
+                        .param("start", "2024-01-01").param("end", "2024-01-31")),
+                // Chunked: one more statement for every 1000 rows, well beyond the seeded sizes; rows are read as projections
+                sync("POST working days recalculate", 3, 0, seed -> post("/workflex/working-days/recalculate")),
+                async("GET compliance report", 2, 0, seed -> get("/workflex/reports/compliance/{year}", 2024)),
+                sync("GET admin caches", 0, 0, seed -> get("/workflex/admin/caches")),
+                sync("GET admin queries", 0, 0, seed -> get("/workflex/admin/queries")),
+                sync("GET admin slow queries", 0, 0, seed -> get("/workflex/admin/slow-queries")));
+    }
+
+    private static EndpointCase sync(String name, int maxStatements, int maxEntityLoads, Function<Seed, RequestBuilder> request) {
+        return new EndpointCase(name, maxStatements, maxEntityLoads, false, request);
+    }
+
+    private static EndpointCase async(String name, int maxStatements, int maxEntityLoads, Function<Seed, RequestBuilder> request) {
+        return new EndpointCase(name, maxStatements, maxEntityLoads, true, request);
+    }
+
+    private Measurement measure(EndpointCase endpoint, int employees, Statistics statistics) throws Exception {
+        clearDatabase();
+        Seed seed = seed(employees);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        employeeResolver.evictAll();
+        RequestBuilder request = endpoint.request().apply(seed);
+        statistics.clear();
+
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (endpoint.async()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        assertThat(result.getResponse().getStatus()).as(endpoint.name()).isBetween(200, 299);
+        return new Measurement(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+    }
+
+    // Each employee's trips are 40 days apart and last 10 days, so none of them overlap
+    private Seed seed(int employees) throws IOException {
+        StringBuilder csv = new StringBuilder("workationId,employee,origin,destination,start,end,workingDays,risk\n");
+        for (int e = 0; e < employees; e++) {
+            for (int t = 0; t < TRIPS_PER_EMPLOYEE; t++) {
+                LocalDate start = LocalDate.of(2024, 1, 1).plusDays(40L * t + e % 10);
+                csv.append('w').append(e).append('-').append(t).append(",Employee ").append(e).append(",Germany,")
+                        .append(DESTINATIONS[(e + t) % DESTINATIONS.length]).append(',').append(start).append(',')
+                        .append(start.plusDays(10)).append(",7,LOW\n");
+            }
+        }
+        workationBulkImporter.importCsv(new StringReader(csv.toString()), (lineNumber, line, reason) -> {
+            throw new IllegalStateException("Seed line " + lineNumber + " rejected: " + reason);
+        });
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        return new Seed(jdbcTemplate.queryForList("select id from workation order by id", Long.class),
+                jdbcTemplate.queryForList("select id from employee order by id", Long.class));
+    }
+
+    private void clearDatabase() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    private static String workation(String employee, String start, String end) {
+        return "{\"employee\":\"" + employee + "\",\"origin\":\"Germany\",\"destination\":\"Spain\",\"start\":\"" + start
+                + "\",\"end\":\"" + end + "\"}";
+    }
+}
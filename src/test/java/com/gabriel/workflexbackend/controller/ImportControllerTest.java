@@ -0,0 +1,73 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.exception.ImportQueueFullException;
+import com.gabriel.workflexbackend.importer.ImportJob;
+import com.gabriel.workflexbackend.importer.ImportJobService;
+import com.gabriel.workflexbackend.importer.ImportJobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportJobService importJobService;
+
+    @Test
+    void testImportWorkationsReturnsAcceptedJob() throws Exception {
+        // Arrange
+        ImportJob job = new ImportJob(Path.of("rejected.csv"));
+        when(importJobService.submit(any(InputStream.class))).thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(post("/workflex/import/workations")
+                        .contentType("text/csv")
+                        .content("workationId,employee,origin,destination,start,end,workingDays,risk\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/workflex/import/jobs/" + job.getId()))
+                .andExpect(jsonPath("$.id").value(job.getId().toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(importJobService, times(1)).submit(any(InputStream.class));
+    }
+
+    @Test
+    void testImportWorkationsWithEveryWriterBusyIsServiceUnavailable() throws Exception {
+        // Arrange
+        when(importJobService.submit(any(InputStream.class))).thenThrow(new ImportQueueFullException("Too many imports running, try again later"));
+
+        // Act & Assert
+        mockMvc.perform(post("/workflex/import/workations")
+                        .contentType("text/csv")
+                        .content("workationId,employee,origin,destination,start,end,workingDays,risk\n"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Too many imports running, try again later"));
+    }
+
+    @Test
+    void testGetRejectedRowsWhileRunningIsConflict() throws Exception {
+        // Arrange
+        ImportJob job = new ImportJob(Path.of("rejected.csv"));
+        job.setStatus(ImportJobStatus.RUNNING);
+        when(importJobService.getJob(job.getId())).thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/import/jobs/" + job.getId() + "/rejected"))
+                .andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,73 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.report.ComplianceReportService;
+import com.gabriel.workflexbackend.report.ReportFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReportController.class)
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ComplianceReportService complianceReportService;
+
+    @Test
+    void testGetComplianceReportAsCsv() throws Exception {
+        // Arrange
+        when(complianceReportService.write(eq(2024), eq(ReportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("employeeId,employee\n1,John Doe\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/workflex/reports/compliance/2024").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=compliance-2024.csv"))
+                .andExpect(content().string("employeeId,employee\n1,John Doe\n"));
+
+        verify(complianceReportService, times(1)).write(eq(2024), eq(ReportFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    void testGetComplianceReportRejectsUnknownFormat() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/workflex/reports/compliance/2024").param("format", "xml"))
+                .andExpect(status().isInternalServerError());
+
+        verifyNoInteractions(complianceReportService);
+    }
+
+    @Test
+    void testGetComplianceReportRejectsYearOutsideSupportedRange() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/workflex/reports/compliance/999999"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Compliance reports are only available for years 1900 to 2099"));
+
+        verifyNoInteractions(complianceReportService);
+    }
+}
@@ -0,0 +1,61 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.dto.response.ResidencyResponseDTO;
+import com.gabriel.workflexbackend.index.ResidencyStatus;
+import com.gabriel.workflexbackend.service.ResidencyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ResidencyController.class)
+class ResidencyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ResidencyService residencyService;
+
+    @Test
+    void testGetExposuresAsOfDate() throws Exception {
+        // Arrange
+        LocalDate asOf = LocalDate.of(2024, 12, 31);
+        when(residencyService.getExposures(asOf)).thenReturn(List.of(new ResidencyResponseDTO("John Doe", "Spain", 190, 183,
+                ResidencyStatus.EXCEEDED, LocalDate.of(2024, 1, 2), asOf)));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/residency").param("asOf", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee").value("John Doe"))
+                .andExpect(jsonPath("$[0].destination").value("Spain"))
+                .andExpect(jsonPath("$[0].days").value(190))
+                .andExpect(jsonPath("$[0].thresholdDays").value(183))
+                .andExpect(jsonPath("$[0].status").value("EXCEEDED"))
+                .andExpect(jsonPath("$[0].windowStart").value("02/01/2024"))
+                .andExpect(jsonPath("$[0].windowEnd").value("31/12/2024"));
+
+        verify(residencyService, times(1)).getExposures(asOf);
+    }
+
+    @Test
+    void testGetExposuresDefaultsToToday() throws Exception {
+        // Arrange
+        when(residencyService.getExposures(LocalDate.now())).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/residency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(0));
+
+        verify(residencyService, times(1)).getExposures(LocalDate.now());
+    }
+}
@@ -0,0 +1,57 @@
+package com.gabriel.workflexbackend.controller;
+
+import com.gabriel.workflexbackend.risk.RescoreJob;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.risk.RiskRescoringService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RiskController.class)
+class RiskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RiskEngine riskEngine;
+
+    @MockBean
+    private RiskRescoringService riskRescoringService;
+
+    @Test
+    void testReloadRulesStartsRescoring() throws Exception {
+        // Arrange
+        when(riskEngine.reload()).thenReturn(2L);
+        when(riskRescoringService.start()).thenReturn(new RescoreJob(2L));
+
+        // Act & Assert
+        mockMvc.perform(post("/workflex/risk/rules/reload"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/workflex/risk/rescore"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.rulesVersion").value(2));
+
+        verify(riskEngine, times(1)).reload();
+        verify(riskRescoringService, times(1)).start();
+    }
+
+    @Test
+    void testGetRescoreJobWithoutAnyRun() throws Exception {
+        // Arrange
+        when(riskRescoringService.getCurrentJob()).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/risk/rescore"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,8 +1,21 @@
 package com.gabriel.workflexbackend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.workflexbackend.dto.response.CursorPageResponseDTO;
+import com.gabriel.workflexbackend.dto.response.OverlapConflictResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchItemResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchRequestDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchResponseDTO;
 import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.exception.InvalidRequestException;
 import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.service.BatchItemStatus;
+import com.gabriel.workflexbackend.service.BatchOperation;
+import com.gabriel.workflexbackend.service.ExportFormat;
+import com.gabriel.workflexbackend.service.WorkationBatchService;
+import com.gabriel.workflexbackend.service.WorkationExportService;
+import com.gabriel.workflexbackend.service.WorkationGroupCommitWriter;
+import com.gabriel.workflexbackend.service.WorkationSearchCriteria;
 import com.gabriel.workflexbackend.service.WorkationService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,13 +23,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -31,6 +48,15 @@ class WorkationControllerTest {
     @MockBean
     private WorkationService workationService;
 
+    @MockBean
+    private WorkationExportService workationExportService;
+
+    @MockBean
+    private WorkationBatchService workationBatchService;
+
+    @MockBean
+    private WorkationGroupCommitWriter groupCommitWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -62,6 +88,114 @@ class WorkationControllerTest {
         verify(workationService, times(1)).getAllWorkations();
     }
 
+    @Test
+    void testGetWorkationPage() throws Exception {
+        // Arrange
+        WorkationResponseDTO workation = createSampleWorkationDTO(1L, "John Doe", "Germany", "USA");
+        CursorPageResponseDTO<WorkationResponseDTO> page = new CursorPageResponseDTO<>(List.of(workation), "abc", true);
+
+        when(workationService.getWorkationPage("xyz", 1)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/workation").param("after", "xyz").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("abc"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(workationService, times(1)).getWorkationPage("xyz", 1);
+        verify(workationService, never()).getAllWorkations();
+    }
+
+    @Test
+    void testGetWorkationPageWithInvalidCursorReturnsBadRequest() throws Exception {
+        // Arrange
+        when(workationService.getWorkationPage("not-a-cursor", 10))
+                .thenThrow(new InvalidRequestException("Invalid cursor: not-a-cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/workation").param("after", "not-a-cursor").param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor: not-a-cursor"));
+    }
+
+    @Test
+    void testSearchWorkationsWithInvalidLimitReturnsBadRequest() throws Exception {
+        // Arrange
+        WorkationSearchCriteria criteria = new WorkationSearchCriteria(null, null, null, null, null, null);
+        when(workationService.searchWorkations(criteria, null, 0))
+                .thenThrow(new InvalidRequestException("Page limit must be between 1 and 500"));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/workation/search").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchWorkations() throws Exception {
+        // Arrange
+        WorkationResponseDTO workation = createSampleWorkationDTO(1L, "John Doe", "Germany", "USA");
+        WorkationSearchCriteria criteria = new WorkationSearchCriteria("John Doe", null, "USA", RiskEnum.HIGH,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31));
+        when(workationService.searchWorkations(criteria, null, 50))
+                .thenReturn(new CursorPageResponseDTO<>(List.of(workation), null, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/workation/search")
+                        .param("employee", "John Doe")
+                        .param("destination", "USA")
+                        .param("risk", "HIGH")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(workationService, times(1)).searchWorkations(criteria, null, 50);
+    }
+
+    @Test
+    void testExportWorkationsAsCsv() throws Exception {
+        // Arrange
+        when(workationExportService.export(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("workationId,employee\n1,John Doe\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/workflex/workation/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(content().string("workationId,employee\n1,John Doe\n"));
+
+        verify(workationExportService, times(1)).export(eq(ExportFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    void testGetOverlapConflicts() throws Exception {
+        // Arrange
+        when(workationService.getOverlapConflicts()).thenReturn(List.of(new OverlapConflictResponseDTO("John Doe", 1L, 2L,
+                LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 8))));
+
+        // Act & Assert
+        mockMvc.perform(get("/workflex/workation/conflicts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee").value("John Doe"))
+                .andExpect(jsonPath("$[0].workationId").value(1))
+                .andExpect(jsonPath("$[0].conflictingWorkationId").value(2))
+                .andExpect(jsonPath("$[0].overlapStart").value("04/03/2024"))
+                .andExpect(jsonPath("$[0].overlapEnd").value("08/03/2024"));
+
+        verify(workationService, times(1)).getOverlapConflicts();
+    }
+
     @Test
     void testGetWorkationById() throws Exception {
         // Arrange
@@ -106,6 +240,25 @@ class WorkationControllerTest {
         verify(workationService, times(1)).createWorkation(any(WorkationResponseDTO.class));
     }
 
+    @Test
+    void testCreateWorkationGoesThroughGroupCommitWhenEnabled() throws Exception {
+        // Arrange
+        WorkationResponseDTO inputWorkation = createSampleWorkationDTO(null, "John Doe", "Germany", "USA");
+        WorkationResponseDTO createdWorkation = createSampleWorkationDTO(1L, "John Doe", "Germany", "USA");
+
+        when(groupCommitWriter.isEnabled()).thenReturn(true);
+        when(groupCommitWriter.create(any(WorkationResponseDTO.class))).thenReturn(createdWorkation);
+
+        // Act & Assert
+        mockMvc.perform(post("/workflex/workation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputWorkation)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+
+        verify(workationService, never()).createWorkation(any());
+    }
+
     @Test
     void testUpdateWorkation() throws Exception {
         // Arrange
@@ -141,6 +294,51 @@ class WorkationControllerTest {
         verify(workationService, times(1)).deleteWorkation(1L);
     }
 
+    @Test
+    void testApplyBatchReturnsResultPerItem() throws Exception {
+        // Arrange
+        WorkationBatchRequestDTO batch = new WorkationBatchRequestDTO(
+                List.of(createSampleWorkationDTO(null, "John Doe", "Germany", "USA")), List.of(), List.of(7L));
+        WorkationBatchResponseDTO response = new WorkationBatchResponseDTO(1, 0, 0, 1, List.of(
+                new WorkationBatchItemResponseDTO(BatchOperation.DELETE, 0, 7L, BatchItemStatus.NOT_FOUND, "Workation not found with id: 7", null),
+                new WorkationBatchItemResponseDTO(BatchOperation.CREATE, 0, 1L, BatchItemStatus.OK, null,
+                        createSampleWorkationDTO(1L, "John Doe", "Germany", "USA"))));
+
+        when(workationBatchService.apply(any(WorkationBatchRequestDTO.class))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/workflex/workation/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].operation").value("DELETE"))
+                .andExpect(jsonPath("$.results[0].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[0].workation").doesNotExist())
+                .andExpect(jsonPath("$.results[1].workation.start").value("01/01/2024"));
+
+        verify(workationBatchService, times(1)).apply(argThat(request ->
+                request.getCreates().size() == 1 && request.getDeletes().equals(List.of(7L))));
+    }
+
+    @Test
+    void testDeleteWorkationsByFilterReturnsCount() throws Exception {
+        // Arrange
+        when(workationService.deleteWorkationsEndedBefore(LocalDate.of(2024, 1, 1))).thenReturn(12);
+        when(workationService.deleteWorkationsOfEmployee(7L)).thenReturn(3);
+
+        // Act & Assert
+        mockMvc.perform(delete("/workflex/workation").param("endedBefore", "2024-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(12));
+        mockMvc.perform(delete("/workflex/workation").param("employeeId", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3));
+
+        verify(workationService, never()).deleteWorkation(any());
+    }
+
     @Test
     void testGetWorkationByIdNotFound() throws Exception {
         // Arrange
@@ -0,0 +1,47 @@
+package com.gabriel.workflexbackend.datagen;
+
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"workflex.scale.employees=40", "workflex.scale.workations=500"})
+@ActiveProfiles({"test", "scale"})
+class ScaleDataInitializerTest {
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void testScaleProfileLoadsTheGeneratedDataSet() {
+        // Assert
+        assertThat(employeeRepository.count()).isEqualTo(40);
+        assertThat(workationRepository.count()).isEqualTo(500);
+        assertThat(employeeRepository.findAll()).allSatisfy(employee -> assertThat(employee.getName()).startsWith("Employee "));
+    }
+}
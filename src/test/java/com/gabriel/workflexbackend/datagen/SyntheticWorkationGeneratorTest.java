@@ -0,0 +1,130 @@
+package com.gabriel.workflexbackend.datagen;
+
+import com.gabriel.workflexbackend.importer.WorkationCsvReader;
+import com.gabriel.workflexbackend.importer.WorkationCsvRecord;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.service.WorkationExportService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyntheticWorkationGeneratorTest {
+
+    @Test
+    void testSameSeedProducesSameRows() throws Exception {
+        // Act
+        String first = csv(new SyntheticWorkationGenerator(7, 100, 1_000));
+        String second = csv(new SyntheticWorkationGenerator(7, 100, 1_000));
+        String otherSeed = csv(new SyntheticWorkationGenerator(8, 100, 1_000));
+
+        // Assert
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(otherSeed);
+        assertThat(first).startsWith(WorkationExportService.CSV_HEADER + "\n");
+    }
+
+    @Test
+    void testReaderStreamsTheSameRowsAsWriteCsv() throws Exception {
+        // Arrange
+        SyntheticWorkationGenerator generator = new SyntheticWorkationGenerator(42, 250, 2_001);
+        StringBuilder streamed = new StringBuilder();
+        char[] buffer = new char[37];
+
+        // Act
+        try (Reader reader = generator.csvReader()) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                streamed.append(buffer, 0, read);
+            }
+        }
+
+        // Assert
+        assertThat(streamed.toString()).isEqualTo(csv(generator));
+    }
+
+    @Test
+    void testEveryRowImportsAndTripsOfAnEmployeeNeverOverlap() throws Exception {
+        // Arrange
+        SyntheticWorkationGenerator generator = new SyntheticWorkationGenerator(42, 300, 3_001);
+        List<WorkationCsvRecord> records = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+
+        // Act
+        WorkationCsvReader.read(generator.csvReader(), records::add, (lineNumber, line, reason) -> rejected.add(line));
+
+        // Assert
+        assertThat(rejected).isEmpty();
+        assertThat(records).hasSize(3_001);
+        Map<String, WorkationCsvRecord> previousByEmployee = new HashMap<>();
+        for (WorkationCsvRecord record : records) {
+            assertThat(record.destination()).isNotEqualTo(record.origin());
+            assertThat(record.end()).isAfter(record.start());
+            assertThat(record.start().toLocalDate()).isAfterOrEqualTo(SyntheticWorkationGenerator.DEFAULT_FIRST_DAY);
+            WorkationCsvRecord previous = previousByEmployee.put(record.employee(), record);
+            if (previous != null) {
+                assertThat(record.origin()).isEqualTo(previous.origin());
+                assertThat(record.start()).isAfter(previous.end());
+            }
+        }
+        assertThat(previousByEmployee).hasSize(300);
+    }
+
+    @Test
+    void testDistributionsAreRealistic() throws Exception {
+        // Arrange
+        SyntheticWorkationGenerator generator = new SyntheticWorkationGenerator(42, 2_000, 20_000);
+        List<WorkationCsvRecord> records = new ArrayList<>();
+
+        // Act
+        WorkationCsvReader.read(generator.csvReader(), records::add, (lineNumber, line, reason) -> { });
+
+        // Assert
+        double fromGermany = records.stream().filter(r -> r.origin().equals("Germany")).count() / (double) records.size();
+        double toSpain = records.stream().filter(r -> r.destination().equals("Spain")).count() / (double) records.size();
+        double high = records.stream().filter(r -> r.risk() == RiskEnum.HIGH).count() / (double) records.size();
+        long[] days = records.stream()
+                .mapToLong(r -> ChronoUnit.DAYS.between(r.start().toLocalDate(), r.end().toLocalDate()) + 1)
+                .sorted().toArray();
+        assertThat(fromGermany).isBetween(0.6, 0.8);
+        assertThat(toSpain).isBetween(0.12, 0.25);
+        assertThat(high).isBetween(0.05, 0.3);
+        assertThat(days[days.length / 2]).isBetween(5L, 9L);
+        assertThat(days[0]).isEqualTo(1);
+        assertThat(days[days.length - 1]).isBetween(60L, 180L);
+    }
+
+    @Test
+    void testWorkingDaysCountWeekdaysOnly() {
+        // Act & Assert: 2024-01-01 is a Monday
+        assertThat(SyntheticWorkationGenerator.weekdays(LocalDate.of(2024, 1, 1), 7)).isEqualTo(5);
+        assertThat(SyntheticWorkationGenerator.weekdays(LocalDate.of(2024, 1, 6), 2)).isZero();
+        assertThat(SyntheticWorkationGenerator.weekdays(LocalDate.of(2024, 1, 5), 10)).isEqualTo(6);
+    }
+
+    @Test
+    void testInvalidSizesAreRejected() {
+        // Act & Assert
+        assertThatThrownBy(() -> new SyntheticWorkationGenerator(42, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticWorkationGenerator(42, 10, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String csv(SyntheticWorkationGenerator generator) throws IOException {
+        StringWriter out = new StringWriter();
+        generator.writeCsv(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.gabriel.workflexbackend.importer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvLineTokenizerTest {
+
+    @Test
+    void testTokenizeTrimsUnquotedFields() {
+        // Arrange
+        String[] fields = new String[8];
+
+        // Act
+        int count = CsvLineTokenizer.tokenize("w1, Steffen Jacobs ,Germany,United States,2024-01-02,2024-12-31,65,HIGH", fields);
+
+        // Assert
+        assertThat(count).isEqualTo(8);
+        assertThat(fields).containsExactly("w1", "Steffen Jacobs", "Germany", "United States",
+                "2024-01-02", "2024-12-31", "65", "HIGH");
+    }
+
+    @Test
+    void testTokenizeHandlesQuotedFieldsWithSeparatorsAndEscapes() {
+        // Arrange
+        String[] fields = new String[4];
+
+        // Act
+        int count = CsvLineTokenizer.tokenize("1,\"Doe, John\",\"say \"\"hi\"\"\",", fields);
+
+        // Assert
+        assertThat(count).isEqualTo(4);
+        assertThat(fields).containsExactly("1", "Doe, John", "say \"hi\"", "");
+    }
+
+    @Test
+    void testTokenizeCountsFieldsBeyondCapacity() {
+        // Arrange
+        String[] fields = new String[2];
+
+        // Act
+        int count = CsvLineTokenizer.tokenize("a,b,c", fields);
+
+        // Assert
+        assertThat(count).isEqualTo(3);
+        assertThat(fields).containsExactly("a", "b");
+    }
+}
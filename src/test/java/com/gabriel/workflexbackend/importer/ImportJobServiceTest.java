@@ -0,0 +1,107 @@
+package com.gabriel.workflexbackend.importer;
+
+import com.gabriel.workflexbackend.exception.ImportQueueFullException;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"workflex.import.chunk-size=2", "workflex.import.queue-capacity=1"})
+class ImportJobServiceTest {
+
+    private static final String CSV = """
+            workationId,employee,origin,destination,start,end,workingDays,risk
+            w1,Steffen Jacobs,Germany,United States,2024-01-02,2024-12-31,65,HIGH
+            w2,Steffen Jacobs,Germany,Ukraine,2023-04-23,2023-04-30,1,HIGH
+            w3,Henry Duchamp,Belgium,Spain,2022-09-01,2023-03-01,131,UNKNOWN
+            w4,Andre Fischer,Germany,Greece,2023-05-22,2023-06-30,50,LOW
+            w5,Ayushi Singh,Germany,India,2023-03-13,2023-04-30,35,NO
+            """;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+    }
+
+    @Test
+    void testSubmitImportsInBackgroundAndReportsRejectedRows() throws Exception {
+        // Act
+        ImportJob job = importJobService.submit(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+        awaitFinished(job);
+
+        // Assert
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(job.getParsed().get()).isEqualTo(5);
+        assertThat(job.getInserted().get()).isEqualTo(4);
+        assertThat(job.getRejected().get()).isEqualTo(1);
+        assertThat(workationRepository.count()).isEqualTo(4);
+
+        List<String> report = Files.readAllLines(job.getRejectedReport());
+        assertThat(report).hasSize(2);
+        assertThat(report.get(1)).startsWith("4,").contains("w3,Henry Duchamp");
+    }
+
+    @Test
+    void testSubmitIsRefusedWhenNoWriterIsFree() {
+        // Arrange
+        ImportJobService busyService = new ImportJobService(workationBulkImporter, task -> {
+            throw new TaskRejectedException("All import writers busy");
+        }, 1, 50);
+        InputStream body = new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThatThrownBy(() -> busyService.submit(body))
+                .isInstanceOf(ImportQueueFullException.class)
+                .hasMessage("Too many imports running, try again later");
+        assertThat(workationRepository.count()).isZero();
+    }
+
+    @Test
+    void testGetJobNotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act & Assert
+        assertThatThrownBy(() -> importJobService.getJob(id))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Import job not found with id: " + id);
+    }
+
+    private void awaitFinished(ImportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
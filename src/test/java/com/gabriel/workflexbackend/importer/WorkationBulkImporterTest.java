@@ -0,0 +1,225 @@
+package com.gabriel.workflexbackend.importer;
+
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.service.DataVersion;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "workflex.import.chunk-size=2")
+@Transactional
+class WorkationBulkImporterTest {
+
+    private static final String CSV = """
+            workationId,employee,origin,destination,start,end,workingDays,risk
+            w1,Steffen Jacobs,Germany,United States,2024-01-02,2024-12-31,65,HIGH
+            w2,Steffen Jacobs,Germany,Ukraine,2023-04-23,2023-04-30,1,HIGH
+            w3,Henry Duchamp,Belgium,Spain,2022-09-01,not-a-date,131,HIGH
+            w4,Andre Fischer,Germany,Greece,2023-05-22,2023-06-30,50,LOW
+            w5,Ayushi Singh,Germany,India,2023-03-13,2023-04-30,35,NO
+            """;
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private WorkingDaysCalculator workingDaysCalculator;
+
+    @Autowired
+    private RiskEngine riskEngine;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Test
+    void testImportCsvInsertsValidRowsAndReportsRejectedOnes() throws Exception {
+        // Arrange
+        List<Long> rejectedLines = new ArrayList<>();
+
+        // Act
+        ImportResult result = workationBulkImporter.importCsv(new StringReader(CSV),
+                (lineNumber, line, reason) -> rejectedLines.add(lineNumber));
+
+        // Assert
+        assertThat(result.parsed()).isEqualTo(5);
+        assertThat(result.inserted()).isEqualTo(4);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(rejectedLines).containsExactly(4L);
+        assertThat(employeeRepository.findAll()).extracting(Employee::getName)
+                .containsExactlyInAnyOrder("Steffen Jacobs", "Andre Fischer", "Ayushi Singh");
+
+        List<Workation> workations = workationRepository.findAllWithEmployee();
+        assertThat(workations).hasSize(4);
+        assertThat(workations).filteredOn(w -> w.getEmployee().getName().equals("Steffen Jacobs"))
+                .extracting(Workation::getRisk)
+                .containsOnly(RiskEnum.HIGH);
+    }
+
+    @Test
+    void testImportCsvReusesExistingEmployees() throws Exception {
+        // Arrange
+        employeeRepository.save(new Employee(null, "Ayushi Singh"));
+
+        // Act
+        workationBulkImporter.importCsv(new StringReader(CSV), (lineNumber, line, reason) -> { });
+
+        // Assert
+        assertThat(employeeRepository.findAll()).filteredOn(e -> e.getName().equals("Ayushi Singh")).hasSize(1);
+    }
+
+    @Test
+    void testWorkingDaysAndRiskAreDerivedInsteadOfTakenFromTheFile() throws Exception {
+        // Arrange: the file's working days and risk are wrong, and line 3 predates the calendars
+        String csv = """
+                workationId,employee,origin,destination,start,end,workingDays,risk
+                w1,Steffen Jacobs,Germany,Spain,2024-03-04,2024-03-15,1,NO
+                w2,Steffen Jacobs,Germany,Spain,1850-03-04,1850-03-15,10,LOW
+                """;
+        int workingDays = workingDaysCalculator.countWorkingDays("Germany", LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 15));
+        RiskEnum risk = riskEngine.evaluate("Germany", "Spain", LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 15), workingDays);
+        List<Long> rejectedLines = new ArrayList<>();
+
+        // Act
+        ImportResult result = workationBulkImporter.importCsv(new StringReader(csv),
+                (lineNumber, line, reason) -> rejectedLines.add(lineNumber));
+
+        // Assert
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(rejectedLines).containsExactly(3L);
+        Workation imported = workationRepository.findAll().get(0);
+        assertThat(imported.getWorkingDays()).isEqualTo(workingDays).isEqualTo(10);
+        assertThat(imported.getRisk()).isEqualTo(risk);
+    }
+
+    @Test
+    void testImportedIdsDoNotCollideWithJpaGeneratedIds() throws Exception {
+        // Arrange
+        workationBulkImporter.importCsv(new StringReader(CSV), (lineNumber, line, reason) -> { });
+
+        // Act
+        Employee saved = employeeRepository.saveAndFlush(new Employee(null, "New Hire"));
+
+        // Assert
+        assertThat(employeeRepository.findAll()).extracting(Employee::getId).doesNotHaveDuplicates().contains(saved.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // each chunk commits or rolls back on its own
+    void testFailedChunkIsRetriedSoOnlyBadRowsAreRejected() throws Exception {
+        // Arrange: the destination of line 3 is too long for its column, so the chunk of lines 2 to 3 fails
+        String csv = """
+                workationId,employee,origin,destination,start,end,workingDays,risk
+                w1,Steffen Jacobs,Germany,Spain,2024-01-02,2024-01-10,7,LOW
+                w2,Henry Duchamp,Belgium,%s,2022-09-01,2022-09-10,7,HIGH
+                w3,Andre Fischer,Germany,Greece,2023-05-22,2023-06-30,50,LOW
+                """.formatted("X".repeat(300));
+        List<Long> rejectedLines = new ArrayList<>();
+
+        try {
+            // Act
+            ImportResult result = workationBulkImporter.importCsv(new StringReader(csv),
+                    (lineNumber, line, reason) -> rejectedLines.add(lineNumber));
+
+            // Assert
+            assertThat(result.inserted()).isEqualTo(2);
+            assertThat(result.rejected()).isEqualTo(1);
+            assertThat(rejectedLines).containsExactly(3L);
+            assertThat(workationRepository.findAll()).extracting(Workation::getDestination).containsExactlyInAnyOrder("Spain", "Greece");
+            assertThat(employeeRepository.findAll()).extracting(Employee::getName)
+                    .containsExactlyInAnyOrder("Steffen Jacobs", "Andre Fischer");
+        } finally {
+            workationRepository.deleteAllInBatch();
+            employeeRepository.deleteAllInBatch();
+            employeeResolver.evictAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testImportIsPublishedOnceWhenItEnds() throws Exception {
+        // Arrange
+        long versionBefore = dataVersion.current();
+
+        try {
+            // Act: four valid rows, written as two chunks
+            ImportResult result = workationBulkImporter.importCsv(new StringReader(CSV), (lineNumber, line, reason) -> { });
+
+            // Assert
+            assertThat(result.inserted()).isEqualTo(4);
+            assertThat(dataVersion.current()).isEqualTo(versionBefore + 1);
+        } finally {
+            workationRepository.deleteAllInBatch();
+            employeeRepository.deleteAllInBatch();
+            employeeResolver.evictAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testConcurrentImportsIntroducingSameNamesShareEmployees() throws Exception {
+        // Arrange
+        int imports = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(imports);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ImportResult>> results = new ArrayList<>();
+
+        try {
+            // Act
+            for (int i = 0; i < imports; i++) {
+                int year = 2020 + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return workationBulkImporter.importCsv(new StringReader("""
+                            workationId,employee,origin,destination,start,end,workingDays,risk
+                            a,New Starter,Germany,Spain,%1$d-01-02,%1$d-01-10,7,LOW
+                            b,Other Starter,Germany,Italy,%1$d-02-02,%1$d-02-10,7,LOW
+                            """.formatted(year)), (lineNumber, line, reason) -> { });
+                }));
+            }
+            start.countDown();
+            for (Future<ImportResult> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS).rejected()).isZero();
+            }
+
+            // Assert
+            assertThat(workationRepository.count()).isEqualTo(imports * 2L);
+            assertThat(employeeRepository.findAll()).extracting(Employee::getName)
+                    .containsExactlyInAnyOrder("New Starter", "Other Starter");
+        } finally {
+            executor.shutdown();
+            workationRepository.deleteAllInBatch();
+            employeeRepository.deleteAllInBatch();
+            employeeResolver.evictAll();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AbroadIndexTest {
+
+    private static final String[] DESTINATIONS = {"Spain", "Portugal", "India"};
+
+    private final WorkationRepository workationRepository = mock(WorkationRepository.class);
+
+    private final AbroadIndex abroadIndex = new AbroadIndex(workationRepository, mock(PlatformTransactionManager.class), 64);
+
+    @Test
+    void testPointAndRangeQueriesAreInclusive() {
+        // Arrange
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(
+                interval(1L, 10L, "Spain", "2024-03-01", "2024-03-10"),
+                interval(2L, 20L, "India", "2024-03-10", "2024-03-20"),
+                interval(3L, 30L, "Spain", "2024-04-01", "2024-04-07")));
+
+        // Act
+        Map<Long, String> onTenth = new HashMap<>();
+        abroadIndex.forEachAbroad(date("2024-03-10"), date("2024-03-10"),
+                (workationId, employeeId, destination, startDay, endDay) -> onTenth.put(workationId, abroadIndex.destinationName(destination)));
+
+        // Assert
+        assertThat(onTenth).containsOnly(Map.entry(1L, "Spain"), Map.entry(2L, "India"));
+        assertThat(abroadIndex.countAbroad(date("2024-03-11"), date("2024-03-11"))).isEqualTo(1);
+        assertThat(abroadIndex.countAbroad(date("2024-03-21"), date("2024-03-31"))).isZero();
+        assertThat(abroadIndex.countAbroad(date("2024-03-25"), date("2024-04-01"))).isEqualTo(1);
+        assertThat(abroadIndex.countAbroad(date("2024-01-01"), date("2024-12-31"))).isEqualTo(3);
+        verify(workationRepository, times(1)).streamIntervals();
+    }
+
+    @Test
+    void testQueriesMatchBruteForceThroughWritesAndCompactions() {
+        // Arrange: enough writes to fold the delta and the tombstones back into the sorted part several times
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Long, WorkationInterval> expected = new HashMap<>();
+        for (long id = 1; id <= 3000; id++) {
+            expected.put(id, randomInterval(random, id));
+        }
+        when(workationRepository.streamIntervals()).thenReturn(new ArrayList<>(expected.values()).stream());
+        assertThat(abroadIndex.size()).isEqualTo(3000);
+        long nextId = 3001;
+
+        for (int step = 0; step < 6000; step++) {
+            // Act: create, move or delete a trip
+            int action = random.nextInt(3);
+            if (action == 0 || expected.isEmpty()) {
+                WorkationInterval created = randomInterval(random, nextId++);
+                expected.put(created.id(), created);
+                abroadIndex.onWorkationChanged(new WorkationChangedEvent(created.id(), null, created));
+            } else {
+                long id = 1 + random.nextInt((int) nextId - 1);
+                if (action == 1) {
+                    WorkationInterval moved = randomInterval(random, id);
+                    expected.put(id, moved);
+                    abroadIndex.onWorkationChanged(new WorkationChangedEvent(id, null, moved));
+                } else {
+                    expected.remove(id);
+                    abroadIndex.onWorkationChanged(new WorkationChangedEvent(id, null, null));
+                }
+            }
+
+            // Assert
+            if (step % 250 == 0) {
+                LocalDate from = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(400));
+                LocalDate to = from.plusDays(random.nextInt(10));
+                assertThat(query(from, to)).isEqualTo(bruteForce(expected, from, to));
+                assertThat(abroadIndex.size()).isEqualTo(expected.size());
+            }
+        }
+        assertThat(query(date("2023-01-01"), date("2026-01-01"))).isEqualTo(new TreeSet<>(expected.keySet()));
+        verify(workationRepository, times(1)).streamIntervals();
+    }
+
+    @Test
+    void testSortedTreeMatchesBruteForceForEverySize() {
+        // Tree sizes that aren't a power of two minus one have virtual nodes on the right edge
+        SplittableRandom random = new SplittableRandom(3);
+        for (int size = 1; size <= 130; size++) {
+            // Arrange
+            Map<Long, WorkationInterval> expected = new HashMap<>();
+            for (long id = 1; id <= size; id++) {
+                LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(60));
+                int days = random.nextInt(8) == 0 ? 100 + random.nextInt(100) : random.nextInt(5);
+                expected.put(id, new WorkationInterval(id, 1L, "Spain", start.atStartOfDay(), start.plusDays(days).atStartOfDay(), null, null));
+            }
+            WorkationRepository repository = mock(WorkationRepository.class);
+            when(repository.streamIntervals()).thenReturn(new ArrayList<>(expected.values()).stream());
+            AbroadIndex index = new AbroadIndex(repository, mock(PlatformTransactionManager.class), 64);
+
+            for (int day = 0; day < 270; day += 3) {
+                // Act
+                LocalDate date = LocalDate.of(2024, 1, 1).plusDays(day);
+                TreeSet<Long> ids = new TreeSet<>();
+                index.forEachAbroad(date, date, (workationId, employeeId, destination, startDay, endDay) -> ids.add(workationId));
+
+                // Assert
+                assertThat(ids).as("size %d, %s", size, date).isEqualTo(bruteForce(expected, date, date));
+            }
+        }
+    }
+
+    @Test
+    void testInvalidateRebuildsFromDatabaseOnNextUse() {
+        // Arrange
+        when(workationRepository.streamIntervals())
+                .thenReturn(Stream.of(interval(1L, 10L, "Spain", "2024-03-01", "2024-03-10")))
+                .thenReturn(Stream.empty());
+        abroadIndex.countAbroad(date("2024-03-01"), date("2024-03-01"));
+
+        // Act
+        abroadIndex.onWorkationsReloaded(new WorkationsReloadedEvent());
+
+        // Assert
+        assertThat(abroadIndex.countAbroad(date("2024-03-01"), date("2024-03-01"))).isZero();
+        verify(workationRepository, times(2)).streamIntervals();
+    }
+
+    private TreeSet<Long> query(LocalDate from, LocalDate to) {
+        TreeSet<Long> ids = new TreeSet<>();
+        int count = abroadIndex.forEachAbroad(from, to, (workationId, employeeId, destination, startDay, endDay) -> ids.add(workationId));
+        assertThat(count).isEqualTo(ids.size());
+        return ids;
+    }
+
+    private static TreeSet<Long> bruteForce(Map<Long, WorkationInterval> intervals, LocalDate from, LocalDate to) {
+        TreeSet<Long> ids = new TreeSet<>();
+        for (WorkationInterval interval : intervals.values()) {
+            if (interval.startDay() <= to.toEpochDay() && interval.endDay() >= from.toEpochDay()) {
+                ids.add(interval.id());
+            }
+        }
+        return ids;
+    }
+
+    private static WorkationInterval randomInterval(SplittableRandom random, long id) {
+        LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(400));
+        // Mostly short trips with the occasional long one, so subtree maxima matter
+        int days = random.nextInt(20) == 0 ? random.nextInt(200) : random.nextInt(14);
+        return new WorkationInterval(id, (long) random.nextInt(50), DESTINATIONS[random.nextInt(DESTINATIONS.length)],
+                start.atStartOfDay(), start.plusDays(days).atTime(23, 59, 59), null, null);
+    }
+
+    private static WorkationInterval interval(Long id, Long employeeId, String destination, String start, String end) {
+        return new WorkationInterval(id, employeeId, destination, LocalDateTime.parse(start + "T00:00:00"), LocalDateTime.parse(end + "T23:59:59"), null, null);
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+}
@@ -0,0 +1,130 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OverlapIndexTest {
+
+    private final WorkationRepository workationRepository = mock(WorkationRepository.class);
+
+    private final OverlapIndex overlapIndex = new OverlapIndex(workationRepository, mock(PlatformTransactionManager.class), OverlapMode.REJECT);
+
+    @Test
+    void testFindOverlapsIsInclusiveAndIgnoresOtherEmployees() {
+        // Arrange
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(
+                interval(1L, 10L, "2024-03-01", "2024-03-10"),
+                interval(2L, 10L, "2024-05-01", "2024-05-31"),
+                interval(3L, 20L, "2024-03-01", "2024-12-31")));
+
+        // Act & Assert
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-03-10"), date("2024-03-12"), null)).containsExactly(1L);
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-03-11"), date("2024-04-30"), null)).isEmpty();
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-01-01"), date("2024-12-31"), null)).containsExactly(1L, 2L);
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-03-05"), date("2024-03-06"), 1L)).isEmpty();
+        assertThat(overlapIndex.findOverlaps(99L, date("2024-03-05"), date("2024-03-06"), null)).isEmpty();
+        verify(workationRepository, times(1)).streamIntervals();
+    }
+
+    @Test
+    void testChangeEventsMoveAndRemoveTrips() {
+        // Arrange
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(interval(1L, 10L, "2024-03-01", "2024-03-10")));
+        overlapIndex.findOverlaps(10L, date("2024-03-01"), date("2024-03-01"), null);
+
+        // Act: trip 1 moves to employee 20, trip 2 is created for employee 10, then deleted
+        overlapIndex.onWorkationChanged(new WorkationChangedEvent(1L, null, interval(1L, 20L, "2024-03-01", "2024-03-10")));
+        overlapIndex.onWorkationChanged(new WorkationChangedEvent(2L, null, interval(2L, 10L, "2024-06-01", "2024-06-05")));
+        List<Long> beforeDelete = overlapIndex.findOverlaps(10L, date("2024-01-01"), date("2024-12-31"), null);
+        overlapIndex.onWorkationChanged(new WorkationChangedEvent(2L, null, null));
+
+        // Assert
+        assertThat(beforeDelete).containsExactly(2L);
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-01-01"), date("2024-12-31"), null)).isEmpty();
+        assertThat(overlapIndex.findOverlaps(20L, date("2024-03-05"), date("2024-03-05"), null)).containsExactly(1L);
+        assertThat(overlapIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testChangeAppliedAfterALaterChangeToTheSameRowIsDropped() {
+        // Arrange: two updates of trip 1, committed in this order
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(interval(1L, 10L, "2024-03-01", "2024-03-10")));
+        overlapIndex.findOverlaps(10L, date("2024-03-01"), date("2024-03-01"), null);
+        WorkationChangedEvent first = new WorkationChangedEvent(1L, null, interval(1L, 10L, "2024-05-01", "2024-05-10"));
+        WorkationChangedEvent second = new WorkationChangedEvent(1L, null, interval(1L, 10L, "2024-07-01", "2024-07-10"));
+
+        // Act: their listeners run in the opposite order
+        overlapIndex.onWorkationChanged(second);
+        overlapIndex.onWorkationChanged(first);
+
+        // Assert
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-07-05"), date("2024-07-05"), null)).containsExactly(1L);
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-05-05"), date("2024-05-05"), null)).isEmpty();
+    }
+
+    @Test
+    void testFindAllConflictsMatchesBruteForce() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(11);
+        List<WorkationInterval> intervals = new ArrayList<>();
+        for (long id = 1; id <= 600; id++) {
+            LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(360));
+            intervals.add(new WorkationInterval(id, (long) random.nextInt(20), "Spain", start.atStartOfDay(),
+                    start.plusDays(random.nextInt(15)).atTime(23, 59, 59), null, null));
+        }
+        when(workationRepository.streamIntervals()).thenReturn(intervals.stream());
+
+        long expected = 0;
+        for (int i = 0; i < intervals.size(); i++) {
+            for (int j = i + 1; j < intervals.size(); j++) {
+                WorkationInterval a = intervals.get(i);
+                WorkationInterval b = intervals.get(j);
+                if (a.employeeId().equals(b.employeeId()) && a.startDay() <= b.endDay() && b.startDay() <= a.endDay()) {
+                    expected++;
+                }
+            }
+        }
+
+        // Act
+        List<OverlapConflict> conflicts = overlapIndex.findAllConflicts();
+
+        // Assert
+        assertThat(conflicts).hasSize((int) expected);
+        assertThat(conflicts).allSatisfy(conflict -> assertThat(conflict.overlapStart()).isBeforeOrEqualTo(conflict.overlapEnd()));
+    }
+
+    @Test
+    void testInvalidateRebuildsFromDatabaseOnNextUse() {
+        // Arrange
+        when(workationRepository.streamIntervals())
+                .thenReturn(Stream.of(interval(1L, 10L, "2024-03-01", "2024-03-10")))
+                .thenReturn(Stream.empty());
+        overlapIndex.findOverlaps(10L, date("2024-03-01"), date("2024-03-01"), null);
+
+        // Act
+        overlapIndex.onWorkationsReloaded(new WorkationsReloadedEvent());
+
+        // Assert
+        assertThat(overlapIndex.findOverlaps(10L, date("2024-03-01"), date("2024-03-01"), null)).isEmpty();
+        verify(workationRepository, times(2)).streamIntervals();
+    }
+
+    private static WorkationInterval interval(Long id, Long employeeId, String start, String end) {
+        return new WorkationInterval(id, employeeId, "Spain", LocalDateTime.parse(start + "T00:00:00"), LocalDateTime.parse(end + "T23:59:59"), null, null);
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+}
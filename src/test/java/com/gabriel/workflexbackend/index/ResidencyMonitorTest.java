@@ -0,0 +1,136 @@
+package com.gabriel.workflexbackend.index;
+
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class ResidencyMonitorTest {
+
+    private static final String[] DESTINATIONS = {"Spain", "Portugal"};
+
+    private final WorkationRepository workationRepository = mock(WorkationRepository.class);
+
+    private final ResidencyMonitor residencyMonitor = new ResidencyMonitor(workationRepository, mock(PlatformTransactionManager.class), 183, 150, 365);
+
+    @Test
+    void testCountsDistinctDaysInRollingWindow() {
+        // Arrange: 100 + 60 days in Spain, partly overlapping, plus an older trip outside the window
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(
+                interval(1L, 10L, "Spain", "2024-01-01", "2024-04-09"),
+                interval(2L, 10L, "Spain", "2024-04-01", "2024-06-08"),
+                interval(3L, 10L, "Spain", "2022-01-01", "2022-12-31"),
+                interval(4L, 10L, "Portugal", "2024-07-01", "2024-07-31"),
+                interval(5L, 20L, "Spain", "2024-03-01", "2024-03-10")));
+
+        // Act
+        List<ResidencyExposure> exposures = residencyMonitor.findExposures(date("2024-12-30"));
+
+        // Assert
+        assertThat(exposures).containsExactly(new ResidencyExposure(10L, "Spain", 160,
+                date("2024-01-01"), date("2024-12-30"), ResidencyStatus.APPROACHING));
+        assertThat(residencyMonitor.candidateCount()).isEqualTo(1);
+        assertThat(residencyMonitor.findExposures(date("2025-06-30"))).isEmpty();
+    }
+
+    @Test
+    void testChangeEventsUpdateOnlyTheAffectedStays() {
+        // Arrange
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(interval(1L, 10L, "Spain", "2024-01-01", "2024-05-31")));
+        assertThat(residencyMonitor.findExposures(date("2024-12-30"))).extracting(ResidencyExposure::status)
+                .containsExactly(ResidencyStatus.APPROACHING);
+
+        // Act: a second Spanish trip pushes employee 10 over, then it moves to Portugal
+        residencyMonitor.onWorkationChanged(new WorkationChangedEvent(2L, null, interval(2L, 10L, "Spain", "2024-09-01", "2024-10-31")));
+        List<ResidencyExposure> exceeded = residencyMonitor.findExposures(date("2024-12-30"));
+        residencyMonitor.onWorkationChanged(new WorkationChangedEvent(2L, null, interval(2L, 10L, "Portugal", "2024-09-01", "2024-10-31")));
+        residencyMonitor.onWorkationChanged(new WorkationChangedEvent(1L, null, null));
+
+        // Assert
+        assertThat(exceeded).extracting(ResidencyExposure::days, ResidencyExposure::status)
+                .containsExactly(tuple(213, ResidencyStatus.EXCEEDED));
+        assertThat(residencyMonitor.findExposures(date("2024-12-30"))).isEmpty();
+        assertThat(residencyMonitor.candidateCount()).isZero();
+        verify(workationRepository, times(1)).streamIntervals();
+    }
+
+    @Test
+    void testCandidatesAreSelectedByDaysInsideOneWindow() {
+        // Arrange: 120 + 120 days in Spain, never within 365 days of each other; 80 + 80 days in Portugal a month apart
+        when(workationRepository.streamIntervals()).thenReturn(Stream.of(
+                interval(1L, 10L, "Spain", "2022-01-01", "2022-04-30"),
+                interval(2L, 10L, "Spain", "2023-06-01", "2023-09-28"),
+                interval(3L, 20L, "Portugal", "2024-01-01", "2024-03-20"),
+                interval(4L, 20L, "Portugal", "2024-04-20", "2024-07-08")));
+
+        // Act
+        int candidates = residencyMonitor.candidateCount();
+
+        // Assert
+        assertThat(candidates).isEqualTo(1);
+        assertThat(residencyMonitor.findExposures(date("2024-12-30"))).extracting(ResidencyExposure::employeeId, ResidencyExposure::days)
+                .containsExactly(tuple(20L, 160));
+        assertThat(residencyMonitor.findExposures(date("2023-09-28"))).isEmpty();
+    }
+
+    @Test
+    void testExposuresMatchBruteForce() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(5);
+        List<WorkationInterval> intervals = new ArrayList<>();
+        for (long id = 1; id <= 800; id++) {
+            LocalDate start = LocalDate.of(2023, 1, 1).plusDays(random.nextInt(700));
+            intervals.add(new WorkationInterval(id, (long) random.nextInt(15), DESTINATIONS[random.nextInt(DESTINATIONS.length)],
+                    start.atStartOfDay(), start.plusDays(random.nextInt(40)).atTime(23, 59, 59), null, null));
+        }
+        when(workationRepository.streamIntervals()).thenReturn(intervals.stream());
+
+        for (LocalDate asOf = date("2023-06-30"); asOf.isBefore(date("2025-06-30")); asOf = asOf.plusDays(45)) {
+            // Act
+            Map<String, Integer> actual = new HashMap<>();
+            residencyMonitor.findExposures(asOf).forEach(exposure -> actual.put(exposure.employeeId() + exposure.destination(), exposure.days()));
+
+            // Assert
+            assertThat(actual).isEqualTo(bruteForce(intervals, asOf));
+        }
+    }
+
+    private static Map<String, Integer> bruteForce(List<WorkationInterval> intervals, LocalDate asOf) {
+        Map<String, Set<Long>> days = new HashMap<>();
+        long from = asOf.minusDays(364).toEpochDay();
+        for (WorkationInterval interval : intervals) {
+            for (long day = Math.max(from, interval.startDay()); day <= Math.min(asOf.toEpochDay(), interval.endDay()); day++) {
+                days.computeIfAbsent(interval.employeeId() + interval.destination(), k -> new HashSet<>()).add(day);
+            }
+        }
+        Map<String, Integer> exposures = new HashMap<>();
+        days.forEach((key, covered) -> {
+            if (covered.size() >= 150) {
+                exposures.put(key, covered.size());
+            }
+        });
+        return exposures;
+    }
+
+    private static WorkationInterval interval(Long id, Long employeeId, String destination, String start, String end) {
+        return new WorkationInterval(id, employeeId, destination, LocalDateTime.parse(start + "T00:00:00"), LocalDateTime.parse(end + "T23:59:59"), null, null);
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+}
@@ -0,0 +1,17 @@
+package com.gabriel.workflexbackend.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Latencies in milliseconds and throughput of one operation over a measured run. Also the format of
+ * the stored baseline.
+ */
+record EndpointStats(String name, long requests, long errors, double throughput,
+                     double p50, double p99, double p999, double max) {
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-22s %7d req %5d err %8.1f req/s  p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  max %8.2f ms",
+                name, requests, errors, throughput, p50, p99, p999, max);
+    }
+}
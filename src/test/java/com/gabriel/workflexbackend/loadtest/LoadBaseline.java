@@ -0,0 +1,66 @@
+package com.gabriel.workflexbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stored results of a load run, and the check of a new run against them. An endpoint regresses when its
+ * p50 or p99 exceeds the baseline by more than the tolerance plus a fixed slack, which keeps sub-millisecond
+ * baselines from failing on noise, when its throughput falls short of the baseline by more than the
+ * tolerance, or when it fails requests the baseline did not.
+ */
+record LoadBaseline(int rate, long durationSeconds, List<EndpointStats> endpoints) {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadBaseline read(Path file) throws IOException {
+        return JSON.readValue(file.toFile(), LoadBaseline.class);
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        JSON.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Describes every regression of {@code measured} against this baseline; empty when there is none.
+     */
+    List<String> regressions(List<EndpointStats> measured, double tolerance, double slackMillis) {
+        Map<String, EndpointStats> byName = measured.stream().collect(Collectors.toMap(EndpointStats::name, Function.identity()));
+        List<String> regressions = new ArrayList<>();
+        for (EndpointStats base : endpoints) {
+            EndpointStats now = byName.get(base.name());
+            if (now == null) {
+                regressions.add(base.name() + ": not measured");
+                continue;
+            }
+            latency(regressions, base.name(), "p50", base.p50(), now.p50(), tolerance, slackMillis);
+            latency(regressions, base.name(), "p99", base.p99(), now.p99(), tolerance, slackMillis);
+            if (now.throughput() < base.throughput() * (1 - tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: throughput %.1f req/s, baseline %.1f req/s", base.name(), now.throughput(), base.throughput()));
+            }
+            if (now.errors() > base.errors()) {
+                regressions.add(String.format(Locale.ROOT, "%s: %d failed requests, baseline %d", base.name(), now.errors(), base.errors()));
+            }
+        }
+        return regressions;
+    }
+
+    private static void latency(List<String> regressions, String name, String percentile, double base, double now,
+                                double tolerance, double slackMillis) {
+        double limit = base * (1 + tolerance) + slackMillis;
+        if (now > limit) {
+            regressions.add(String.format(Locale.ROOT, "%s: %s %.2f ms, baseline %.2f ms, limit %.2f ms", name, percentile, now, base, limit));
+        }
+    }
+}
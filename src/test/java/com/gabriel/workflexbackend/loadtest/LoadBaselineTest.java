@@ -0,0 +1,59 @@
+package com.gabriel.workflexbackend.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadBaselineTest {
+
+    private final LoadBaseline baseline = new LoadBaseline(100, 30, List.of(
+            new EndpointStats("workation.get", 2000, 0, 66.0, 1.0, 10.0, 20.0, 30.0),
+            new EndpointStats("employee.get", 1000, 0, 33.0, 1.0, 10.0, 20.0, 30.0)));
+
+    @Test
+    void testRunWithinToleranceHasNoRegressions() {
+        // Arrange: p50 within the slack, p99 within the tolerance, throughput slightly lower
+        List<EndpointStats> measured = List.of(
+                new EndpointStats("workation.get", 2000, 0, 60.0, 1.9, 11.9, 80.0, 200.0),
+                new EndpointStats("employee.get", 1000, 0, 33.0, 0.5, 5.0, 10.0, 12.0));
+
+        // Act
+        List<String> regressions = baseline.regressions(measured, 0.2, 1.0);
+
+        // Assert
+        assertThat(regressions).isEmpty();
+    }
+
+    @Test
+    void testSlowerFailingOrMissingEndpointsAreRegressions() {
+        // Arrange
+        List<EndpointStats> measured = List.of(
+                new EndpointStats("workation.get", 2000, 3, 40.0, 1.0, 13.5, 20.0, 30.0));
+
+        // Act
+        List<String> regressions = baseline.regressions(measured, 0.2, 1.0);
+
+        // Assert
+        assertThat(regressions).containsExactly(
+                "workation.get: p99 13.50 ms, baseline 10.00 ms, limit 13.00 ms",
+                "workation.get: throughput 40.0 req/s, baseline 66.0 req/s",
+                "workation.get: 3 failed requests, baseline 0",
+                "employee.get: not measured");
+    }
+
+    @Test
+    void testBaselineRoundTripsThroughFile(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path file = directory.resolve("loadtest/baseline.json");
+
+        // Act
+        baseline.write(file);
+
+        // Assert
+        assertThat(LoadBaseline.read(file)).isEqualTo(baseline);
+    }
+}
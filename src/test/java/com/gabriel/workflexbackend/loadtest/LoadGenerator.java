@@ -0,0 +1,127 @@
+package com.gabriel.workflexbackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: sends requests at a fixed rate whatever the response times, picking each
+ * request's operation by weight in a fixed interleaving, and records per-operation latency histograms.
+ * <p>
+ * Latency is measured from the moment a request was due to be sent, not from when it was sent, so a
+ * stalled server shows up as the full wait its callers would see instead of as fewer, faster requests
+ * (coordinated omission). Every request runs on its own virtual thread.
+ */
+final class LoadGenerator implements AutoCloseable {
+
+    private static final class Tracked {
+        final LoadOperation operation;
+        final Histogram micros = new ConcurrentHistogram(3);
+        final AtomicLong sent = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+
+        Tracked(LoadOperation operation) {
+            this.operation = operation;
+        }
+    }
+
+    private final ExecutorService requestThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(requestThreads)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final List<Tracked> schedule = new ArrayList<>();
+    private final List<Tracked> operations = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadGenerator(List<LoadOperation> operations) {
+        operations.forEach(operation -> this.operations.add(new Tracked(operation)));
+        // One cycle holds each operation as often as its weight, spread out so the mix holds over short windows
+        int cycle = operations.stream().mapToInt(LoadOperation::weight).sum();
+        int[] used = new int[operations.size()];
+        for (int slot = 1; slot <= cycle; slot++) {
+            int behind = 0;
+            double mostBehind = Double.NEGATIVE_INFINITY;
+            for (int o = 0; o < operations.size(); o++) {
+                double lag = slot * (double) operations.get(o).weight() / cycle - used[o];
+                if (lag > mostBehind) {
+                    mostBehind = lag;
+                    behind = o;
+                }
+            }
+            used[behind]++;
+            schedule.add(this.operations.get(behind));
+        }
+    }
+
+    /**
+     * Sends {@code rate} requests per second for {@code duration}, waits for the outstanding ones and
+     * returns what each operation measured in this run.
+     */
+    List<EndpointStats> run(int rate, Duration duration) throws InterruptedException {
+        operations.forEach(tracked -> {
+            tracked.micros.reset();
+            tracked.sent.set(0);
+            tracked.errors.set(0);
+        });
+        long total = rate * duration.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        AtomicLong outstanding = new AtomicLong();
+        long startedAt = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long due = startedAt + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Tracked tracked = schedule.get((int) (i % schedule.size()));
+            HttpRequest request = tracked.operation.request().apply(sequence.getAndIncrement());
+            outstanding.incrementAndGet();
+            requestThreads.execute(() -> {
+                try {
+                    int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status / 100 != 2) {
+                        tracked.errors.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    tracked.errors.incrementAndGet();
+                } finally {
+                    tracked.micros.recordValue(Math.max(0, (System.nanoTime() - due) / 1_000));
+                    tracked.sent.incrementAndGet();
+                    outstanding.decrementAndGet();
+                }
+            });
+        }
+        while (outstanding.get() > 0) {
+            Thread.sleep(10);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        List<EndpointStats> stats = new ArrayList<>(operations.size());
+        for (Tracked tracked : operations) {
+            Histogram micros = tracked.micros;
+            stats.add(new EndpointStats(tracked.operation.name(), tracked.sent.get(), tracked.errors.get(),
+                    tracked.sent.get() / seconds, micros.getValueAtPercentile(50) / 1e3, micros.getValueAtPercentile(99) / 1e3,
+                    micros.getValueAtPercentile(99.9) / 1e3, micros.getMaxValue() / 1e3));
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        http.close();
+        requestThreads.close();
+    }
+}
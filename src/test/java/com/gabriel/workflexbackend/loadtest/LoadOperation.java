@@ -0,0 +1,17 @@
+package com.gabriel.workflexbackend.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.LongFunction;
+
+/**
+ * One kind of request in a mixed workload: its report name, its share of the traffic relative to the
+ * other operations, and how to build the n-th request of its kind.
+ */
+record LoadOperation(String name, int weight, LongFunction<HttpRequest> request) {
+
+    LoadOperation {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Weight of " + name + " must be positive");
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.gabriel.workflexbackend.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a production-like mix of reads and writes against {@code WorkationController} and
+ * {@code EmployeeController} on a seeded database, and checks the results against the stored baseline in
+ * {@code src/test/resources/loadtest/baseline.json}.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=MixedWorkloadLoadTest}. Settings, as system properties:
+ * {@code loadtest.rate} (requests per second), {@code loadtest.duration-seconds}, {@code loadtest.warmup-seconds},
+ * {@code loadtest.rows}, {@code loadtest.tolerance} (relative, 0.5 = 50%), {@code loadtest.slack-ms} (added to
+ * latency limits) and {@code loadtest.baseline}. {@code -Dloadtest.update-baseline=true} stores the run as the
+ * new baseline instead of checking it; so does the first run when no baseline exists. Baselines only carry
+ * over between runs on the same machine at the same rate.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "workflex.employee-cache.max-size=100000")
+class MixedWorkloadLoadTest {
+
+    private static final String[] COUNTRIES = {"Germany", "Spain", "France", "Portugal", "India", "United States",
+            "Greece", "Italy", "Poland", "Austria", "Brazil", "Japan", "Mexico", "Canada", "Ireland", "Sweden"};
+    private static final int TRIPS_PER_EMPLOYEE = 50;
+    private static final LocalDate FIRST_TRIP = LocalDate.of(2020, 1, 1);
+    // Creates go after every seeded trip, one day each, so they never overlap
+    private static final LocalDate FIRST_CREATE = LocalDate.of(2100, 1, 1);
+
+    private record SeededTrip(long id, String employee, String origin, LocalDate start, LocalDate end) {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void mixedWorkloadStaysWithinBaseline() throws Exception {
+        // Arrange
+        int rate = Integer.getInteger("loadtest.rate", 50);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        int rows = Integer.getInteger("loadtest.rows", 20_000);
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.5"));
+        double slackMillis = Double.parseDouble(System.getProperty("loadtest.slack-ms", "5"));
+        Path baselineFile = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.json"));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.update-baseline") || Files.notExists(baselineFile);
+
+        int employees = Math.max(1, rows / TRIPS_PER_EMPLOYEE);
+        workationBulkImporter.importCsv(new StringReader(csv(employees)), (lineNumber, line, reason) -> {
+            throw new IllegalStateException("Seed line " + lineNumber + " rejected: " + reason);
+        });
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+        List<SeededTrip> trips = jdbcTemplate.query("select w.id, e.name, w.origin, w.start, w.end_date from workation w "
+                        + "join employee e on e.id = w.employee_id order by w.id",
+                (rs, i) -> new SeededTrip(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        rs.getTimestamp(4).toLocalDateTime().toLocalDate(), rs.getTimestamp(5).toLocalDateTime().toLocalDate()));
+        long[] employeeIds = jdbcTemplate.queryForList("select id from employee order by id", Long.class).stream()
+                .mapToLong(Long::longValue).toArray();
+
+        try (LoadGenerator generator = new LoadGenerator(operations(trips, employeeIds, employees))) {
+            generator.run(rate, warmup);
+
+            // Act
+            List<EndpointStats> measured = generator.run(rate, duration);
+
+            // Assert
+            System.out.printf("Load test at %d req/s for %d s on %d rows:%n", rate, duration.toSeconds(), trips.size());
+            measured.forEach(System.out::println);
+            LoadBaseline run = new LoadBaseline(rate, duration.toSeconds(), measured);
+            if (updateBaseline) {
+                run.write(baselineFile);
+                System.out.println("Stored load test baseline in " + baselineFile.toAbsolutePath());
+                return;
+            }
+            LoadBaseline baseline = LoadBaseline.read(baselineFile);
+            assertThat(baseline.rate()).as("request rate of the baseline run").isEqualTo(rate);
+            assertThat(baseline.regressions(measured, tolerance, slackMillis)).isEmpty();
+        }
+    }
+
+    private List<LoadOperation> operations(List<SeededTrip> trips, long[] employeeIds, int employees) {
+        String workations = "http://localhost:" + port + "/workflex/workation";
+        String employeesUrl = "http://localhost:" + port + "/workflex/employees";
+        return List.of(
+                new LoadOperation("workation.get", 35, n -> get(workations + "/" + trips.get(index(n, trips.size())).id())),
+                new LoadOperation("workation.search", 15, n -> {
+                    SplittableRandom random = new SplittableRandom(n);
+                    LocalDate from = FIRST_TRIP.plusMonths(3L * random.nextInt(20));
+                    return get(workations + "/search?employee=Employee%20" + random.nextInt(employees)
+                            + "&from=" + from + "&to=" + from.plusMonths(3).minusDays(1));
+                }),
+                new LoadOperation("workation.page", 10, n -> get(workations + "?limit=50")),
+                new LoadOperation("workation.create", 10, n -> {
+                    LocalDate day = FIRST_CREATE.plusDays(n / employees);
+                    return send("POST", workations, workation("Employee " + (n % employees), "Germany", "Spain", day, day));
+                }),
+                new LoadOperation("workation.update", 5, n -> {
+                    SeededTrip trip = trips.get(index(n, trips.size()));
+                    return send("PUT", workations + "/" + trip.id(), workation(trip.employee(), trip.origin(),
+                            COUNTRIES[(int) (n % COUNTRIES.length)], trip.start(), trip.end()));
+                }),
+                new LoadOperation("employee.get", 15, n -> get(employeesUrl + "/" + employeeIds[index(n, employeeIds.length)])),
+                new LoadOperation("employee.list", 5, n -> get(employeesUrl)),
+                new LoadOperation("employee.create", 5, n -> send("POST", employeesUrl, "{\"name\":\"Load Employee " + n + "\"}")));
+    }
+
+    // Spreads consecutive request numbers over the whole table
+    private static int index(long n, int size) {
+        return (int) ((n * 7919) % size);
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest send(String method, String uri, String json) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private String workation(String employee, String origin, String destination, LocalDate start, LocalDate end) {
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setEmployee(employee);
+        dto.setOrigin(origin);
+        dto.setDestination(destination);
+        dto.setStart(start);
+        dto.setEnd(end);
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Each employee's trips follow each other 40 days apart and last at most 30, so none overlap
+    private static String csv(int employees) {
+        SplittableRandom random = new SplittableRandom(42);
+        RiskEnum[] risks = RiskEnum.values();
+        StringBuilder csv = new StringBuilder(employees * TRIPS_PER_EMPLOYEE * 80);
+        csv.append("workationId,employee,origin,destination,start,end,workingDays,risk\n");
+        for (int e = 0; e < employees; e++) {
+            for (int t = 0; t < TRIPS_PER_EMPLOYEE; t++) {
+                LocalDate start = FIRST_TRIP.plusDays(40L * t + random.nextInt(10));
+                int days = 1 + random.nextInt(30);
+                csv.append('w').append(e).append('-').append(t).append(",Employee ").append(e).append(',')
+                        .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                        .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                        .append(start).append(',').append(start.plusDays(days)).append(',')
+                        .append(days * 5 / 7).append(',').append(risks[random.nextInt(risks.length)]).append('\n');
+            }
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.gabriel.workflexbackend.metrics;
+
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.importer.WorkationBulkImporter;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import com.gabriel.workflexbackend.service.WorkationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,metrics",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session.events.log=false"
+})
+@AutoConfigureMockMvc
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationBulkImporter workationBulkImporter;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void testRequestRecordsServiceTimerAndStatementCount() throws Exception {
+        // Arrange
+        Long id = workationService.createWorkation(workation("John Doe")).getId();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        // Act
+        mockMvc.perform(get("/workflex/workation/{id}", id)).andExpect(status().isOk());
+
+        // Assert
+        DistributionSummary statements = meterRegistry.get("workflex.request.statements")
+                .tag("method", "GET").tag("uri", "/workflex/workation/{id}").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("workflex.service").tag("class", "com.gabriel.workflexbackend.service.WorkationService")
+                .tag("method", "getWorkationById").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hibernate.entities.loads").functionCounter().count()).isPositive();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+    }
+
+    @Test
+    void testImportCountsRowsAndChunks() throws Exception {
+        // Arrange
+        double insertedBefore = meterRegistry.get("workflex.import.rows").tag("result", "inserted").counter().count();
+        double rejectedBefore = meterRegistry.get("workflex.import.rows").tag("result", "rejected").counter().count();
+        String csv = "workationId,employee,origin,destination,start,end,workingDays,risk\n"
+                + "w1,John Doe,Germany,Spain,2024-03-01,2024-03-10,7,LOW\n"
+                + "w2,Jane Doe,Germany,India,2024-03-01,2024-03-10,7,HIGH\n"
+                + "w3,Jane Doe,Germany,India,not a date,2024-03-10,7,HIGH\n";
+
+        // Act
+        workationBulkImporter.importCsv(new StringReader(csv), (lineNumber, line, reason) -> { });
+
+        // Assert
+        assertThat(meterRegistry.get("workflex.import.rows").tag("result", "inserted").counter().count() - insertedBefore).isEqualTo(2);
+        assertThat(meterRegistry.get("workflex.import.rows").tag("result", "rejected").counter().count() - rejectedBefore).isEqualTo(1);
+        assertThat(meterRegistry.get("workflex.import.chunks").tag("outcome", "success").timer().count()).isPositive();
+    }
+
+    @Test
+    void testMetricsEndpointListsApplicationMeters() throws Exception {
+        // Arrange
+        workationService.getAllWorkations();
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.names", hasItems("workflex.service", "workflex.import.rows", "hikaricp.connections.acquire")));
+    }
+
+    private static WorkationResponseDTO workation(String employee) {
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setEmployee(employee);
+        dto.setOrigin("Germany");
+        dto.setDestination("Spain");
+        dto.setStart(LocalDate.of(2024, 3, 1));
+        dto.setEnd(LocalDate.of(2024, 3, 10));
+        return dto;
+    }
+}
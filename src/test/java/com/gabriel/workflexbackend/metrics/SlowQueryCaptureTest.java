@@ -0,0 +1,88 @@
+package com.gabriel.workflexbackend.metrics;
+
+import com.gabriel.workflexbackend.dto.response.SlowQueryResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.EmployeeResolver;
+import com.gabriel.workflexbackend.service.WorkationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A zero threshold treats every statement as slow, so the captured samples can be checked deterministically
+@SpringBootTest(properties = {"workflex.slow-query.threshold-ms=0", "workflex.slow-query.samples=50"})
+class SlowQueryCaptureTest {
+
+    @Autowired
+    private SlowQueryMonitor slowQueryMonitor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void testRepositoryStatementsAreCapturedWithParametersAndCaller() {
+        // Arrange
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setEmployee("John Doe");
+        dto.setOrigin("Germany");
+        dto.setDestination("Spain");
+        dto.setStart(LocalDate.of(2024, 3, 1));
+        dto.setEnd(LocalDate.of(2024, 3, 10));
+        Long id = workationService.createWorkation(dto).getId();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        slowQueryMonitor.reset();
+
+        // Act
+        workationService.getWorkationById(id);
+
+        // Assert
+        assertThat(dataSource).isInstanceOf(SlowQueryDataSource.class);
+        List<SlowQueryResponseDTO> slowest = slowQueryMonitor.getSlowest();
+        assertThat(slowest).hasSize(1);
+        SlowQueryResponseDTO select = slowest.get(0);
+        assertThat(select.getSql()).startsWith("select").contains("workation");
+        assertThat(select.getFingerprint()).isEqualTo(SqlFingerprint.of(select.getSql()));
+        assertThat(select.getParameters()).containsExactly(String.valueOf(id));
+        assertThat(select.getCaller()).isEqualTo("WorkationService.getWorkationById");
+        assertThat(slowQueryMonitor.getStats()).singleElement()
+                .satisfies(stats -> assertThat(stats.getCount()).isEqualTo(1));
+    }
+}
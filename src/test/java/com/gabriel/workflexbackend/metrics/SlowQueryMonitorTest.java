@@ -0,0 +1,155 @@
+package com.gabriel.workflexbackend.metrics;
+
+import com.gabriel.workflexbackend.dto.response.SlowQueryResponseDTO;
+import com.gabriel.workflexbackend.dto.response.SqlStatsResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SlowQueryMonitorTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testStatisticsAreKeptPerFingerprint() {
+        // Arrange
+        SlowQueryMonitor monitor = new SlowQueryMonitor(100, 5, 500, 15);
+
+        // Act
+        monitor.record("select * from employee where id = 1", 2 * MILLIS, List.of());
+        monitor.record("select * from employee where id = 2", 4 * MILLIS, List.of());
+        monitor.record("select * from workation where id = ?", 30 * MILLIS, List.of(7L));
+
+        // Assert
+        List<SqlStatsResponseDTO> stats = monitor.getStats();
+        assertThat(stats).extracting(SqlStatsResponseDTO::getFingerprint)
+                .containsExactly("select * from workation where id = ?", "select * from employee where id = ?");
+        SqlStatsResponseDTO employee = stats.get(1);
+        assertThat(employee.getCount()).isEqualTo(2);
+        assertThat(employee.getSlowCount()).isZero();
+        assertThat(employee.getTotalMillis()).isEqualTo(6.0);
+        assertThat(employee.getMeanMillis()).isEqualTo(3.0);
+        assertThat(employee.getMaxMillis()).isEqualTo(4.0);
+        assertThat(monitor.getSlowest()).isEmpty();
+    }
+
+    @Test
+    void testOnlyTheSlowestStatementsAboveThresholdAreRetained() {
+        // Arrange
+        SlowQueryMonitor monitor = new SlowQueryMonitor(100, 2, 500, 15);
+
+        // Act
+        monitor.record("select * from workation where id = ?", 150 * MILLIS, Arrays.asList(1L, null));
+        monitor.record("select * from workation where id = ?", 99 * MILLIS, List.of(2L));
+        monitor.record("select * from workation where id = ?", 300 * MILLIS, List.of(3L));
+        monitor.record("select * from workation where id = ?", 200 * MILLIS, List.of("x".repeat(300)));
+
+        // Assert
+        List<SlowQueryResponseDTO> slowest = monitor.getSlowest();
+        assertThat(slowest).extracting(SlowQueryResponseDTO::getElapsedMillis).containsExactly(300.0, 200.0);
+        assertThat(slowest.get(0).getParameters()).containsExactly("3");
+        assertThat(slowest.get(1).getParameters().get(0)).hasSize(203).endsWith("...");
+        // Frames of the metrics package itself are skipped when looking for the caller
+        assertThat(slowest.get(0).getCaller()).isEqualTo("unknown");
+        assertThat(monitor.getStats().get(0).getSlowCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testFingerprintsBeyondTheLimitAreCountedTogether() {
+        // Arrange
+        SlowQueryMonitor monitor = new SlowQueryMonitor(100, 5, 1, 15);
+
+        // Act
+        monitor.record("select * from employee", MILLIS, List.of());
+        monitor.record("select * from workation", MILLIS, List.of());
+        monitor.record("select count(*) from workation", MILLIS, List.of());
+
+        // Assert
+        assertThat(monitor.getStats()).extracting(SqlStatsResponseDTO::getFingerprint, SqlStatsResponseDTO::getCount)
+                .containsExactlyInAnyOrder(tuple("select * from employee", 1L),
+                        tuple(SlowQueryMonitor.OTHER_FINGERPRINT, 2L));
+    }
+
+    @Test
+    void testStatisticsOnlyCoverTheWindow() {
+        // Arrange: a three-minute window
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-01T10:00:30Z"));
+        SlowQueryMonitor monitor = new SlowQueryMonitor(100, 5, 500, 3, clock);
+        monitor.record("select * from employee", 50 * MILLIS, List.of());
+        clock.advance(Duration.ofMinutes(1));
+        monitor.record("select * from employee", 2 * MILLIS, List.of());
+        monitor.record("select * from workation", 150 * MILLIS, List.of());
+
+        // Act
+        SqlStatsResponseDTO withinWindow = monitor.getStats().get(1);
+        clock.advance(Duration.ofMinutes(2));
+        List<SqlStatsResponseDTO> afterFirstMinuteExpired = monitor.getStats();
+        monitor.record("select * from employee", 4 * MILLIS, List.of());
+        List<SqlStatsResponseDTO> afterSlotReused = monitor.getStats();
+        clock.advance(Duration.ofMinutes(3));
+        List<SqlStatsResponseDTO> afterWindowExpired = monitor.getStats();
+
+        // Assert
+        assertThat(withinWindow.getFingerprint()).isEqualTo("select * from employee");
+        assertThat(withinWindow.getCount()).isEqualTo(2);
+        assertThat(withinWindow.getMaxMillis()).isEqualTo(50.0);
+        assertThat(afterFirstMinuteExpired).extracting(SqlStatsResponseDTO::getFingerprint, SqlStatsResponseDTO::getCount,
+                        SqlStatsResponseDTO::getMaxMillis)
+                .containsExactly(tuple("select * from workation", 1L, 150.0), tuple("select * from employee", 1L, 2.0));
+        assertThat(afterSlotReused.get(1).getCount()).isEqualTo(2);
+        assertThat(afterSlotReused.get(1).getTotalMillis()).isEqualTo(6.0);
+        assertThat(afterWindowExpired).isEmpty();
+    }
+
+    @Test
+    void testResetClearsStatisticsAndSamples() {
+        // Arrange
+        SlowQueryMonitor monitor = new SlowQueryMonitor(0, 5, 500, 15);
+        monitor.record("select * from employee", MILLIS, List.of());
+
+        // Act
+        monitor.reset();
+
+        // Assert
+        assertThat(monitor.getStats()).isEmpty();
+        assertThat(monitor.getSlowest()).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.gabriel.workflexbackend.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    void testLiteralsAndWhitespaceAreNormalized() {
+        // Act
+        String fingerprint = SqlFingerprint.of("select w1_0.id from workation w1_0\n  where w1_0.destination = 'Spain' and w1_0.working_days > 10");
+
+        // Assert
+        assertThat(fingerprint).isEqualTo("select w1_0.id from workation w1_0 where w1_0.destination = ? and w1_0.working_days > ?");
+    }
+
+    @Test
+    void testEscapedQuotesAndNegativeNumbersAreOneLiteral() {
+        // Act
+        String fingerprint = SqlFingerprint.of("update employee set name='O''Brien' where id=-1.5");
+
+        // Assert
+        assertThat(fingerprint).isEqualTo("update employee set name=? where id=?");
+    }
+
+    @Test
+    void testInListsOfAnyLengthShareAFingerprint() {
+        // Act
+        String three = SqlFingerprint.of("delete from workation where id in (?, ?, ?)");
+        String two = SqlFingerprint.of("delete from workation where id in (?,?)");
+        String literals = SqlFingerprint.of("delete from workation where id in (1, 2, 3, 4)");
+
+        // Assert
+        assertThat(three).isEqualTo("delete from workation where id in (?...)");
+        assertThat(two).isEqualTo(three);
+        assertThat(literals).isEqualTo(three);
+    }
+}
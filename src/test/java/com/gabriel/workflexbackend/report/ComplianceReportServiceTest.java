@@ -0,0 +1,127 @@
+package com.gabriel.workflexbackend.report;
+
+import com.gabriel.workflexbackend.exception.UnsupportedYearException;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.service.DataVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ComplianceReportServiceTest {
+
+    @Autowired
+    private ComplianceReportService complianceReportService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    private Employee traveller;
+    private Employee homebody;
+
+    @BeforeEach
+    void setUp() {
+        traveller = employeeRepository.save(new Employee(null, "Doe, John"));
+        homebody = employeeRepository.save(new Employee(null, "Jane Smith"));
+        workationRepository.save(workation(traveller, "Spain", "2024-03-01", "2024-03-15", 10, RiskEnum.LOW));
+        workationRepository.save(workation(traveller, "India", "2024-06-01", "2024-06-07", 5, RiskEnum.HIGH));
+        // 5 of its 10 days fall in 2024
+        workationRepository.save(workation(traveller, "Spain", "2024-12-27", "2025-01-05", 6, RiskEnum.NO));
+        workationRepository.save(workation(homebody, "France", "2023-05-01", "2023-05-03", 3, RiskEnum.LOW));
+        dataVersion.bump();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        dataVersion.bump();
+    }
+
+    @Test
+    void testReportCoversEveryEmployeeForTheYear() {
+        // Act
+        List<EmployeeYearSummary> report = complianceReportService.getReport(2024);
+
+        // Assert
+        assertThat(report).containsExactly(
+                new EmployeeYearSummary(traveller.getId(), "Doe, John", 2024, List.of("India", "Spain"), 3, 18, RiskEnum.HIGH),
+                new EmployeeYearSummary(homebody.getId(), "Jane Smith", 2024, List.of(), 0, 0, null));
+    }
+
+    @Test
+    void testReportIsCachedUntilDataVersionChanges() {
+        // Act
+        List<EmployeeYearSummary> first = complianceReportService.getReport(2025);
+        List<EmployeeYearSummary> cached = complianceReportService.getReport(2025);
+        workationRepository.save(workation(homebody, "Italy", "2025-02-01", "2025-02-02", 2, RiskEnum.LOW));
+        List<EmployeeYearSummary> stale = complianceReportService.getReport(2025);
+        dataVersion.bump();
+        List<EmployeeYearSummary> refreshed = complianceReportService.getReport(2025);
+
+        // Assert
+        assertThat(cached).isSameAs(first);
+        assertThat(stale).isSameAs(first);
+        assertThat(first.get(0).workingDays()).isEqualTo(3);
+        assertThat(refreshed.get(1).countries()).containsExactly("Italy");
+    }
+
+    @Test
+    void testOnlyAFewYearsAreKeptCached() {
+        // Act: twice the configured five years
+        for (int year = 2000; year < 2010; year++) {
+            complianceReportService.getReport(year);
+        }
+
+        // Assert
+        assertThat(complianceReportService.cachedYears()).isLessThanOrEqualTo(5);
+        assertThatThrownBy(() -> complianceReportService.getReport(1899)).isInstanceOf(UnsupportedYearException.class);
+    }
+
+    @Test
+    void testWriteCsvAndJson() throws Exception {
+        // Arrange
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+
+        // Act
+        long csvRows = complianceReportService.write(2024, ReportFormat.CSV, csv);
+        long jsonRows = complianceReportService.write(2024, ReportFormat.JSON, json);
+
+        // Assert
+        assertThat(csvRows).isEqualTo(2);
+        assertThat(jsonRows).isEqualTo(2);
+        assertThat(csv.toString(StandardCharsets.UTF_8)).isEqualTo(ComplianceReportService.CSV_HEADER + "\n"
+                + traveller.getId() + ",\"Doe, John\",2024,India;Spain,3,18,HIGH\n"
+                + homebody.getId() + ",Jane Smith,2024,,0,0,\n");
+        assertThat(json.toString(StandardCharsets.UTF_8))
+                .startsWith("[{")
+                .contains("\"employee\":\"Doe, John\"", "\"countries\":[\"India\",\"Spain\"]", "\"highestRisk\":\"HIGH\"")
+                .endsWith("}]");
+    }
+
+    private static Workation workation(Employee employee, String destination, String start, String end, int workingDays, RiskEnum risk) {
+        return new Workation(null, employee, "Germany", destination, LocalDate.parse(start).atStartOfDay(),
+                LocalDate.parse(end).atTime(23, 59, 59), workingDays, risk);
+    }
+}
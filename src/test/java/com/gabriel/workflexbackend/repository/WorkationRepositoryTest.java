@@ -0,0 +1,165 @@
+package com.gabriel.workflexbackend.repository;
+
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.service.WorkationSpecifications;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WorkationRepositoryTest {
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void testFindAllWithEmployeeUsesSingleStatement(int rows) {
+        // Arrange
+        seed(rows);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<Workation> result = workationRepository.findAllWithEmployee();
+        List<String> employees = result.stream().map(w -> w.getEmployee().getName()).toList();
+
+        // Assert
+        assertThat(employees).hasSize(rows);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void testFindWithEmployeeByIdUsesSingleStatement(int rows) {
+        // Arrange
+        Long id = seed(rows);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        Workation result = workationRepository.findWithEmployeeById(id).orElseThrow();
+
+        // Assert
+        assertThat(result.getEmployee().getName()).startsWith("Employee ");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testKeysetPagesCoverEveryRowOnceInStartOrder() {
+        // Arrange
+        seed(25);
+
+        // Act
+        List<Workation> visited = new ArrayList<>();
+        List<Workation> page = workationRepository.findFirstPage(Limit.of(10));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            Workation last = page.get(page.size() - 1);
+            page = workationRepository.findPageAfter(last.getStart(), last.getId(), Limit.of(10));
+        }
+
+        // Assert
+        assertThat(visited).hasSize(25);
+        assertThat(visited).extracting(Workation::getId).doesNotHaveDuplicates();
+        assertThat(visited).extracting(Workation::getStart).isSorted();
+    }
+
+    @Test
+    void testSpecificationSearchCombinesFiltersInSingleStatement() {
+        // Arrange
+        Employee employee = entityManager.persist(new Employee(null, "John Doe"));
+        entityManager.persist(new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 10, 23, 59, 59), 8, RiskEnum.LOW));
+        entityManager.persist(new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 6, 10, 23, 59, 59), 8, RiskEnum.HIGH));
+        entityManager.persist(new Workation(null, employee, "Germany", "Greece",
+                LocalDateTime.of(2024, 3, 5, 0, 0), LocalDateTime.of(2024, 3, 8, 23, 59, 59), 4, RiskEnum.LOW));
+        seed(5);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        Specification<Workation> spec = WorkationSpecifications.fetchEmployee()
+                .and(WorkationSpecifications.hasEmployeeId(employee.getId()))
+                .and(WorkationSpecifications.hasDestination("Spain"))
+                .and(WorkationSpecifications.startsOnOrAfter(LocalDate.of(2024, 3, 1)))
+                .and(WorkationSpecifications.endsOnOrBefore(LocalDate.of(2024, 6, 10)));
+        List<Workation> result = workationRepository.findBy(spec, query -> query.sortBy(Sort.by("start", "id")).limit(10).all());
+        List<String> employees = result.stream().map(w -> w.getEmployee().getName()).toList();
+
+        // Assert
+        assertThat(result).extracting(Workation::getRisk).containsExactly(RiskEnum.LOW, RiskEnum.HIGH);
+        assertThat(employees).containsOnly("John Doe");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testBulkDeletesRemoveMatchingRowsInOneStatementEach() {
+        // Arrange
+        Employee leaver = entityManager.persist(new Employee(null, "John Doe"));
+        entityManager.persist(new Workation(null, leaver, "Germany", "Spain",
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 10, 23, 59, 59), 8, RiskEnum.LOW));
+        entityManager.persist(new Workation(null, leaver, "Germany", "Spain",
+                LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 6, 10, 23, 59, 59), 8, RiskEnum.LOW));
+        // seed() trips end on 31/01/2024
+        seed(3);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        int endedBefore = workationRepository.deleteEndedBefore(LocalDateTime.of(2024, 2, 1, 0, 0));
+        int ofEmployee = workationRepository.deleteByEmployeeId(leaver.getId());
+        int employees = employeeRepository.deleteEmployeeById(leaver.getId());
+        int missing = employeeRepository.deleteEmployeeById(leaver.getId());
+
+        // Assert
+        assertThat(endedBefore).isEqualTo(3);
+        assertThat(ofEmployee).isEqualTo(2);
+        assertThat(employees).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(workationRepository.count()).isZero();
+        assertThat(employeeRepository.count()).isEqualTo(3);
+    }
+
+    private Long seed(int rows) {
+        Long lastId = null;
+        for (int i = 0; i < rows; i++) {
+            Employee employee = entityManager.persist(new Employee(null, "Employee " + i));
+            Workation workation = new Workation(null, employee, "Germany", "Spain",
+                    LocalDateTime.of(2024, 1, 1 + i % 3, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59, 59), 20, RiskEnum.LOW);
+            lastId = entityManager.persist(workation).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return lastId;
+    }
+}
@@ -0,0 +1,71 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.model.RiskEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RiskEngineTest {
+
+    private final RiskEngine riskEngine = new RiskEngine(new ClassPathResource("risk/risk-rules.csv"),
+            new ClassPathResource("risk/country-groups.csv"), RiskEnum.HIGH);
+
+    @Test
+    void testDefaultRulesReproduceSampleData() {
+        // Act & Assert: the risks recorded in static/workations.csv
+        assertThat(evaluate("Germany", "United States", 50)).isEqualTo(RiskEnum.HIGH);
+        assertThat(evaluate("Germany", "Ukraine", 5)).isEqualTo(RiskEnum.HIGH);
+        assertThat(evaluate("Belgium", "Spain", 131)).isEqualTo(RiskEnum.HIGH);
+        assertThat(evaluate("Germany", "Greece", 50)).isEqualTo(RiskEnum.LOW);
+        assertThat(evaluate("Germany", "India", 35)).isEqualTo(RiskEnum.NO);
+    }
+
+    @Test
+    void testMoreSpecificRulesWinAndLimitsFallThrough() {
+        // Act & Assert
+        assertThat(evaluate("Germany", "India", 41)).isEqualTo(RiskEnum.HIGH); // pair limit exceeded, falls to *,*
+        assertThat(evaluate("Atlantis", "Lemuria", 5)).isEqualTo(RiskEnum.LOW); // unknown countries only hit wildcards
+        assertThat(evaluate(" germany ", "GREECE", 50)).isEqualTo(RiskEnum.LOW);
+    }
+
+    @Test
+    void testReloadSwapsRulesAndRejectsBrokenFiles(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path rules = dir.resolve("rules.csv");
+        Path groups = dir.resolve("groups.csv");
+        Files.writeString(groups, "group,country\nEU,Germany\n");
+        Files.writeString(rules, "origin,destination,maxDurationDays,maxWorkingDays,risk\n*,*,*,*,LOW\n");
+        RiskEngine engine = new RiskEngine(new FileSystemResource(rules), new FileSystemResource(groups), RiskEnum.HIGH);
+        long initialVersion = engine.getVersion();
+
+        // Act
+        Files.writeString(rules, "origin,destination,maxDurationDays,maxWorkingDays,risk\n@EU,*,*,*,NO\n");
+        long reloadedVersion = engine.reload();
+
+        // Assert
+        assertThat(reloadedVersion).isEqualTo(initialVersion + 1);
+        assertThat(engine.evaluate("Germany", "Spain", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5), 5)).isEqualTo(RiskEnum.NO);
+        assertThat(engine.evaluate("France", "Spain", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5), 5)).isEqualTo(RiskEnum.HIGH);
+
+        Files.writeString(rules, "origin,destination,maxDurationDays,maxWorkingDays,risk\n@NOPE,*,*,*,NO\n");
+        assertThatThrownBy(engine::reload)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@NOPE");
+        assertThat(engine.getVersion()).isEqualTo(reloadedVersion);
+        assertThat(engine.evaluate("Germany", "Spain", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5), 5)).isEqualTo(RiskEnum.NO);
+    }
+
+    private RiskEnum evaluate(String origin, String destination, int workingDays) {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        return riskEngine.evaluate(origin, destination, start, start.plusDays(workingDays * 7L / 5), workingDays);
+    }
+}
@@ -0,0 +1,107 @@
+package com.gabriel.workflexbackend.risk;
+
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = "workflex.risk.rescore-chunk-size=10")
+class RiskRescoringServiceTest {
+
+    @Autowired
+    private RiskRescoringService riskRescoringService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private RiskEngine riskEngine;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRescoreUpdatesOnlyRowsWhoseRiskChanged() throws InterruptedException {
+        // Arrange: 40 rows across several id ranges, every fourth one stored with a stale risk
+        Employee employee = employeeRepository.save(new Employee(null, "John Doe"));
+        List<Workation> workations = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            workations.add(new Workation(null, employee, "Germany", "Greece",
+                    LocalDateTime.of(2024, 3, 4, 0, 0), LocalDateTime.of(2024, 3, 8, 23, 59, 59), 5,
+                    i % 4 == 0 ? RiskEnum.HIGH : RiskEnum.LOW));
+        }
+        workationRepository.saveAll(workations);
+
+        // Act
+        RescoreJob job = riskRescoringService.start();
+        awaitFinished(job);
+
+        // Assert
+        assertThat(job.getStatus()).isEqualTo(RescoreJobStatus.COMPLETED);
+        assertThat(job.getScanned().get()).isEqualTo(40);
+        assertThat(job.getUpdated().get()).isEqualTo(10);
+        assertThat(job.getChunksDone().get()).isEqualTo(job.getChunksTotal()).isGreaterThan(1);
+        assertThat(workationRepository.findAll()).allMatch(w -> w.getRisk() == RiskEnum.LOW);
+        assertThat(riskRescoringService.getCurrentJob()).contains(job);
+    }
+
+    @Test
+    void testRowChangedAfterBeingReadIsSkipped() throws InterruptedException {
+        // Arrange: both rows have a stale risk, one of them is edited while the job evaluates it
+        Employee employee = employeeRepository.save(new Employee(null, "John Doe"));
+        Workation edited = workationRepository.save(new Workation(null, employee, "Germany", "Greece",
+                LocalDateTime.of(2024, 3, 4, 0, 0), LocalDateTime.of(2024, 3, 8, 23, 59, 59), 5, RiskEnum.HIGH));
+        Workation untouched = workationRepository.save(new Workation(null, employee, "Germany", "Italy",
+                LocalDateTime.of(2024, 3, 4, 0, 0), LocalDateTime.of(2024, 3, 8, 23, 59, 59), 5, RiskEnum.HIGH));
+        doAnswer(invocation -> {
+            jdbcTemplate.update("update workation set destination = 'Spain', risk = 'HIGH' where id = ?", edited.getId());
+            return invocation.callRealMethod();
+        }).when(riskEngine).evaluate(eq("Germany"), eq("Greece"), any(), any(), anyInt());
+
+        // Act
+        RescoreJob job = riskRescoringService.start();
+        awaitFinished(job);
+
+        // Assert
+        assertThat(job.getStatus()).isEqualTo(RescoreJobStatus.COMPLETED);
+        assertThat(job.getUpdated().get()).isEqualTo(1);
+        assertThat(job.getSkipped().get()).isEqualTo(1);
+        assertThat(workationRepository.findById(edited.getId())).get()
+                .extracting(Workation::getDestination, Workation::getRisk).containsExactly("Spain", RiskEnum.HIGH);
+        assertThat(workationRepository.findById(untouched.getId())).get()
+                .extracting(Workation::getRisk).isEqualTo(RiskEnum.LOW);
+    }
+
+    private void awaitFinished(RescoreJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.AbroadResponseDTO;
+import com.gabriel.workflexbackend.index.AbroadIndex;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AbroadServiceTest {
+
+    @Mock
+    private AbroadIndex abroadIndex;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private AbroadService abroadService;
+
+    @Test
+    void testGetAbroadResolvesNamesOnceAndSorts() {
+        // Arrange
+        LocalDate day = LocalDate.of(2024, 3, 5);
+        when(abroadIndex.forEachAbroad(eq(day), eq(day), any())).thenAnswer(invocation -> {
+            AbroadIndex.TripVisitor visitor = invocation.getArgument(2);
+            visitor.visit(3L, 20L, 1, (int) LocalDate.of(2024, 3, 1).toEpochDay(), (int) LocalDate.of(2024, 3, 9).toEpochDay());
+            visitor.visit(1L, 10L, 0, (int) LocalDate.of(2024, 3, 4).toEpochDay(), (int) LocalDate.of(2024, 3, 6).toEpochDay());
+            visitor.visit(2L, 10L, 0, (int) LocalDate.of(2024, 3, 2).toEpochDay(), (int) LocalDate.of(2024, 3, 5).toEpochDay());
+            return 3;
+        });
+        when(abroadIndex.destinationName(0)).thenReturn("Spain");
+        when(abroadIndex.destinationName(1)).thenReturn("India");
+        when(employeeRepository.findAllById(Set.of(10L, 20L)))
+                .thenReturn(List.of(new Employee(10L, "Anna"), new Employee(20L, "Bruno")));
+
+        // Act
+        List<AbroadResponseDTO> result = abroadService.getAbroad(day, day);
+
+        // Assert
+        assertThat(result).extracting(AbroadResponseDTO::getWorkationId).containsExactly(2L, 1L, 3L);
+        assertThat(result).extracting(AbroadResponseDTO::getEmployee).containsExactly("Anna", "Anna", "Bruno");
+        assertThat(result.get(2).getDestination()).isEqualTo("India");
+        assertThat(result.get(2).getEnd()).isEqualTo(LocalDate.of(2024, 3, 9));
+        verify(employeeRepository, times(1)).findAllById(Set.of(10L, 20L));
+    }
+
+    @Test
+    void testRejectsInvertedRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> abroadService.countAbroad(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 4)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Range end must not be before its start");
+
+        verifyNoInteractions(abroadIndex);
+    }
+}
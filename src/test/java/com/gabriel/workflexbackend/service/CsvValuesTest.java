@@ -0,0 +1,24 @@
+package com.gabriel.workflexbackend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvValuesTest {
+
+    @Test
+    void testPlainValuesAreWrittenAsIs() {
+        // Act & Assert
+        assertThat(CsvValues.escape("Germany")).isEqualTo("Germany");
+        assertThat(CsvValues.escape(null)).isEmpty();
+    }
+
+    @Test
+    void testValuesWithSeparatorsQuotesOrLineBreaksAreQuoted() {
+        // Act & Assert
+        assertThat(CsvValues.escape("Doe, John")).isEqualTo("\"Doe, John\"");
+        assertThat(CsvValues.escape("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(CsvValues.escape("Costa\nRica")).isEqualTo("\"Costa\nRica\"");
+        assertThat(CsvValues.escape("Costa\rRica")).isEqualTo("\"Costa\rRica\"");
+    }
+}
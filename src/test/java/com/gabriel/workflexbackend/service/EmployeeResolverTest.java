@@ -0,0 +1,195 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EmployeeResolverTest {
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        employeeResolver.evictAll();
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testResolveReusesExistingEmployee() {
+        // Arrange
+        Employee existing = employeeRepository.save(new Employee(null, "John Doe"));
+
+        // Act
+        Employee result = employeeResolver.resolve(" John Doe ");
+
+        // Assert
+        assertThat(result.getId()).isEqualTo(existing.getId());
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testResolveAllCreatesOnlyMissingEmployees() {
+        // Arrange
+        Employee existing = employeeRepository.save(new Employee(null, "John Doe"));
+        Employee cached = employeeResolver.resolve("Jane Smith");
+
+        // Act
+        Map<String, Employee> result = employeeResolver.resolveAll(List.of("John Doe", " Jane Smith", "Max Mustermann"));
+
+        // Assert
+        assertThat(result).containsOnlyKeys("John Doe", "Jane Smith", "Max Mustermann");
+        assertThat(result.get("John Doe").getId()).isEqualTo(existing.getId());
+        assertThat(result.get("Jane Smith").getId()).isEqualTo(cached.getId());
+        assertThat(employeeRepository.count()).isEqualTo(3);
+        assertThat(employeeResolver.resolve("Max Mustermann").getId()).isEqualTo(result.get("Max Mustermann").getId());
+    }
+
+    @Test
+    void testConcurrentResolvesOfSameNameCreateOneEmployee() throws Exception {
+        // Arrange
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Employee>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return employeeResolver.resolve("Jane Smith");
+            }));
+        }
+        start.countDown();
+        List<Long> ids = new ArrayList<>();
+        for (Future<Employee> result : results) {
+            ids.add(result.get().getId());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(ids).containsOnly(ids.get(0));
+        assertThat(employeeRepository.findByName("Jane Smith")).isPresent();
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testEmployeeCreatedInRolledBackTransactionIsNeitherStoredNorCached() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        Long rolledBackId = transaction.execute(status -> {
+            Employee created = employeeResolver.resolve("Jane Smith");
+            // The same transaction finds the employee it created, before it commits
+            assertThat(employeeResolver.resolve("Jane Smith").getId()).isEqualTo(created.getId());
+            status.setRollbackOnly();
+            return created.getId();
+        });
+
+        // Assert
+        assertThat(employeeRepository.count()).isZero();
+        assertThat(employeeResolver.find("Jane Smith")).isEmpty();
+        assertThat(employeeResolver.resolve("Jane Smith").getId()).isNotEqualTo(rolledBackId);
+    }
+
+    @Test
+    void testEmployeeCreatedInTransactionIsCachedAfterCommit() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        Employee created = transaction.execute(status -> {
+            Employee employee = employeeResolver.resolve("Jane Smith");
+            assertThat(employeeResolver.size()).isZero();
+            return employee;
+        });
+
+        // Assert
+        assertThat(employeeResolver.size()).isEqualTo(1);
+        assertThat(employeeRepository.findByName("Jane Smith")).get().extracting(Employee::getId).isEqualTo(created.getId());
+    }
+
+    @Test
+    void testConcurrentTransactionsCreatingSameNameShareOneEmployee() throws Exception {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch firstInserted = new CountDownLatch(1);
+
+        // Act: the second transaction inserts the name while the first still holds it uncommitted
+        Future<Long> first = executor.submit(() -> transaction.execute(status -> {
+            Employee employee = employeeResolver.resolve("Jane Smith");
+            firstInserted.countDown();
+            sleep(200);
+            return employee.getId();
+        }));
+        firstInserted.await();
+        Future<Long> second = executor.submit(() -> transaction.execute(status -> employeeResolver.resolve("Jane Smith").getId()));
+        Long firstId = first.get(10, TimeUnit.SECONDS);
+        Long secondId = second.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testEvictionInTransactionWaitsForCommit() {
+        // Arrange
+        Employee employee = employeeResolver.resolve("Jane Smith");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act: a lookup between the eviction and the commit would otherwise cache the employee again
+        transaction.executeWithoutResult(status -> {
+            employeeResolver.evictById(employee.getId());
+            employeeRepository.deleteEmployeeById(employee.getId());
+            assertThat(employeeResolver.size()).isEqualTo(1);
+        });
+
+        // Assert
+        assertThat(employeeResolver.size()).isZero();
+        assertThat(employeeResolver.find("Jane Smith")).isEmpty();
+    }
+
+    @Test
+    void testResolveBlankNameIsRejected() {
+        // Act & Assert
+        assertThatThrownBy(() -> employeeResolver.resolve(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Employee name is required");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.gabriel.workflexbackend.service;
 
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
 import com.gabriel.workflexbackend.model.Employee;
 import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +27,18 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeResolver employeeResolver;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private WorkationRepository workationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -93,6 +109,7 @@ class EmployeeServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("John Doe");
         verify(employeeRepository, times(1)).save(inputEmployee);
+        verify(dataVersion, times(1)).bump();
     }
 
     @Test
@@ -115,6 +132,7 @@ class EmployeeServiceTest {
         assertThat(result.getName()).isEqualTo("John Doe Updated");
         verify(employeeRepository, times(1)).findById(employeeId);
         verify(employeeRepository, times(1)).save(existingEmployee);
+        verify(employeeResolver, times(1)).evict("John Doe");
     }
 
     @Test
@@ -135,33 +153,38 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void testDeleteEmployee() {
+    void testDeleteEmployeeRemovesTheirWorkationsFirst() {
         // Arrange
         Long employeeId = 1L;
-        Employee employee = new Employee(employeeId, "John Doe");
-
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(workationRepository.deleteByEmployeeId(employeeId)).thenReturn(3);
+        when(employeeRepository.deleteEmployeeById(employeeId)).thenReturn(1);
 
         // Act
-        employeeService.deleteEmployee(employeeId);
+        int workations = employeeService.deleteEmployee(employeeId);
 
         // Assert
-        verify(employeeRepository, times(1)).findById(employeeId);
-        verify(employeeRepository, times(1)).delete(employee);
+        assertThat(workations).isEqualTo(3);
+        InOrder inOrder = inOrder(workationRepository, employeeRepository);
+        inOrder.verify(workationRepository).deleteByEmployeeId(employeeId);
+        inOrder.verify(employeeRepository).deleteEmployeeById(employeeId);
+        verify(employeeRepository, never()).findById(any());
+        verify(employeeResolver, times(1)).evictById(employeeId);
+        verify(eventPublisher, times(1)).publishEvent(any(WorkationsReloadedEvent.class));
+        verify(dataVersion, times(1)).bump();
     }
 
     @Test
     void testDeleteEmployeeNotFound() {
         // Arrange
         Long employeeId = 999L;
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.empty());
+        when(employeeRepository.deleteEmployeeById(employeeId)).thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> employeeService.deleteEmployee(employeeId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Employee not found with id: " + employeeId);
 
-        verify(employeeRepository, times(1)).findById(employeeId);
-        verify(employeeRepository, never()).delete(any(Employee.class));
+        verify(employeeResolver, never()).evictById(any());
+        verify(dataVersion, never()).bump();
     }
 }
\ No newline at end of file
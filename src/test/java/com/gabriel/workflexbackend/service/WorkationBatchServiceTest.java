@@ -0,0 +1,197 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.WorkationBatchItemResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchRequestDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationBatchResponseDTO;
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {"workflex.batch.chunk-size=2", "workflex.batch.max-items=20"})
+class WorkationBatchServiceTest {
+
+    @Autowired
+    private WorkationBatchService workationBatchService;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void testBatchAppliesEveryOperationAndReportsEachItem() {
+        // Arrange
+        employeeRepository.save(new Employee(null, "John Doe"));
+        WorkationBatchResponseDTO seeded = workationBatchService.apply(new WorkationBatchRequestDTO(List.of(
+                workation(null, "John Doe", "Spain", "2024-03-01", "2024-03-10"),
+                workation(null, "Jane Smith", "India", "2024-03-01", "2024-03-10")), List.of(), List.of()));
+        Long johnsTrip = seeded.getResults().get(0).getId();
+        Long janesTrip = seeded.getResults().get(1).getId();
+
+        // Act
+        WorkationBatchResponseDTO result = workationBatchService.apply(new WorkationBatchRequestDTO(
+                List.of(workation(null, "Max Mustermann", "Portugal", "2024-05-01", "2024-05-03"),
+                        workation(null, " ", "Portugal", "2024-05-01", "2024-05-03"),
+                        workation(null, "Max Mustermann", "Greece", "2024-07-03", "2024-07-01")),
+                List.of(workation(johnsTrip, "John Doe", "France", "2024-04-01", "2024-04-05"),
+                        workation(999_999L, "John Doe", "France", "2024-04-01", "2024-04-05")),
+                List.of(janesTrip, 999_999L, janesTrip)));
+
+        // Assert
+        assertThat(seeded.getCreated()).isEqualTo(2);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(5);
+        assertThat(result.getResults()).extracting(WorkationBatchItemResponseDTO::getOperation, WorkationBatchItemResponseDTO::getIndex,
+                        WorkationBatchItemResponseDTO::getStatus)
+                .containsExactly(
+                        tuple(BatchOperation.DELETE, 0, BatchItemStatus.OK),
+                        tuple(BatchOperation.DELETE, 1, BatchItemStatus.NOT_FOUND),
+                        tuple(BatchOperation.DELETE, 2, BatchItemStatus.NOT_FOUND),
+                        tuple(BatchOperation.UPDATE, 0, BatchItemStatus.OK),
+                        tuple(BatchOperation.UPDATE, 1, BatchItemStatus.NOT_FOUND),
+                        tuple(BatchOperation.CREATE, 0, BatchItemStatus.OK),
+                        tuple(BatchOperation.CREATE, 1, BatchItemStatus.REJECTED),
+                        tuple(BatchOperation.CREATE, 2, BatchItemStatus.REJECTED));
+        assertThat(result.getResults().get(7).getError()).contains("end date");
+
+        List<Workation> workations = workationRepository.findAllWithEmployee();
+        assertThat(workations).extracting(Workation::getDestination).containsExactlyInAnyOrder("France", "Portugal");
+        assertThat(employeeRepository.findAll()).extracting(Employee::getName)
+                .containsExactlyInAnyOrder("John Doe", "Jane Smith", "Max Mustermann");
+        WorkationResponseDTO updated = workationService.getWorkationById(johnsTrip);
+        assertThat(updated.getDestination()).isEqualTo("France");
+        assertThat(updated.getWorkingDays()).isPositive();
+        assertThat(updated.getRisk()).isNotNull();
+    }
+
+    @Test
+    void testOverlapsWithCommittedAndSameChunkTripsAreRejected() {
+        // Arrange
+        Long committed = workationBatchService.apply(new WorkationBatchRequestDTO(
+                List.of(workation(null, "John Doe", "Spain", "2024-03-01", "2024-03-10")), List.of(), List.of()))
+                .getResults().get(0).getId();
+
+        // Act: with two items per chunk, the second create overlaps the committed trip, the fourth the third one
+        // in the same chunk and the fifth the first one, committed with the previous chunk
+        WorkationBatchResponseDTO result = workationBatchService.apply(new WorkationBatchRequestDTO(List.of(
+                workation(null, "John Doe", "India", "2024-04-01", "2024-04-10"),
+                workation(null, "John Doe", "India", "2024-03-10", "2024-03-12"),
+                workation(null, "John Doe", "India", "2024-06-01", "2024-06-10"),
+                workation(null, "John Doe", "India", "2024-06-05", "2024-06-06"),
+                workation(null, "John Doe", "India", "2024-04-10", "2024-04-12")), List.of(), List.of()));
+
+        // Assert
+        List<WorkationBatchItemResponseDTO> results = result.getResults();
+        assertThat(results).extracting(WorkationBatchItemResponseDTO::getStatus).containsExactly(BatchItemStatus.OK,
+                BatchItemStatus.REJECTED, BatchItemStatus.OK, BatchItemStatus.REJECTED, BatchItemStatus.REJECTED);
+        assertThat(results.get(1).getError()).contains("[" + committed + "]");
+        assertThat(results.get(3).getError()).contains("[" + results.get(2).getId() + "]");
+        assertThat(results.get(4).getError()).contains("[" + results.get(0).getId() + "]");
+        assertThat(workationRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void testDeleteFreesDatesForCreateInSameBatch() {
+        // Arrange
+        Long existing = workationBatchService.apply(new WorkationBatchRequestDTO(
+                List.of(workation(null, "John Doe", "Spain", "2024-03-01", "2024-03-10")), List.of(), List.of()))
+                .getResults().get(0).getId();
+
+        // Act
+        WorkationBatchResponseDTO result = workationBatchService.apply(new WorkationBatchRequestDTO(
+                List.of(workation(null, "John Doe", "Portugal", "2024-03-01", "2024-03-10")), List.of(), List.of(existing)));
+
+        // Assert
+        assertThat(result.getResults()).extracting(WorkationBatchItemResponseDTO::getStatus)
+                .containsExactly(BatchItemStatus.OK, BatchItemStatus.OK);
+        assertThat(workationRepository.findAll()).extracting(Workation::getDestination).containsExactly("Portugal");
+    }
+
+    @Test
+    void testRejectedItemsAndRolledBackChunksLeaveNoEmployees() {
+        // Arrange: a destination longer than its column fails the first chunk of each kind at flush
+        Long existing = workationBatchService.apply(new WorkationBatchRequestDTO(
+                List.of(workation(null, "John Doe", "Spain", "2024-03-01", "2024-03-10")), List.of(), List.of()))
+                .getResults().get(0).getId();
+        String tooLong = "X".repeat(300);
+
+        // Act
+        WorkationBatchResponseDTO result = workationBatchService.apply(new WorkationBatchRequestDTO(
+                List.of(workation(null, "Invalid Person", "Spain", "2024-05-10", "2024-05-01"),
+                        workation(null, "Rolled Back", tooLong, "2024-05-01", "2024-05-03")),
+                List.of(workation(existing, "Also Rolled Back", tooLong, "2024-04-01", "2024-04-05"),
+                        workation(999_999L, "Not Found", "France", "2024-04-01", "2024-04-05"),
+                        workation(existing, "John Doe", "France", "2024-04-01", "2024-04-05")),
+                List.of()));
+
+        // Assert: the update in the failed chunk never happened, so the later one is not a duplicate
+        assertThat(result.getResults()).extracting(WorkationBatchItemResponseDTO::getOperation, WorkationBatchItemResponseDTO::getStatus)
+                .containsExactly(
+                        tuple(BatchOperation.UPDATE, BatchItemStatus.FAILED),
+                        tuple(BatchOperation.UPDATE, BatchItemStatus.NOT_FOUND),
+                        tuple(BatchOperation.UPDATE, BatchItemStatus.OK),
+                        tuple(BatchOperation.CREATE, BatchItemStatus.REJECTED),
+                        tuple(BatchOperation.CREATE, BatchItemStatus.FAILED));
+        assertThat(employeeRepository.findAll()).extracting(Employee::getName).containsExactly("John Doe");
+        assertThat(workationRepository.findAll()).extracting(Workation::getDestination).containsExactly("France");
+    }
+
+    @Test
+    void testOversizedBatchIsRefused() {
+        // Arrange
+        WorkationBatchRequestDTO batch = new WorkationBatchRequestDTO(List.of(), List.of(),
+                LongStream.rangeClosed(1, 21).boxed().toList());
+
+        // Act & Assert
+        assertThatThrownBy(() -> workationBatchService.apply(batch))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most 20");
+    }
+
+    private static WorkationResponseDTO workation(Long id, String employee, String destination, String start, String end) {
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setId(id);
+        dto.setEmployee(employee);
+        dto.setOrigin("Germany");
+        dto.setDestination(destination);
+        dto.setStart(LocalDate.parse(start));
+        dto.setEnd(LocalDate.parse(end));
+        return dto;
+    }
+}
@@ -0,0 +1,154 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.analytics.AnalyticsCube;
+import com.gabriel.workflexbackend.analytics.CubeDimension;
+import com.gabriel.workflexbackend.analytics.CubeRow;
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.index.OverlapIndex;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class WorkationCachingTest {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private OverlapIndex overlapIndex;
+
+    @Autowired
+    private AnalyticsCube analyticsCube;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        overlapIndex.invalidate();
+        analyticsCube.invalidate();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void testGetWorkationByIdIsServedFromCacheUntilUpdated() {
+        // Arrange
+        Long id = workationService.createWorkation(createSampleWorkationDTO("John Doe")).getId();
+        Workation workation = workationRepository.findById(id).orElseThrow();
+        workation.setDestination("Portugal");
+        workationRepository.save(workation); // bypasses the service, so the cache is not told
+
+        // Act & Assert
+        assertThat(workationService.getWorkationById(id).getDestination()).isEqualTo("Spain");
+
+        workationService.updateWorkation(id, createSampleWorkationDTO("Jane Smith"));
+        WorkationResponseDTO updated = workationService.getWorkationById(id);
+        assertThat(updated.getEmployee()).isEqualTo("Jane Smith");
+        assertThat(updated.getDestination()).isEqualTo("Spain");
+    }
+
+    @Test
+    void testDeleteWorkationEvictsCachedEntry() {
+        // Arrange
+        Long id = workationService.createWorkation(createSampleWorkationDTO("John Doe")).getId();
+        workationService.getWorkationById(id);
+
+        // Act
+        workationService.deleteWorkation(id);
+
+        // Assert
+        assertThatThrownBy(() -> workationService.getWorkationById(id))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Workation not found with id: " + id);
+    }
+
+    @Test
+    void testListSnapshotIsReusedUntilAWriteHappens() {
+        // Arrange
+        workationService.createWorkation(createSampleWorkationDTO("John Doe"));
+        List<WorkationResponseDTO> first = workationService.getAllWorkations();
+
+        // Act
+        List<WorkationResponseDTO> second = workationService.getAllWorkations();
+        workationService.createWorkation(createSampleWorkationDTO("Jane Smith"));
+        List<WorkationResponseDTO> third = workationService.getAllWorkations();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(third).hasSize(2);
+    }
+
+    @Test
+    void testConcurrentUpdatesOfOneWorkationKeepAnalyticsConsistent() throws Exception {
+        // Arrange
+        Long id = workationService.createWorkation(createSampleWorkationDTO("John Doe")).getId();
+        analyticsCube.size();
+        String[] destinations = {"Spain", "Portugal", "Italy", "France"};
+        List<Future<?>> writers = new ArrayList<>();
+
+        // Act: every update subtracts the previous state it read from the cube and adds its own
+        try (ExecutorService executor = Executors.newFixedThreadPool(destinations.length)) {
+            for (String destination : destinations) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        WorkationResponseDTO dto = createSampleWorkationDTO("John Doe");
+                        dto.setDestination(destination);
+                        workationService.updateWorkation(id, dto);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+        List<CubeRow> incremental = analyticsCube.rollup(YearMonth.of(2024, 1), YearMonth.of(2024, 12), EnumSet.of(CubeDimension.DESTINATION));
+        analyticsCube.invalidate();
+        List<CubeRow> rebuilt = analyticsCube.rollup(YearMonth.of(2024, 1), YearMonth.of(2024, 12), EnumSet.of(CubeDimension.DESTINATION));
+
+        // Assert
+        assertThat(incremental).isEqualTo(rebuilt).hasSize(1);
+    }
+
+    private WorkationResponseDTO createSampleWorkationDTO(String employee) {
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setEmployee(employee);
+        dto.setOrigin("Germany");
+        dto.setDestination("Spain");
+        dto.setStart(LocalDate.of(2024, 1, 1));
+        dto.setEnd(LocalDate.of(2024, 1, 31));
+        dto.setWorkingDays(22L);
+        dto.setRisk(RiskEnum.LOW);
+        return dto;
+    }
+}
@@ -0,0 +1,87 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class WorkationExportServiceTest {
+
+    @Autowired
+    private WorkationExportService workationExportService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Long workationId;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = employeeRepository.save(new Employee(null, "Doe, John"));
+        Workation workation = new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 15, 23, 59, 59), 10, RiskEnum.LOW);
+        workationId = workationRepository.save(workation).getId();
+    }
+
+    @Test
+    void testExportCsvUsesImportLayout() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = workationExportService.export(ExportFormat.CSV, out);
+
+        // Assert
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                WorkationExportService.CSV_HEADER + "\n"
+                        + workationId + ",\"Doe, John\",Germany,Spain,2024-03-01,2024-03-15,10,LOW\n");
+    }
+
+    @Test
+    void testExportIncludesWorkationsWithoutEmployee() throws Exception {
+        // Arrange
+        Long orphanId = workationRepository.save(new Workation(null, null, "Germany", "Italy",
+                LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 5, 23, 59, 59), 5, RiskEnum.NO)).getId();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = workationExportService.export(ExportFormat.CSV, out);
+
+        // Assert
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith(orphanId + ",,Germany,Italy,2024-04-01,2024-04-05,5,NO\n");
+    }
+
+    @Test
+    void testExportNdjsonWritesOneObjectPerLine() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = workationExportService.export(ExportFormat.NDJSON, out);
+
+        // Assert
+        assertThat(rows).isEqualTo(1);
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("}\n").doesNotContain("[");
+        assertThat(body).contains("\"employee\":\"Doe, John\"", "\"start\":\"01/03/2024\"", "\"risk\":\"LOW\"");
+    }
+}
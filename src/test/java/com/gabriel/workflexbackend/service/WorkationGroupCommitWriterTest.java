@@ -0,0 +1,178 @@
+package com.gabriel.workflexbackend.service;
+
+import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.exception.WorkationOverlapException;
+import com.gabriel.workflexbackend.exception.WriteQueueFullException;
+import com.gabriel.workflexbackend.index.OverlapIndex;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "workflex.group-commit.enabled=true",
+        "workflex.group-commit.batch-size=8",
+        "workflex.group-commit.linger-ms=200"
+})
+class WorkationGroupCommitWriterTest {
+
+    @Autowired
+    private WorkationGroupCommitWriter groupCommitWriter;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeResolver employeeResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OverlapIndex overlapIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        employeeResolver.evictAll();
+        eventPublisher.publishEvent(new WorkationsReloadedEvent());
+    }
+
+    @Test
+    void testConcurrentCreatesShareTransactionsAndFailIndividually() throws Exception {
+        // Arrange
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        long batchesBefore = groupCommitWriter.getBatchesCommitted();
+        List<Future<WorkationResponseDTO>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < callers; i++) {
+            WorkationResponseDTO workation = workation("Employee " + i, "2024-03-01", "2024-03-10");
+            results.add(executor.submit(() -> {
+                start.await();
+                return groupCommitWriter.create(workation);
+            }));
+        }
+        Future<WorkationResponseDTO> invalid = executor.submit(() -> {
+            start.await();
+            return groupCommitWriter.create(workation("Employee 0", "2024-05-10", "2024-05-01"));
+        });
+        start.countDown();
+
+        // Assert
+        List<Long> ids = new ArrayList<>();
+        for (Future<WorkationResponseDTO> result : results) {
+            ids.add(result.get().getId());
+        }
+        assertThatThrownBy(invalid::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        executor.shutdown();
+
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(workationRepository.count()).isEqualTo(callers);
+        // Each committed row is immediately readable by the caller
+        assertThat(workationService.getWorkationById(ids.get(0)).getDestination()).isEqualTo("Spain");
+        assertThat(groupCommitWriter.getBatchesCommitted() - batchesBefore).isLessThan(callers);
+    }
+
+    @Test
+    void testOverlapWithCommittedTripIsRejectedForThatCallerOnly() {
+        // Arrange
+        groupCommitWriter.create(workation("John Doe", "2024-03-01", "2024-03-10"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> groupCommitWriter.create(workation("John Doe", "2024-03-05", "2024-03-06")))
+                .isInstanceOf(WorkationOverlapException.class);
+        assertThat(groupCommitWriter.create(workation("John Doe", "2024-04-01", "2024-04-02")).getId()).isNotNull();
+        assertThat(workationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testOverlapWithinTheSameBatchIsRejected() throws Exception {
+        // Arrange: the 200 ms linger puts both creates in one batch
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<WorkationResponseDTO>> results = new ArrayList<>();
+        for (String day : List.of("2024-03-01", "2024-03-05")) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return groupCommitWriter.create(workation("John Doe", day, "2024-03-10"));
+            }));
+        }
+        start.countDown();
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<WorkationResponseDTO> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(failures).singleElement().isInstanceOf(WorkationOverlapException.class);
+        assertThat(workationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCallerGivingUpBeforeItsCreateIsWrittenCancelsIt() throws Exception {
+        // Arrange: a writer that lingers far longer than callers wait
+        WorkationGroupCommitWriter slowWriter = new WorkationGroupCommitWriter(workationService, overlapIndex, transactionManager,
+                true, 8, 500, 16, 50);
+
+        // Act & Assert
+        try {
+            assertThatThrownBy(() -> slowWriter.create(workation("John Doe", "2024-03-01", "2024-03-10")))
+                    .isInstanceOf(WriteQueueFullException.class)
+                    .hasMessageContaining("was dropped");
+            Thread.sleep(1_000);
+            assertThat(workationRepository.count()).isZero();
+            assertThat(slowWriter.getItemsCommitted()).isZero();
+        } finally {
+            slowWriter.shutdown();
+        }
+    }
+
+    private static WorkationResponseDTO workation(String employee, String start, String end) {
+        WorkationResponseDTO dto = new WorkationResponseDTO();
+        dto.setEmployee(employee);
+        dto.setOrigin("Germany");
+        dto.setDestination("Spain");
+        dto.setStart(LocalDate.parse(start));
+        dto.setEnd(LocalDate.parse(end));
+        return dto;
+    }
+}
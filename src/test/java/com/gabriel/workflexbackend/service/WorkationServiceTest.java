@@ -1,27 +1,46 @@
 package com.gabriel.workflexbackend.service;
 
+import com.gabriel.workflexbackend.config.CacheConfig;
+import com.gabriel.workflexbackend.dto.response.CursorPageResponseDTO;
 import com.gabriel.workflexbackend.dto.response.WorkationResponseDTO;
+import com.gabriel.workflexbackend.exception.InvalidRequestException;
+import com.gabriel.workflexbackend.exception.WorkationOverlapException;
+import com.gabriel.workflexbackend.index.OverlapIndex;
+import com.gabriel.workflexbackend.index.OverlapMode;
+import com.gabriel.workflexbackend.index.WorkationChangedEvent;
+import com.gabriel.workflexbackend.index.WorkationInterval;
+import com.gabriel.workflexbackend.index.WorkationsReloadedEvent;
 import com.gabriel.workflexbackend.mapper.WorkationMapper;
 import com.gabriel.workflexbackend.model.Employee;
 import com.gabriel.workflexbackend.model.RiskEnum;
 import com.gabriel.workflexbackend.model.Workation;
 import com.gabriel.workflexbackend.repository.EmployeeRepository;
 import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import com.gabriel.workflexbackend.workingdays.WorkingDaysCalculator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,11 +50,38 @@ class WorkationServiceTest {
     private WorkationRepository workationRepository;
 
     @Mock
-    private EmployeeRepository employeeRepository;
+    private EmployeeResolver employeeResolver;
 
     @Mock
     private WorkationMapper workationMapper;
 
+    @Mock
+    private WorkationListCache workationListCache;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private WorkingDaysCalculator workingDaysCalculator;
+
+    @Mock
+    private RiskEngine riskEngine;
+
+    @Mock
+    private OverlapIndex overlapIndex;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache workationCache;
+
     @InjectMocks
     private WorkationService workationService;
 
@@ -49,7 +95,8 @@ class WorkationServiceTest {
         WorkationResponseDTO dto1 = createSampleWorkationDTO(1L, "John Doe", "Germany", "USA");
         WorkationResponseDTO dto2 = createSampleWorkationDTO(2L, "Jane Smith", "France", "Canada");
 
-        when(workationRepository.findAll()).thenReturn(workations);
+        when(workationListCache.get(any())).thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
+        when(workationRepository.findAllWithEmployee()).thenReturn(workations);
         when(workationMapper.toDTO(workation1)).thenReturn(dto1);
         when(workationMapper.toDTO(workation2)).thenReturn(dto2);
 
@@ -60,10 +107,63 @@ class WorkationServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getEmployee()).isEqualTo("John Doe");
         assertThat(result.get(1).getEmployee()).isEqualTo("Jane Smith");
-        verify(workationRepository, times(1)).findAll();
+        verify(workationRepository, times(1)).findAllWithEmployee();
         verify(workationMapper, times(2)).toDTO(any(Workation.class));
     }
 
+    @Test
+    void testGetWorkationPageReturnsCursorWhenMoreRowsExist() {
+        // Arrange
+        Workation workation1 = createSampleWorkation(1L, "John Doe", "Germany", "USA");
+        Workation workation2 = createSampleWorkation(2L, "Jane Smith", "France", "Canada");
+        WorkationResponseDTO dto1 = createSampleWorkationDTO(1L, "John Doe", "Germany", "USA");
+
+        when(workationRepository.findFirstPage(Limit.of(2))).thenReturn(Arrays.asList(workation1, workation2));
+        when(workationMapper.toDTO(workation1)).thenReturn(dto1);
+
+        // Act
+        CursorPageResponseDTO<WorkationResponseDTO> result = workationService.getWorkationPage(null, 1);
+
+        // Assert
+        assertThat(result.getItems()).containsExactly(dto1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(WorkationCursor.decode(result.getNextCursor()))
+                .isEqualTo(new WorkationCursor(workation1.getStart(), 1L));
+        verify(workationMapper, never()).toDTO(workation2);
+    }
+
+    @Test
+    void testGetWorkationPageSeeksAfterCursor() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = new WorkationCursor(start, 1L).encode();
+        Workation workation2 = createSampleWorkation(2L, "Jane Smith", "France", "Canada");
+        WorkationResponseDTO dto2 = createSampleWorkationDTO(2L, "Jane Smith", "France", "Canada");
+
+        when(workationRepository.findPageAfter(start, 1L, Limit.of(11))).thenReturn(List.of(workation2));
+        when(workationMapper.toDTO(workation2)).thenReturn(dto2);
+
+        // Act
+        CursorPageResponseDTO<WorkationResponseDTO> result = workationService.getWorkationPage(cursor, 10);
+
+        // Assert
+        assertThat(result.getItems()).containsExactly(dto2);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testGetWorkationPageRejectsInvalidInput() {
+        // Act & Assert
+        assertThatThrownBy(() -> workationService.getWorkationPage(null, 0))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> workationService.getWorkationPage("not-a-cursor", 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid cursor: not-a-cursor");
+
+        verifyNoInteractions(workationRepository);
+    }
+
     @Test
     void testGetWorkationById() {
         // Arrange
@@ -71,7 +171,7 @@ class WorkationServiceTest {
         Workation workation = createSampleWorkation(workationId, "John Doe", "Germany", "USA");
         WorkationResponseDTO expectedDTO = createSampleWorkationDTO(workationId, "John Doe", "Germany", "USA");
 
-        when(workationRepository.findById(workationId)).thenReturn(Optional.of(workation));
+        when(workationRepository.findWithEmployeeById(workationId)).thenReturn(Optional.of(workation));
         when(workationMapper.toDTO(workation)).thenReturn(expectedDTO);
 
         // Act
@@ -81,7 +181,7 @@ class WorkationServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(workationId);
         assertThat(result.getEmployee()).isEqualTo("John Doe");
-        verify(workationRepository, times(1)).findById(workationId);
+        verify(workationRepository, times(1)).findWithEmployeeById(workationId);
         verify(workationMapper, times(1)).toDTO(workation);
     }
 
@@ -89,14 +189,14 @@ class WorkationServiceTest {
     void testGetWorkationByIdNotFound() {
         // Arrange
         Long workationId = 999L;
-        when(workationRepository.findById(workationId)).thenReturn(Optional.empty());
+        when(workationRepository.findWithEmployeeById(workationId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> workationService.getWorkationById(workationId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Workation not found with id: " + workationId);
 
-        verify(workationRepository, times(1)).findById(workationId);
+        verify(workationRepository, times(1)).findWithEmployeeById(workationId);
         verify(workationMapper, never()).toDTO(any(Workation.class));
     }
 
@@ -109,8 +209,10 @@ class WorkationServiceTest {
         Workation savedWorkation = createSampleWorkation(1L, "John Doe", "Germany", "USA");
         WorkationResponseDTO expectedDTO = createSampleWorkationDTO(1L, "John Doe", "Germany", "USA");
 
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeResolver.resolve("John Doe")).thenReturn(employee);
         when(workationMapper.toEntity(inputDTO)).thenReturn(inputWorkation);
+        when(workingDaysCalculator.countWorkingDays("Germany", inputDTO.getStart(), inputDTO.getEnd())).thenReturn(253);
+        when(riskEngine.evaluate("Germany", "USA", inputDTO.getStart(), inputDTO.getEnd(), 253)).thenReturn(RiskEnum.HIGH);
         when(workationRepository.save(any(Workation.class))).thenReturn(savedWorkation);
         when(workationMapper.toDTO(savedWorkation)).thenReturn(expectedDTO);
 
@@ -121,12 +223,92 @@ class WorkationServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getEmployee()).isEqualTo("John Doe");
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeResolver, times(1)).resolve("John Doe");
         verify(workationMapper, times(1)).toEntity(inputDTO);
-        verify(workationRepository, times(1)).save(any(Workation.class));
+        verify(workationRepository, times(1)).save(argThat(w -> w.getWorkingDays() == 253 && w.getRisk() == RiskEnum.HIGH));
         verify(workationMapper, times(1)).toDTO(savedWorkation);
     }
 
+    @Test
+    void testCreateWorkationRejectsOverlapInRejectMode() {
+        // Arrange
+        WorkationResponseDTO inputDTO = createSampleWorkationDTO(null, "John Doe", "Germany", "USA");
+        Employee employee = new Employee(1L, "John Doe");
+
+        when(employeeResolver.find("John Doe")).thenReturn(Optional.of(employee));
+        when(overlapIndex.findOverlaps(1L, inputDTO.getStart(), inputDTO.getEnd(), null)).thenReturn(List.of(7L));
+        when(overlapIndex.getMode()).thenReturn(OverlapMode.REJECT);
+
+        // Act & Assert
+        assertThatThrownBy(() -> workationService.createWorkation(inputDTO))
+                .isInstanceOf(WorkationOverlapException.class)
+                .hasMessage("Workation overlaps existing workations [7] of employee John Doe");
+
+        verify(employeeResolver, never()).resolve(any());
+        verify(workationRepository, never()).save(any(Workation.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testUpdateWorkationFlagsOverlapInFlagMode() {
+        // Arrange
+        Long workationId = 1L;
+        WorkationResponseDTO updateDTO = createSampleWorkationDTO(null, "John Doe", "Germany", "USA");
+        Employee employee = new Employee(3L, "John Doe");
+        Workation existingWorkation = createSampleWorkation(workationId, "John Doe", "Germany", "Spain");
+        existingWorkation.setEmployee(employee);
+
+        when(workationRepository.findAllForUpdateByIdIn(List.of(workationId))).thenReturn(List.of(existingWorkation));
+        when(employeeResolver.find("John Doe")).thenReturn(Optional.of(employee));
+        when(overlapIndex.findOverlaps(3L, updateDTO.getStart(), updateDTO.getEnd(), workationId)).thenReturn(List.of(8L, 9L));
+        when(overlapIndex.getMode()).thenReturn(OverlapMode.FLAG);
+        when(workationRepository.save(existingWorkation)).thenReturn(existingWorkation);
+        when(workationMapper.toDTO(existingWorkation)).thenReturn(createSampleWorkationDTO(workationId, "John Doe", "Germany", "USA"));
+        when(cacheManager.getCache(CacheConfig.WORKATIONS)).thenReturn(workationCache);
+
+        // Act
+        WorkationResponseDTO result = workationService.updateWorkation(workationId, updateDTO);
+
+        // Assert: the conflicts are only in the response, the cached copy leaves them out
+        assertThat(result.getOverlapsWith()).containsExactly(8L, 9L);
+        verify(workationCache).put(eq(workationId), argThat((Object cached) -> cached instanceof WorkationResponseDTO dto
+                && dto.getOverlapsWith() == null && dto.getDestination().equals("USA")));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof WorkationChangedEvent changed
+                && changed.id().equals(workationId) && changed.interval().employeeId().equals(3L)
+                && changed.previous().destination().equals("Spain") && changed.interval().destination().equals("USA")));
+    }
+
+    @Test
+    void testSearchWorkationsForUnknownEmployeeSkipsQuery() {
+        // Arrange
+        WorkationSearchCriteria criteria = new WorkationSearchCriteria("Nobody", null, "Spain", null, null, null);
+        when(employeeResolver.find("Nobody")).thenReturn(Optional.empty());
+
+        // Act
+        CursorPageResponseDTO<WorkationResponseDTO> result = workationService.searchWorkations(criteria, null, 10);
+
+        // Assert
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        verify(workationRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void testCreateWorkationRejectsEndBeforeStart() {
+        // Arrange
+        WorkationResponseDTO inputDTO = createSampleWorkationDTO(null, "John Doe", "Germany", "USA");
+        inputDTO.setEnd(inputDTO.getStart().minusDays(1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> workationService.createWorkation(inputDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Workation end date must not be before its start date");
+
+        // The employee is only created for a valid workation
+        verify(employeeResolver, never()).resolve(any());
+        verify(workationRepository, never()).save(any(Workation.class));
+    }
+
     @Test
     void testUpdateWorkation() {
         // Arrange
@@ -137,8 +319,8 @@ class WorkationServiceTest {
         Workation updatedWorkation = createSampleWorkation(workationId, "John Doe Updated", "Germany", "Canada");
         WorkationResponseDTO expectedDTO = createSampleWorkationDTO(workationId, "John Doe Updated", "Germany", "Canada");
 
-        when(workationRepository.findById(workationId)).thenReturn(Optional.of(existingWorkation));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(workationRepository.findAllForUpdateByIdIn(List.of(workationId))).thenReturn(List.of(existingWorkation));
+        when(employeeResolver.resolve("John Doe Updated")).thenReturn(employee);
         when(workationRepository.save(any(Workation.class))).thenReturn(updatedWorkation);
         when(workationMapper.toDTO(updatedWorkation)).thenReturn(expectedDTO);
 
@@ -150,8 +332,8 @@ class WorkationServiceTest {
         assertThat(result.getId()).isEqualTo(workationId);
         assertThat(result.getEmployee()).isEqualTo("John Doe Updated");
         assertThat(result.getDestination()).isEqualTo("Canada");
-        verify(workationRepository, times(1)).findById(workationId);
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(workationRepository, times(1)).findAllForUpdateByIdIn(List.of(workationId));
+        verify(employeeResolver, times(1)).resolve("John Doe Updated");
         verify(workationRepository, times(1)).save(existingWorkation);
         verify(workationMapper, times(1)).toDTO(updatedWorkation);
     }
@@ -162,15 +344,15 @@ class WorkationServiceTest {
         Long workationId = 999L;
         WorkationResponseDTO updateDTO = createSampleWorkationDTO(null, "John Doe", "Germany", "USA");
 
-        when(workationRepository.findById(workationId)).thenReturn(Optional.empty());
+        when(workationRepository.findAllForUpdateByIdIn(List.of(workationId))).thenReturn(List.of());
 
         // Act & Assert
         assertThatThrownBy(() -> workationService.updateWorkation(workationId, updateDTO))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Workation not found with id: " + workationId);
 
-        verify(workationRepository, times(1)).findById(workationId);
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(workationRepository, times(1)).findAllForUpdateByIdIn(List.of(workationId));
+        verify(employeeResolver, never()).resolve(any());
         verify(workationRepository, never()).save(any(Workation.class));
     }
 
@@ -178,31 +360,70 @@ class WorkationServiceTest {
     void testDeleteWorkation() {
         // Arrange
         Long workationId = 1L;
-        Workation workation = createSampleWorkation(workationId, "John Doe", "Germany", "USA");
+        WorkationInterval interval = new WorkationInterval(workationId, 1L, "USA", LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 12, 31, 23, 59), RiskEnum.LOW, 100);
 
-        when(workationRepository.findById(workationId)).thenReturn(Optional.of(workation));
+        when(workationRepository.findIntervalsForUpdateByIdIn(List.of(workationId))).thenReturn(List.of(interval));
+        when(workationRepository.deleteByIdIn(List.of(workationId))).thenReturn(1);
 
         // Act
         workationService.deleteWorkation(workationId);
 
         // Assert
-        verify(workationRepository, times(1)).findById(workationId);
-        verify(workationRepository, times(1)).delete(workation);
+        verify(workationRepository, times(1)).deleteByIdIn(List.of(workationId));
+        verify(workationRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof WorkationChangedEvent changed
+                && changed.isDeleted() && changed.previous() == interval));
     }
 
     @Test
     void testDeleteWorkationNotFound() {
         // Arrange
         Long workationId = 999L;
-        when(workationRepository.findById(workationId)).thenReturn(Optional.empty());
+        when(workationRepository.findIntervalsForUpdateByIdIn(List.of(workationId))).thenReturn(List.of());
 
         // Act & Assert
         assertThatThrownBy(() -> workationService.deleteWorkation(workationId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Workation not found with id: " + workationId);
 
-        verify(workationRepository, times(1)).findById(workationId);
-        verify(workationRepository, never()).delete(any(Workation.class));
+        verify(workationRepository, never()).deleteByIdIn(any());
+        verify(dataVersion, never()).bump();
+    }
+
+    @Test
+    void testDeleteWorkationThatRemovedNoRowIsNotPublished() {
+        // Arrange
+        Long workationId = 1L;
+        WorkationInterval interval = new WorkationInterval(workationId, 1L, "USA", LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 12, 31, 23, 59), RiskEnum.LOW, 100);
+        when(workationRepository.findIntervalsForUpdateByIdIn(List.of(workationId))).thenReturn(List.of(interval));
+        when(workationRepository.deleteByIdIn(List.of(workationId))).thenReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> workationService.deleteWorkation(workationId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Workation not found with id: " + workationId);
+
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(dataVersion, never()).bump();
+    }
+
+    @Test
+    void testDeleteWorkationsEndedBeforeReloadsIndexesOnlyWhenRowsWereDeleted() {
+        // Arrange
+        when(workationRepository.deleteEndedBefore(LocalDateTime.of(2024, 1, 1, 0, 0))).thenReturn(42);
+        when(workationRepository.deleteByEmployeeId(7L)).thenReturn(0);
+
+        // Act
+        int deleted = workationService.deleteWorkationsEndedBefore(LocalDate.of(2024, 1, 1));
+        int none = workationService.deleteWorkationsOfEmployee(7L);
+
+        // Assert
+        assertThat(deleted).isEqualTo(42);
+        assertThat(none).isZero();
+        verify(eventPublisher, times(1)).publishEvent(any(WorkationsReloadedEvent.class));
+        verify(dataVersion, times(1)).bump();
     }
 
     private Workation createSampleWorkation(Long id, String employeeName, String origin, String destination) {
@@ -0,0 +1,103 @@
+package com.gabriel.workflexbackend.workingdays;
+
+import com.gabriel.workflexbackend.exception.UnsupportedYearException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkingDaysCalculatorTest {
+
+    private final WorkingDaysCalculator calculator = new WorkingDaysCalculator(
+            new ClassPathResource("holidays/holidays.csv"), new ClassPathResource("holidays/weekends.csv"));
+
+    @Test
+    void testGermanyFullYearExcludesWeekendsAndNationalHolidays() {
+        // Act
+        int workingDays = calculator.countWorkingDays("Germany", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        // Assert: 262 weekdays minus 9 national holidays, all on weekdays in 2024
+        assertThat(workingDays).isEqualTo(253);
+    }
+
+    @Test
+    void testCountryLookupIsCaseInsensitiveAndFallsBackToWeekendsOnly() {
+        // Act
+        int germany = calculator.countWorkingDays(" germany ", LocalDate.of(2024, 12, 23), LocalDate.of(2024, 12, 27));
+        int unknown = calculator.countWorkingDays("Atlantis", LocalDate.of(2024, 12, 23), LocalDate.of(2024, 12, 27));
+
+        // Assert
+        assertThat(germany).isEqualTo(3);
+        assertThat(unknown).isEqualTo(5);
+    }
+
+    @Test
+    void testMovableHolidays() {
+        // Assert
+        assertThat(HolidayRule.parse("easter").resolve(2024)).isEqualTo(LocalDate.of(2024, 3, 31));
+        assertThat(HolidayRule.parse("orthodox").resolve(2024)).isEqualTo(LocalDate.of(2024, 5, 5));
+        assertThat(HolidayRule.parse("11-THU#4").resolve(2024)).isEqualTo(LocalDate.of(2024, 11, 28));
+        assertThat(HolidayRule.parse("05-MON#-1").resolve(2024)).isEqualTo(LocalDate.of(2024, 5, 27));
+        assertThat(HolidayRule.parse("02-29").resolve(2023)).isNull();
+        assertThat(calculator.calendarFor("United States").isWorkingDay(LocalDate.of(2024, 11, 28))).isFalse();
+    }
+
+    @Test
+    void testRangeCountsMatchDayByDayCountAcrossYears() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(7);
+        WorkingDayCalendar calendar = calculator.calendarFor("Greece");
+
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2500));
+            LocalDate end = start.plusDays(random.nextInt(800));
+
+            // Act
+            int count = calendar.countWorkingDays(start, end);
+
+            // Assert
+            int expected = 0;
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                if (calendar.isWorkingDay(day)) {
+                    expected++;
+                }
+            }
+            assertThat(count).as("%s..%s", start, end).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testCountryWeekendRules() {
+        // Act
+        WorkingDayCalendar israel = calculator.calendarFor("Israel");
+
+        // Assert
+        assertThat(israel.isWorkingDay(LocalDate.of(2024, 6, 7).with(DayOfWeek.FRIDAY))).isFalse();
+        assertThat(israel.isWorkingDay(LocalDate.of(2024, 6, 9))).isTrue(); // Sunday
+        assertThat(calculator.countWorkingDays("Germany", LocalDate.of(2024, 2, 2), LocalDate.of(2024, 2, 1))).isZero();
+    }
+
+    @Test
+    void testYearsOutsideSupportedRangeAreRejected() {
+        // Act & Assert
+        assertThat(calculator.countWorkingDays("Greece", LocalDate.of(1900, 1, 1), LocalDate.of(2099, 12, 31))).isPositive();
+        assertThatThrownBy(() -> calculator.countWorkingDays("Greece", LocalDate.of(2099, 12, 1), LocalDate.of(2100, 1, 5)))
+                .isInstanceOf(UnsupportedYearException.class)
+                .hasMessage("Year 2100 is outside the supported range 1900-2099");
+        assertThatThrownBy(() -> calculator.calendarFor("Germany").isWorkingDay(LocalDate.of(-5000, 1, 1)))
+                .isInstanceOf(UnsupportedYearException.class);
+    }
+
+    @Test
+    void testInvalidRuleIsRejected() {
+        // Act & Assert
+        assertThatThrownBy(() -> HolidayRule.parse("13-40"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid holiday rule: 13-40");
+    }
+}
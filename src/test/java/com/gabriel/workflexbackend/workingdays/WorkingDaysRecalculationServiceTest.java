@@ -0,0 +1,109 @@
+package com.gabriel.workflexbackend.workingdays;
+
+import com.gabriel.workflexbackend.dto.response.RecalculationResponseDTO;
+import com.gabriel.workflexbackend.model.Employee;
+import com.gabriel.workflexbackend.model.RiskEnum;
+import com.gabriel.workflexbackend.model.Workation;
+import com.gabriel.workflexbackend.repository.EmployeeRepository;
+import com.gabriel.workflexbackend.repository.WorkationRepository;
+import com.gabriel.workflexbackend.risk.RiskEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+class WorkingDaysRecalculationServiceTest {
+
+    @Autowired
+    private WorkingDaysRecalculationService workingDaysRecalculationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private RiskEngine riskEngine;
+
+    @AfterEach
+    void tearDown() {
+        workationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRecalculateAllUpdatesOnlyRowsThatDiffer() {
+        // Arrange
+        Employee employee = employeeRepository.save(new Employee(null, "John Doe"));
+        Long wrong = workationRepository.save(new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59), 65, RiskEnum.HIGH)).getId();
+        workationRepository.save(new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 12, 23, 0, 0), LocalDateTime.of(2024, 12, 27, 23, 59, 59), 3, RiskEnum.LOW));
+
+        // Act
+        RecalculationResponseDTO result = workingDaysRecalculationService.recalculateAll();
+
+        // Assert
+        assertThat(result.getScanned()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(workationRepository.findById(wrong).orElseThrow().getWorkingDays()).isEqualTo(253);
+    }
+
+    @Test
+    void testRecalculatedRowsAreReScoredWithTheirNewWorkingDays() {
+        // Arrange: stored with a risk computed from a wrong day count
+        Employee employee = employeeRepository.save(new Employee(null, "John Doe"));
+        Long wrong = workationRepository.save(new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59), 1, RiskEnum.NO)).getId();
+        RiskEnum expected = riskEngine.evaluate("Germany", "Spain", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 253);
+
+        // Act
+        workingDaysRecalculationService.recalculateAll();
+
+        // Assert
+        Workation recalculated = workationRepository.findById(wrong).orElseThrow();
+        assertThat(recalculated.getWorkingDays()).isEqualTo(253);
+        assertThat(recalculated.getRisk()).isEqualTo(expected);
+    }
+
+    @Test
+    void testRowChangedAfterBeingReadIsSkipped() {
+        // Arrange: both rows have a wrong day count, one of them is edited while it is recalculated
+        Employee employee = employeeRepository.save(new Employee(null, "John Doe"));
+        Long edited = workationRepository.save(new Workation(null, employee, "Germany", "Spain",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59), 65, RiskEnum.HIGH)).getId();
+        Long untouched = workationRepository.save(new Workation(null, employee, "Germany", "Italy",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59), 65, RiskEnum.HIGH)).getId();
+        doAnswer(invocation -> {
+            jdbcTemplate.update("update workation set destination = 'Portugal', working_days = 10 where id = ?", edited);
+            return invocation.callRealMethod();
+        }).when(riskEngine).evaluate(eq("Germany"), eq("Spain"), any(), any(), anyInt());
+
+        // Act
+        RecalculationResponseDTO result = workingDaysRecalculationService.recalculateAll();
+
+        // Assert
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        Workation kept = workationRepository.findById(edited).orElseThrow();
+        assertThat(kept.getDestination()).isEqualTo("Portugal");
+        assertThat(kept.getWorkingDays()).isEqualTo(10);
+        assertThat(workationRepository.findById(untouched).orElseThrow().getWorkingDays()).isEqualTo(253);
+    }
+}